@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.benchmarks;
+
+import org.awaitility.core.ConditionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Measures the overhead that {@code ConditionAwaiter.await} adds per poll of a condition, excluding the poll interval, for each of the
+ * executor modes. The condition is fulfilled after {@value #POLLS_PER_AWAIT} evaluations and the poll interval is zero so the
+ * reported time per operation is the overhead of a single poll.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionAwaiterBenchmark {
+
+    static final int POLLS_PER_AWAIT = 10;
+
+    @Param({"default", "pollInSameThread", "pollExecutorService"})
+    public String executorMode;
+
+    private ExecutorService executorService;
+    private int evaluations;
+
+    @Setup
+    public void createExecutorService() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void shutdownExecutorService() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POLLS_PER_AWAIT)
+    public void await_overhead_per_poll() {
+        evaluations = 0;
+        conditionFactory().until(() -> ++evaluations >= POLLS_PER_AWAIT);
+    }
+
+    private ConditionFactory conditionFactory() {
+        ConditionFactory conditionFactory = await().pollDelay(Duration.ZERO).pollInterval(Duration.ZERO);
+        switch (executorMode) {
+            case "pollInSameThread":
+                return conditionFactory.pollInSameThread();
+            case "pollExecutorService":
+                return conditionFactory.pollExecutorService(executorService);
+            default:
+                return conditionFactory;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.benchmarks;
+
+import org.awaitility.pollinterval.FibonacciPollInterval;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.pollinterval.FibonacciPollInterval.fibonacci;
+
+/**
+ * Measures the cost of generating the next duration of a {@link FibonacciPollInterval}, which is called once per poll.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FibonacciPollIntervalBenchmark {
+
+    @Param({"1", "10", "40"})
+    public int pollCount;
+
+    private FibonacciPollInterval pollInterval;
+    private Duration previousDuration;
+
+    @Setup
+    public void createPollInterval() {
+        pollInterval = fibonacci(TimeUnit.MILLISECONDS);
+        previousDuration = pollCount == 1 ? Duration.ZERO : pollInterval.next(pollCount - 1, Duration.ZERO);
+    }
+
+    @Benchmark
+    public Duration next() {
+        return pollInterval.next(pollCount, previousDuration);
+    }
+}
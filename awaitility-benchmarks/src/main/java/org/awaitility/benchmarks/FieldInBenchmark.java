@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.benchmarks;
+
+import org.awaitility.classes.FakeRepositoryImpl;
+import org.awaitility.reflect.WhiteboxImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.fieldIn;
+
+/**
+ * Measures the cost of looking up a field with {@link WhiteboxImpl}, which is performed on every evaluation of a
+ * <code>fieldIn(..)</code> condition.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldInBenchmark {
+
+    private FakeRepositoryImpl repository;
+    private Callable<Integer> fieldSupplier;
+
+    @Setup
+    public void createRepository() {
+        repository = new FakeRepositoryImpl();
+        repository.setValue(42);
+        fieldSupplier = fieldIn(repository).ofType(int.class).andWithName("value");
+    }
+
+    @Benchmark
+    public Object get_internal_state_by_name() {
+        return WhiteboxImpl.getInternalState(repository, "value");
+    }
+
+    @Benchmark
+    public Object get_internal_state_by_type() {
+        return WhiteboxImpl.getInternalState(repository, int.class);
+    }
+
+    @Benchmark
+    public Integer field_in_of_type_and_with_name() throws Exception {
+        return fieldSupplier.call();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.benchmarks.detection;
+
+import org.awaitility.classes.LatencyDistribution;
+import org.awaitility.core.ConditionFactory;
+import org.awaitility.pollinterval.PollInterval;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.pollinterval.FastStartPollInterval.fastStart;
+import static org.awaitility.pollinterval.FibonacciPollInterval.fibonacci;
+import static org.awaitility.pollinterval.FixedPollInterval.fixed;
+import static org.awaitility.pollinterval.IterativePollInterval.iterative;
+
+/**
+ * A macro benchmark that measures how quickly each combination of poll interval and executor mode detects that a condition
+ * has been fulfilled, and at what cost. In each trial a condition is fulfilled after a delay drawn from a {@link LatencyDistribution}
+ * and the following is measured:
+ * <ul>
+ * <li>The detection lag, i.e. the time from the condition being fulfilled until the await statement returns</li>
+ * <li>The number of times the condition was evaluated</li>
+ * <li>The CPU time consumed by the JVM during the await statement</li>
+ * <li>The peak number of live threads</li>
+ * </ul>
+ * The results are printed as a Markdown table and can also be written to a CSV file. Run it with
+ * <code>mvn -Pbenchmarks -pl awaitility-benchmarks package exec:exec@time-to-detect</code> or
+ * <code>java -cp target/benchmarks.jar org.awaitility.benchmarks.detection.TimeToDetectBenchmark [options]</code>. Options:
+ * <pre>
+ * --trials &lt;n&gt;               Number of trials per combination (default 50)
+ * --distribution &lt;spec&gt;     Delay distribution, e.g. fixed:50, uniform:10:200 or exponential:100 (default uniform:10:200)
+ * --seed &lt;n&gt;                 Seed of the random delays, the same seed gives the same delays for every combination (default 42)
+ * --csv &lt;file&gt;               Also write the results to a CSV file
+ * </pre>
+ */
+public class TimeToDetectBenchmark {
+
+    private static final Map<String, PollInterval> POLL_INTERVALS = new LinkedHashMap<>();
+    private static final List<String> EXECUTOR_MODES = Arrays.asList("default", "pollInSameThread", "pollExecutorService");
+
+    static {
+        POLL_INTERVALS.put("fixed 100 ms (default)", fixed(Duration.ofMillis(100)));
+        POLL_INTERVALS.put("fixed 10 ms", fixed(Duration.ofMillis(10)));
+        POLL_INTERVALS.put("fibonacci ms", fibonacci(TimeUnit.MILLISECONDS));
+        POLL_INTERVALS.put("iterative x2 from 1 ms", iterative(duration -> duration.multipliedBy(2), Duration.ofMillis(1)));
+        POLL_INTERVALS.put("fast start", fastStart());
+    }
+
+    public static void main(String[] args) throws Exception {
+        int trials = 50;
+        LatencyDistribution distribution = LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(200));
+        long seed = 42;
+        String csvFile = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--trials":
+                    trials = Integer.parseInt(args[++i]);
+                    break;
+                case "--distribution":
+                    distribution = LatencyDistribution.parse(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--csv":
+                    csvFile = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService pollExecutorService = Executors.newSingleThreadExecutor();
+        try {
+            for (Map.Entry<String, PollInterval> pollInterval : POLL_INTERVALS.entrySet()) {
+                for (String executorMode : EXECUTOR_MODES) {
+                    ConditionFactory conditionFactory = conditionFactory(pollInterval.getValue(), executorMode, pollExecutorService);
+                    results.add(run(pollInterval.getKey(), executorMode, conditionFactory, distribution, new Random(seed), trials, scheduler));
+                }
+            }
+        } finally {
+            scheduler.shutdownNow();
+            pollExecutorService.shutdownNow();
+        }
+
+        printTable(System.out, distribution, trials, results);
+        if (csvFile != null) {
+            writeCsv(csvFile, results);
+        }
+    }
+
+    private static ConditionFactory conditionFactory(PollInterval pollInterval, String executorMode, ExecutorService pollExecutorService) {
+        ConditionFactory conditionFactory = await().atMost(Duration.ofMinutes(1)).pollInterval(pollInterval);
+        switch (executorMode) {
+            case "pollInSameThread":
+                return conditionFactory.pollInSameThread();
+            case "pollExecutorService":
+                return conditionFactory.pollExecutorService(pollExecutorService);
+            default:
+                return conditionFactory;
+        }
+    }
+
+    private static Result run(String pollInterval, String executorMode, ConditionFactory conditionFactory, LatencyDistribution distribution,
+                              Random random, int trials, ScheduledExecutorService scheduler) throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long[] detectionLagNanos = new long[trials];
+        long totalEvaluations = 0;
+        long totalCpuNanos = 0;
+        final boolean cpuTimeSupported = processCpuTimeNanos() >= 0;
+        threadMXBean.resetPeakThreadCount();
+        for (int trial = 0; trial < trials; trial++) {
+            final AtomicLong fulfilledAtNanos = new AtomicLong();
+            final AtomicInteger evaluations = new AtomicInteger();
+            final long cpuNanosBefore = processCpuTimeNanos();
+            ScheduledFuture<?> fulfillment = scheduler.schedule(() -> fulfilledAtNanos.set(System.nanoTime()), distribution.nextNanos(random), TimeUnit.NANOSECONDS);
+            conditionFactory.until(() -> {
+                evaluations.incrementAndGet();
+                return fulfilledAtNanos.get() != 0L;
+            });
+            detectionLagNanos[trial] = System.nanoTime() - fulfilledAtNanos.get();
+            totalEvaluations += evaluations.get();
+            totalCpuNanos += processCpuTimeNanos() - cpuNanosBefore;
+            fulfillment.get();
+        }
+        Arrays.sort(detectionLagNanos);
+        return new Result(pollInterval, executorMode, detectionLagNanos, (double) totalEvaluations / trials,
+                cpuTimeSupported ? totalCpuNanos / trials : -1, threadMXBean.getPeakThreadCount());
+    }
+
+    /**
+     * @return The CPU time used by the JVM in nanoseconds, or a negative value if it's not supported by the JVM.
+     */
+    private static long processCpuTimeNanos() {
+        OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+        if (operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getProcessCpuTime();
+        }
+        return -1L;
+    }
+
+    private static void printTable(PrintStream out, LatencyDistribution distribution, int trials, List<Result> results) {
+        out.printf("Time to detect, %d trials per row, condition fulfilled after a %s delay%n%n", trials, distribution);
+        out.println("| Poll interval | Executor | Lag p50 (ms) | Lag p90 (ms) | Lag p99 (ms) | Lag max (ms) | Evaluations | CPU per await (ms) | Peak threads |");
+        out.println("|---|---|---:|---:|---:|---:|---:|---:|---:|");
+        for (Result result : results) {
+            out.printf(Locale.ROOT, "| %s | %s | %.2f | %.2f | %.2f | %.2f | %.1f | %s | %d |%n", result.pollInterval, result.executorMode,
+                    millis(result.percentile(50)), millis(result.percentile(90)), millis(result.percentile(99)), millis(result.percentile(100)),
+                    result.meanEvaluations, result.cpuNanosPerAwait < 0 ? "n/a" : String.format(Locale.ROOT, "%.2f", millis(result.cpuNanosPerAwait)),
+                    result.peakThreadCount);
+        }
+    }
+
+    private static void writeCsv(String csvFile, List<Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("pollInterval,executorMode,lagP50Nanos,lagP90Nanos,lagP99Nanos,lagMaxNanos,meanEvaluations,cpuNanosPerAwait,peakThreadCount");
+        for (Result result : results) {
+            lines.add(String.format(Locale.ROOT, "\"%s\",%s,%d,%d,%d,%d,%.2f,%d,%d", result.pollInterval, result.executorMode,
+                    result.percentile(50), result.percentile(90), result.percentile(99), result.percentile(100),
+                    result.meanEvaluations, result.cpuNanosPerAwait, result.peakThreadCount));
+        }
+        Files.write(Paths.get(csvFile), lines, StandardCharsets.UTF_8);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0d;
+    }
+
+    private static class Result {
+        private final String pollInterval;
+        private final String executorMode;
+        private final long[] sortedDetectionLagNanos;
+        private final double meanEvaluations;
+        private final long cpuNanosPerAwait;
+        private final int peakThreadCount;
+
+        private Result(String pollInterval, String executorMode, long[] sortedDetectionLagNanos, double meanEvaluations,
+                       long cpuNanosPerAwait, int peakThreadCount) {
+            this.pollInterval = pollInterval;
+            this.executorMode = executorMode;
+            this.sortedDetectionLagNanos = sortedDetectionLagNanos;
+            this.meanEvaluations = meanEvaluations;
+            this.cpuNanosPerAwait = cpuNanosPerAwait;
+            this.peakThreadCount = peakThreadCount;
+        }
+
+        private long percentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0d * sortedDetectionLagNanos.length) - 1;
+            return sortedDetectionLagNanos[Math.max(0, Math.min(index, sortedDetectionLagNanos.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.benchmarks.stress;
+
+import org.awaitility.Awaitility;
+import org.awaitility.classes.ConcurrentAwaitScenario;
+import org.awaitility.core.ConditionFactory;
+import org.awaitility.core.ConditionTimeoutException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * A stress test that launches N concurrent await statements, each from its own thread, and measures how Awaitility behaves under heavy
+ * parallelism. Await statements mutate JVM-global state (the default uncaught exception handler) and share the static defaults in
+ * <code>Awaitility</code> so, apart from throughput, peak thread count and heap usage, it also verifies that:
+ * <ul>
+ * <li>every await statement whose condition is fulfilled succeeds</li>
+ * <li>an uncaught exception thrown by a thread started for a specific await statement fails that await statement, and no other. Each await
+ * statement runs in its own thread group and only catches uncaught exceptions from that group</li>
+ * <li>the original default uncaught exception handler is restored by <code>Awaitility.reset()</code> once all await statements have completed</li>
+ * </ul>
+ * Run it with <code>mvn -Pbenchmarks -pl awaitility-benchmarks package exec:exec@stress</code> or
+ * <code>java -cp target/benchmarks.jar org.awaitility.benchmarks.stress.ConcurrentAwaitStressTest [options]</code>. Options:
+ * <pre>
+ * --concurrency &lt;n,n,..&gt;   The number of concurrent await statements for each round (default 10,100,1000,10000)
+ * --failing-every &lt;n&gt;      Every n:th await statement gets an uncaught exception from another thread and is never fulfilled (default 10)
+ * --max-delay &lt;ms&gt;         Conditions are fulfilled after a random delay of at most this many milliseconds (default 200)
+ * --same-thread             Poll in the same thread as the await statement instead of in a new thread per await statement
+ * --round-timeout &lt;s&gt;      Await statements that haven't completed within this many seconds are reported as incomplete (default 300)
+ * </pre>
+ * The await statements are run by {@link ConcurrentAwaitScenario} from awaitility-test-support. The process exits with status 1 if any of the
+ * verifications fail. A bounded version of this test, <code>ConcurrentAwaitsTest</code>, runs the same scenario as part of the regular build of
+ * the awaitility module.
+ */
+public class ConcurrentAwaitStressTest {
+
+    private static final long CALLER_THREAD_STACK_SIZE = 256 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        int[] concurrencyLevels = {10, 100, 1_000, 10_000};
+        int failingEvery = 10;
+        int maxDelayMillis = 200;
+        boolean pollInSameThread = false;
+        long roundTimeoutSeconds = 300;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--concurrency":
+                    String[] levels = args[++i].split(",");
+                    concurrencyLevels = new int[levels.length];
+                    for (int level = 0; level < levels.length; level++) {
+                        concurrencyLevels[level] = Integer.parseInt(levels[level].trim());
+                    }
+                    break;
+                case "--failing-every":
+                    failingEvery = Integer.parseInt(args[++i]);
+                    break;
+                case "--max-delay":
+                    maxDelayMillis = Integer.parseInt(args[++i]);
+                    break;
+                case "--same-thread":
+                    pollInSameThread = true;
+                    break;
+                case "--round-timeout":
+                    roundTimeoutSeconds = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final Thread.UncaughtExceptionHandler originalHandler = Thread.getDefaultUncaughtExceptionHandler();
+        List<Round> rounds = new ArrayList<>();
+        for (int concurrency : concurrencyLevels) {
+            rounds.add(runRound(concurrency, failingEvery, maxDelayMillis, pollInSameThread, roundTimeoutSeconds));
+        }
+        // The dispatcher that Awaitility installs stays in place until Awaitility is reset
+        Awaitility.reset();
+        final boolean handlerRestored = Thread.getDefaultUncaughtExceptionHandler() == originalHandler;
+
+        System.out.printf("Concurrent await statements, poll %s, every %d:th await statement gets an uncaught exception%n%n",
+                pollInSameThread ? "in same thread" : "in new thread", failingEvery);
+        System.out.println("| Concurrency | Wall time (ms) | Throughput (awaits/s) | Peak threads | Peak heap (MB) | Unexpected failures | Missed exceptions | Misrouted exceptions | Incomplete |");
+        System.out.println("|---:|---:|---:|---:|---:|---:|---:|---:|---:|");
+        boolean passed = handlerRestored;
+        for (Round round : rounds) {
+            final ConcurrentAwaitScenario.Result result = round.result;
+            System.out.printf(Locale.ROOT, "| %d | %d | %.0f | %d | %.1f | %d | %d | %d | %d |%n", result.getConcurrency(), result.getWallTimeMillis(),
+                    result.getConcurrency() * 1000.0d / Math.max(1, result.getWallTimeMillis()), round.peakThreadCount, round.peakHeapBytes / (1024.0d * 1024.0d),
+                    result.getUnexpectedFailures(), result.getMissedExceptions(), result.getMisroutedExceptions(), result.getIncomplete());
+            passed &= result.isPassed();
+        }
+        System.out.printf("%nOriginal default uncaught exception handler restored by Awaitility.reset(): %s%n", handlerRestored);
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static Round runRound(final int concurrency, final int failingEvery, final int maxDelayMillis, final boolean pollInSameThread,
+                                  final long roundTimeoutSeconds) throws InterruptedException {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        final AtomicLong peakHeapBytes = new AtomicLong();
+        final AtomicBoolean sampling = new AtomicBoolean(true);
+
+        System.gc();
+        threadMXBean.resetPeakThreadCount();
+        Thread heapSampler = new Thread(() -> {
+            while (sampling.get()) {
+                peakHeapBytes.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-sampler");
+        heapSampler.setDaemon(true);
+        heapSampler.start();
+
+        final ConcurrentAwaitScenario.Result result = new ConcurrentAwaitScenario(concurrency, failingEvery, maxDelayMillis)
+                .callerStackSize(CALLER_THREAD_STACK_SIZE)
+                .run((threadGroup, condition) -> {
+                    ConditionFactory conditionFactory = await().atMost(Duration.ofMinutes(1)).pollInterval(Duration.ofMillis(10));
+                    // Polling in the same thread stops catching uncaught exceptions so the scope is applied afterwards
+                    (pollInSameThread ? conditionFactory.pollInSameThread() : conditionFactory).catchUncaughtExceptionsFrom(threadGroup).until(condition);
+                }, ConditionTimeoutException.class, roundTimeoutSeconds, TimeUnit.SECONDS);
+        sampling.set(false);
+        heapSampler.join();
+        return new Round(result, threadMXBean.getPeakThreadCount(), peakHeapBytes.get());
+    }
+
+    private static class Round {
+        private final ConcurrentAwaitScenario.Result result;
+        private final int peakThreadCount;
+        private final long peakHeapBytes;
+
+        private Round(ConcurrentAwaitScenario.Result result, int peakThreadCount, long peakHeapBytes) {
+            this.result = result;
+            this.peakThreadCount = peakThreadCount;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+    }
+}
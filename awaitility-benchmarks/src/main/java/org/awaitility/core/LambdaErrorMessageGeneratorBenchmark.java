@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of describing a lambda expression, which is done for the error message of every condition that is defined by a lambda.
+ * This benchmark is located in the <code>org.awaitility.core</code> package since {@link LambdaErrorMessageGenerator} is package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LambdaErrorMessageGeneratorBenchmark {
+
+    private Class<?> lambdaClass;
+
+    @Setup
+    public void createLambda() {
+        Callable<Boolean> lambda = () -> true;
+        lambdaClass = lambda.getClass();
+    }
+
+    @Benchmark
+    public boolean is_lambda_class() {
+        return LambdaErrorMessageGenerator.isLambdaClass(lambdaClass);
+    }
+
+    @Benchmark
+    public String generate_lambda_error_message_prefix() {
+        return LambdaErrorMessageGenerator.generateLambdaErrorMessagePrefix(lambdaClass, false);
+    }
+}
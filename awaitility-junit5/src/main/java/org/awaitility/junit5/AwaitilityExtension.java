@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import org.awaitility.AwaitilityConfig;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+import java.lang.reflect.AnnotatedElement;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A JUnit 5 extension that makes it safe to run tests that use Awaitility in parallel
+ * (<code>junit.jupiter.execution.parallel.enabled=true</code>). The extension:
+ * <ul>
+ * <li>Binds an {@link AwaitilityConfig} scope to each test class and each test so that <code>Awaitility.setDefaultXXX</code> and
+ * <code>Awaitility.reset()</code> only affect the class or test that calls them. There's no need to call <code>Awaitility.reset()</code>
+ * after each test.</li>
+ * <li>Applies the default timeout, poll interval and poll delay defined by {@link AwaitilitySettings} on the test class and test method,
+ * or by the configuration parameters <code>awaitility.timeout</code>, <code>awaitility.pollInterval</code> and <code>awaitility.pollDelay</code>
+ * (in milliseconds or as an ISO-8601 duration such as <code>PT5S</code>) for all tests.</li>
+ * <li>Evaluates the conditions of all tests using a pool of threads that is shared across the test run, instead of creating a new
+ * executor service for each await statement, unless another executor is configured (for example by <code>Awaitility.pollInSameThread()</code>).
+ * Disable it by setting the configuration parameter <code>awaitility.sharedPollExecutor.enabled</code> to <code>false</code>.</li>
+ * <li>Interrupts condition evaluations that are still running when a test completes ("leaked pollers").</li>
+ * <li>Publishes the number of await statements and the time spent waiting in them as report entries of each test.</li>
+ * </ul>
+ * Register the extension with <code>@ExtendWith(AwaitilityExtension.class)</code>, by annotating the test class with {@link AwaitilitySettings}
+ * or for all tests using <a href="https://junit.org/junit5/docs/current/user-guide/#extensions-registration-automatic">automatic extension registration</a>.
+ *
+ * @since 4.3.1
+ */
+public class AwaitilityExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    /**
+     * The configuration parameter that defines the default timeout of all tests
+     */
+    public static final String TIMEOUT_PROPERTY_NAME = "awaitility.timeout";
+
+    /**
+     * The configuration parameter that defines the default poll interval of all tests
+     */
+    public static final String POLL_INTERVAL_PROPERTY_NAME = "awaitility.pollInterval";
+
+    /**
+     * The configuration parameter that defines the default poll delay of all tests
+     */
+    public static final String POLL_DELAY_PROPERTY_NAME = "awaitility.pollDelay";
+
+    /**
+     * The configuration parameter that determines if the conditions are evaluated by a pool of threads shared across the test run
+     */
+    public static final String SHARED_POLL_EXECUTOR_PROPERTY_NAME = "awaitility.sharedPollExecutor.enabled";
+
+    private static final Namespace NAMESPACE = Namespace.create(AwaitilityExtension.class);
+    private static final String CLASS_SCOPE = "classScope";
+    private static final String TEST_STATE = "testState";
+    private static final String POLLER_POOL = "pollerPool";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        final ExtensionContext.Store store = context.getStore(NAMESPACE);
+        // A nested test class inherits the configuration of the enclosing class
+        final AwaitilityConfig.Scope enclosingScope = store.get(CLASS_SCOPE, AwaitilityConfig.Scope.class);
+        final AwaitilityConfig baseConfig = enclosingScope == null ? engineConfig(context) : enclosingScope.getConfig();
+        final AwaitilityConfig classConfig = applySettings(baseConfig, context.getRequiredTestClass());
+        store.put(CLASS_SCOPE, classConfig.bind());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        final AwaitilityConfig.Scope scope = context.getStore(NAMESPACE).remove(CLASS_SCOPE, AwaitilityConfig.Scope.class);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final ExtensionContext.Store store = context.getStore(NAMESPACE);
+        final AwaitilityConfig.Scope classScope = store.get(CLASS_SCOPE, AwaitilityConfig.Scope.class);
+        AwaitilityConfig config = applySettings(classScope == null ? engineConfig(context) : classScope.getConfig(), context.getRequiredTestMethod());
+
+        TestPollerExecutor pollerExecutor = null;
+        // Don't replace an executor that has been configured explicitly, e.g. by Awaitility.pollInSameThread()
+        if (config.usesDefaultPollExecutor()
+                && context.getConfigurationParameter(SHARED_POLL_EXECUTOR_PROPERTY_NAME, Boolean::parseBoolean).orElse(true)) {
+            final SharedPollerPool pool = context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(POLLER_POOL, key -> new SharedPollerPool(), SharedPollerPool.class);
+            pollerExecutor = pool.newTestExecutor();
+            config = config.pollExecutorService(pollerExecutor);
+        }
+        final WaitTimeRecorder waitTimeRecorder = new WaitTimeRecorder(config.getMetrics());
+        config = config.metrics(waitTimeRecorder);
+
+        store.put(TEST_STATE, new TestState(config.bind(), pollerExecutor, waitTimeRecorder));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        final TestState state = context.getStore(NAMESPACE).remove(TEST_STATE, TestState.class);
+        if (state == null) {
+            return;
+        }
+        state.scope.close();
+        final int leakedPollers = state.pollerExecutor == null ? 0 : state.pollerExecutor.cleanUp();
+
+        final WaitTimeRecorder waitTimeRecorder = state.waitTimeRecorder;
+        if (waitTimeRecorder.getAwaits() > 0 || leakedPollers > 0) {
+            final Map<String, String> reportEntry = new LinkedHashMap<>();
+            reportEntry.put("awaitility.awaits", Long.toString(waitTimeRecorder.getAwaits()));
+            reportEntry.put("awaitility.timedOutAwaits", Long.toString(waitTimeRecorder.getTimedOutAwaits()));
+            reportEntry.put("awaitility.waitTimeMs", Long.toString(waitTimeRecorder.getWaitTime().toMillis()));
+            if (leakedPollers > 0) {
+                reportEntry.put("awaitility.leakedPollers", Integer.toString(leakedPollers));
+            }
+            context.publishReportEntry(reportEntry);
+        }
+    }
+
+    private static AwaitilityConfig engineConfig(ExtensionContext context) {
+        // Not AwaitilityConfig.current() since the scope bound to the thread that happens to run the test class is unrelated to it
+        AwaitilityConfig config = AwaitilityConfig.global();
+        final Optional<Duration> timeout = durationParameter(context, TIMEOUT_PROPERTY_NAME);
+        if (timeout.isPresent()) {
+            config = config.atMost(timeout.get());
+        }
+        final Optional<Duration> pollInterval = durationParameter(context, POLL_INTERVAL_PROPERTY_NAME);
+        if (pollInterval.isPresent()) {
+            config = config.pollInterval(pollInterval.get());
+        }
+        final Optional<Duration> pollDelay = durationParameter(context, POLL_DELAY_PROPERTY_NAME);
+        if (pollDelay.isPresent()) {
+            config = config.pollDelay(pollDelay.get());
+        }
+        return config;
+    }
+
+    private static AwaitilityConfig applySettings(AwaitilityConfig config, AnnotatedElement element) {
+        final AwaitilitySettings settings = element.getAnnotation(AwaitilitySettings.class);
+        if (settings == null) {
+            return config;
+        }
+        AwaitilityConfig configWithSettings = config;
+        if (settings.timeout() != AwaitilitySettings.UNDEFINED) {
+            configWithSettings = configWithSettings.atMost(Duration.ofNanos(settings.unit().toNanos(settings.timeout())));
+        }
+        if (settings.pollInterval() != AwaitilitySettings.UNDEFINED) {
+            configWithSettings = configWithSettings.pollInterval(Duration.ofNanos(settings.pollUnit().toNanos(settings.pollInterval())));
+        }
+        if (settings.pollDelay() != AwaitilitySettings.UNDEFINED) {
+            configWithSettings = configWithSettings.pollDelay(Duration.ofNanos(settings.pollUnit().toNanos(settings.pollDelay())));
+        }
+        return configWithSettings;
+    }
+
+    private static Optional<Duration> durationParameter(ExtensionContext context, String name) {
+        return context.getConfigurationParameter(name).map(value -> {
+            final String trimmedValue = value.trim();
+            try {
+                return trimmedValue.startsWith("P") || trimmedValue.startsWith("p")
+                        ? Duration.parse(trimmedValue) : Duration.ofMillis(Long.parseLong(trimmedValue));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new ExtensionConfigurationException(String.format("Configuration parameter %s must be a number of milliseconds or an " +
+                        "ISO-8601 duration (was \"%s\")", name, value), e);
+            }
+        });
+    }
+
+    private static class TestState {
+        private final AwaitilityConfig.Scope scope;
+        private final TestPollerExecutor pollerExecutor;
+        private final WaitTimeRecorder waitTimeRecorder;
+
+        private TestState(AwaitilityConfig.Scope scope, TestPollerExecutor pollerExecutor, WaitTimeRecorder waitTimeRecorder) {
+            this.scope = scope;
+            this.pollerExecutor = pollerExecutor;
+            this.waitTimeRecorder = waitTimeRecorder;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defines the default Awaitility settings of the await statements in a test class or test method and registers the
+ * {@link AwaitilityExtension}. Settings defined on a test method override the settings of the test class. Settings that are
+ * not defined are inherited from the class, the engine configuration or the Awaitility defaults. For example:
+ * <pre>
+ * &#064;AwaitilitySettings(timeout = 5, unit = TimeUnit.SECONDS, pollInterval = 50)
+ * class OrderServiceTest {
+ *
+ *     &#064;Test
+ *     &#064;AwaitilitySettings(timeout = 30, unit = TimeUnit.SECONDS)
+ *     void slowTest() {
+ *         await().until(..); // Waits at most 30 seconds
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 4.3.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(AwaitilityExtension.class)
+public @interface AwaitilitySettings {
+
+    /**
+     * Value of a setting that is not defined
+     */
+    long UNDEFINED = -1;
+
+    /**
+     * @return The default timeout of the await statements, in {@link #unit()}
+     */
+    long timeout() default UNDEFINED;
+
+    /**
+     * @return The default poll interval of the await statements, in {@link #pollUnit()}
+     */
+    long pollInterval() default UNDEFINED;
+
+    /**
+     * @return The default poll delay of the await statements, in {@link #pollUnit()}
+     */
+    long pollDelay() default UNDEFINED;
+
+    /**
+     * @return The time unit of {@link #timeout()}
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * @return The time unit of {@link #pollInterval()} and {@link #pollDelay()}
+     */
+    TimeUnit pollUnit() default TimeUnit.MILLISECONDS;
+}
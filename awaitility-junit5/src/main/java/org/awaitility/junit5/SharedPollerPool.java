@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of daemon threads that evaluate the conditions of the await statements of all tests in a test run. Reusing the threads avoids
+ * creating (and shutting down) a new executor service for each await statement, which is what Awaitility does by default.
+ * The pool is closed by JUnit when the test run completes.
+ */
+class SharedPollerPool implements ExtensionContext.Store.CloseableResource {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "awaitility-junit5-poller-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * @return A new executor service that runs its tasks in this pool, see {@link TestPollerExecutor}
+     */
+    TestPollerExecutor newTestExecutor() {
+        return new TestPollerExecutor(executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
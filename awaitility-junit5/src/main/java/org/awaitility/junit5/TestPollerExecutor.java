@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor service used by the await statements of a single test. The tasks are run by the threads of a {@link SharedPollerPool}
+ * but the executor service keeps track of its own tasks so that shutting it down only affects the tasks of the test. Condition
+ * evaluations that are still running when the test completes (for example since the condition is blocked) are "leaked pollers"
+ * and are interrupted by {@link #cleanUp()}.
+ */
+class TestPollerExecutor extends AbstractExecutorService {
+
+    private final Executor pool;
+    private final Set<TrackedTask> tasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    TestPollerExecutor(Executor pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The poller executor of the test has been shutdown");
+        }
+        final TrackedTask task = new TrackedTask(command);
+        tasks.add(task);
+        try {
+            pool.execute(task);
+        } catch (RejectedExecutionException e) {
+            tasks.remove(task);
+            throw e;
+        }
+    }
+
+    /**
+     * Shutdown the executor service and interrupt the tasks that are still running.
+     *
+     * @return The number of tasks that were still running
+     */
+    int cleanUp() {
+        shutdown = true;
+        int interruptedTasks = 0;
+        for (TrackedTask task : tasks) {
+            if (task.interrupt()) {
+                interruptedTasks++;
+            }
+        }
+        return interruptedTasks;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        cleanUp();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (tasks) {
+            while (!isTerminated()) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(tasks, remainingNanos);
+            }
+            return true;
+        }
+    }
+
+    private void taskCompleted(TrackedTask task) {
+        tasks.remove(task);
+        if (shutdown) {
+            synchronized (tasks) {
+                tasks.notifyAll();
+            }
+        }
+    }
+
+    private class TrackedTask implements Runnable {
+        private final Runnable command;
+        private Thread runner;
+
+        TrackedTask(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try {
+                command.run();
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                // The thread is returned to the shared pool so don't let an interrupt targeted at this task affect the next one
+                Thread.interrupted();
+                taskCompleted(this);
+            }
+        }
+
+        synchronized boolean interrupt() {
+            if (runner == null) {
+                return false;
+            }
+            runner.interrupt();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import org.awaitility.core.AwaitProfile;
+import org.awaitility.metrics.AwaitilityMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the number of await statements of a test and the time spent waiting in them, and forwards all calls to the metrics
+ * that were configured before the test started (if any).
+ */
+class WaitTimeRecorder implements AwaitilityMetrics {
+
+    private final AwaitilityMetrics delegate;
+    private final LongAdder awaits = new LongAdder();
+    private final LongAdder timedOutAwaits = new LongAdder();
+    private final LongAdder waitTimeNanos = new LongAdder();
+
+    WaitTimeRecorder(AwaitilityMetrics delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void awaitSatisfied(String name, Duration timeToSatisfaction, int pollCount) {
+        awaits.increment();
+        waitTimeNanos.add(timeToSatisfaction.toNanos());
+        if (delegate != null) {
+            delegate.awaitSatisfied(name, timeToSatisfaction, pollCount);
+        }
+    }
+
+    @Override
+    public void awaitTimedOut(String name, Duration elapsed, int pollCount) {
+        awaits.increment();
+        timedOutAwaits.increment();
+        waitTimeNanos.add(elapsed.toNanos());
+        if (delegate != null) {
+            delegate.awaitTimedOut(name, elapsed, pollCount);
+        }
+    }
+
+    @Override
+    public void conditionEvaluated(String name, long evaluationDuration) {
+        if (delegate != null) {
+            delegate.conditionEvaluated(name, evaluationDuration);
+        }
+    }
+
+    @Override
+    public void exceptionIgnored(String name) {
+        if (delegate != null) {
+            delegate.exceptionIgnored(name);
+        }
+    }
+
+    @Override
+    public void awaitProfiled(String name, AwaitProfile profile) {
+        if (delegate != null) {
+            delegate.awaitProfiled(name, profile);
+        }
+    }
+
+    @Override
+    public boolean usesName() {
+        // The wait time is recorded per test so the name is only needed by the delegate
+        return delegate != null && delegate.usesName();
+    }
+
+    long getAwaits() {
+        return awaits.sum();
+    }
+
+    long getTimedOutAwaits() {
+        return timedOutAwaits.sum();
+    }
+
+    Duration getWaitTime() {
+        return Duration.ofNanos(waitTimeNanos.sum());
+    }
+}
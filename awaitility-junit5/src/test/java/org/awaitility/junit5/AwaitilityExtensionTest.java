@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.junit5;
+
+import org.awaitility.Awaitility;
+import org.awaitility.AwaitilityConfig;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@AwaitilitySettings(timeout = 2, unit = TimeUnit.SECONDS, pollInterval = 20)
+class AwaitilityExtensionTest {
+
+    @Test
+    void class_settings_are_applied_to_each_test() {
+        AwaitilityConfig config = AwaitilityConfig.current();
+
+        assertThat(config.getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(config.getPollInterval().next(1, Duration.ZERO)).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    @AwaitilitySettings(timeout = 300)
+    void method_settings_override_class_settings() {
+        AwaitilityConfig config = AwaitilityConfig.current();
+
+        assertThat(config.getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofMillis(300));
+        assertThat(config.getPollInterval().next(1, Duration.ZERO)).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    @AwaitilitySettings(pollInterval = 1, pollUnit = TimeUnit.SECONDS)
+    void poll_interval_and_poll_delay_have_their_own_unit() {
+        AwaitilityConfig config = AwaitilityConfig.current();
+
+        assertThat(config.getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(config.getPollInterval().next(1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void default_settings_changed_by_a_test_only_affect_the_test() {
+        Awaitility.setDefaultTimeout(Duration.ofMillis(123));
+        assertThat(AwaitilityConfig.current().getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofMillis(123));
+
+        Awaitility.reset();
+
+        assertThat(AwaitilityConfig.current().getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void conditions_are_evaluated_by_the_shared_poller_pool() {
+        AtomicReference<String> pollerThread = new AtomicReference<>();
+
+        await().until(() -> {
+            pollerThread.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        assertThat(pollerThread.get()).startsWith("awaitility-junit5-poller-");
+    }
+
+    @Test
+    void poller_threads_dont_use_the_configuration_of_the_test_that_created_them() {
+        AtomicReference<AwaitilityConfig> pollerConfig = new AtomicReference<>();
+
+        await().until(() -> {
+            pollerConfig.set(AwaitilityConfig.current());
+            return true;
+        });
+
+        assertThat(pollerConfig.get()).isSameAs(AwaitilityConfig.global()).isNotSameAs(AwaitilityConfig.current());
+    }
+
+    @Test
+    void leaked_pollers_are_interrupted_when_cleaning_up() throws Exception {
+        ExecutorService pool = Executors.newCachedThreadPool();
+        try {
+            TestPollerExecutor executor = new TestPollerExecutor(pool);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            });
+            started.await();
+
+            int leakedPollers = executor.cleanUp();
+
+            assertThat(leakedPollers).isEqualTo(1);
+            assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Nested
+    @AwaitilitySettings(pollDelay = 5)
+    class NestedTests {
+
+        @Test
+        void nested_classes_inherit_the_settings_of_the_enclosing_class() {
+            AwaitilityConfig config = AwaitilityConfig.current();
+
+            assertThat(config.getWaitConstraint().getMaxWaitTime()).isEqualTo(Duration.ofSeconds(2));
+            assertThat(config.getPollDelay()).isEqualTo(Duration.ofMillis(5));
+        }
+    }
+}
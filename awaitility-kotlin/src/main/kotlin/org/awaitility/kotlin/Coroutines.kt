@@ -0,0 +1,291 @@
+@file:JvmName("AwaitilityCoroutinesKt")
+
+/**
+ * Contains Awaitility extension functions for Kotlin coroutines. These functions suspend, instead of blocking a thread,
+ * while waiting for the condition to be fulfilled and require `kotlinx-coroutines-core` in the classpath.
+ *
+ * When called from a coroutine that runs on a `TestDispatcher` (for example in `runTest`) timeouts, poll delays and poll intervals
+ * are measured in the virtual time of the `TestCoroutineScheduler`, so an await statement that times out after 30 seconds
+ * completes in a few milliseconds of real time.
+ *
+ * The polling await statements (`untilSuspend`, `untilCallToSuspend` and `untilAssertedSuspend`) apply the settings of the condition
+ * factory like the blocking ones do, including the fail-fast condition, the condition evaluation listener, uncaught exceptions, evaluation
+ * budgets, the evaluation timeout, the enclosing `AwaitBudget` and metrics. The following is not supported:
+ * - Profiling, pipelined evaluations, a max evaluation CPU time and a custom clock, an [IllegalStateException] is thrown if they're used.
+ * - The executor service, the condition is evaluated by the calling coroutine.
+ * - Failing as soon as an uncaught exception is thrown, it fails the await statement when the current evaluation completes.
+ * - Capping the timeout of await statements started by the condition to the timeout of the enclosing await statement.
+ */
+package org.awaitility.kotlin
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.distinctUntilChangedBy
+import kotlinx.coroutines.flow.firstOrNull
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.onEach
+import kotlinx.coroutines.flow.transformLatest
+import kotlinx.coroutines.withTimeoutOrNull
+import org.awaitility.clock.Ticker
+import org.awaitility.core.AsyncAwait
+import org.awaitility.core.ConditionFactory
+import org.awaitility.core.ConditionSettings
+import org.awaitility.core.ConditionTimeoutException
+import org.awaitility.core.ForeverDuration.isForever
+import org.awaitility.core.TerminalFailureException
+import kotlin.coroutines.cancellation.CancellationException
+import kotlin.coroutines.coroutineContext
+import kotlin.time.TimeSource
+import kotlin.time.toKotlinDuration
+
+/**
+ * An intermediary data type that stores the [ConditionFactory] and the suspending [fn] for later use.
+ * Note that this data class should never be instantiated or used directly. Instead use the
+ * [untilCallToSuspend] extension function.
+ *
+ * @param factory The condition factory
+ * @param fn The suspending function to call in order to extract the value used by the predicate
+ * @see untilCallToSuspend
+ */
+data class AwaitilityKtUntilSuspendFunCondition<out T> internal constructor(internal val factory: ConditionFactory, internal val fn: suspend () -> T)
+
+/**
+ * Infix function which is what allows us to write the predicate on right-hand side of [matches] without using a dot.
+ * Suspends until the predicate matches the value returned by the suspending function.
+ *
+ * @param pred The predicate that determines whether or not the condition is fulfilled.
+ * @since 4.3.1
+ */
+suspend infix fun <T> AwaitilityKtUntilSuspendFunCondition<T?>.matches(pred: (T?) -> Boolean): T? =
+    factory.awaitSuspending(fn, pred) { value -> "Suspending function returned $value which didn't match the predicate" }
+
+/**
+ * Infix function that allows us to write the predicate on right-hand side of [has] without using a dot, with the value
+ * returned by the suspending function as `this`. Suspends until the predicate holds.
+ *
+ * @param pred The predicate that determines whether or not the condition is fulfilled.
+ * @since 4.3.1
+ */
+suspend infix fun <T> AwaitilityKtUntilSuspendFunCondition<T?>.has(pred: T.() -> Boolean): T =
+    factory.awaitSuspending(fn, { t: T? -> t != null && pred(t) }) { value -> "Suspending function returned $value which didn't match the predicate" }!!
+
+/**
+ * An extension function to `ConditionFactory` that allows you do write conditions such as:
+ *
+ * ```
+ * await untilCallToSuspend { myRepository.count() } matches { count -> count == 1 }
+ * ```
+ *
+ * where `myRepository.count()` may be a suspending function. Unlike [untilCallTo] no thread is blocked while waiting,
+ * [kotlinx.coroutines.delay] is used between the polls and the await statement is cancelled if the calling coroutine is cancelled.
+ *
+ * @param fn A suspending function that returns the value that will be evaluated by the predicate in [matches].
+ * @since 4.3.1
+ */
+infix fun <T> ConditionFactory.untilCallToSuspend(fn: suspend () -> T) = AwaitilityKtUntilSuspendFunCondition(this, fn)
+
+/**
+ * An extension function to `ConditionFactory` that allows you do write conditions such as:
+ *
+ * ```
+ * await untilSuspend { myRepository.count() == 1 }
+ * ```
+ *
+ * where `myRepository.count()` may be a suspending function. Unlike [until] no thread is blocked while waiting.
+ *
+ * @param fn The suspending function to evaluate
+ * @since 4.3.1
+ */
+suspend infix fun ConditionFactory.untilSuspend(fn: suspend () -> Boolean) {
+    awaitSuspending(fn, { it }) { "Suspending condition was not fulfilled" }
+}
+
+/**
+ * An extension function to `ConditionFactory` that allows you do write conditions such as:
+ *
+ * ```
+ * await untilAssertedSuspend {
+ *     assertThat(myRepository.count()).isEqualTo(1)
+ * }
+ * ```
+ *
+ * where `myRepository.count()` may be a suspending function. Unlike [untilAsserted] no thread is blocked while waiting.
+ *
+ * @param fn The suspending function that throws an [AssertionError] as long as the condition is not fulfilled
+ * @since 4.3.1
+ */
+suspend infix fun ConditionFactory.untilAssertedSuspend(fn: suspend () -> Unit) {
+    awaitSuspending(fn, { true }, assertion = true) { "Suspending assertion was not fulfilled" }
+}
+
+internal class Evaluated<out T>(val value: T)
+
+/**
+ * Evaluates [fn] using the settings of the condition factory until [predicate] matches the returned value. Evaluations that don't complete
+ * within the time limit of the await statement, its evaluation timeout or what remains of its timeout, are cancelled.
+ */
+internal suspend fun <T> ConditionFactory.awaitSuspending(fn: suspend () -> T, predicate: (T) -> Boolean, assertion: Boolean = false,
+                                                          describeMismatch: (T) -> String): T =
+    pollUntil(awaitTicker(), assertion, waitFor = { delay(it) }, evaluate = { timeLimit -> withTimeoutOrNull(timeLimit) { Evaluated(fn()) } }) {
+        if (predicate(it)) null else describeMismatch(it)
+    }
+
+/**
+ * Polls the condition using the settings of the condition factory, as implemented by [AsyncAwait], until [mismatch] returns `null`
+ * for the value returned by [evaluate]. [evaluate] is called with the time limit of the evaluation and returns `null` if the evaluation
+ * didn't complete within it, [waitFor] lets the poll delay and the poll intervals pass. These are what differs between the await
+ * statements that suspend the calling coroutine and those that advance the virtual time of a test scheduler.
+ *
+ * @param ticker The ticker that measures the time of the await statement or `null` to use the one of the condition factory
+ * @param assertion `true` if the condition is fulfilled when [evaluate] doesn't throw an [AssertionError]
+ */
+internal inline fun <T> ConditionFactory.pollUntil(ticker: Ticker?, assertion: Boolean, waitFor: (kotlin.time.Duration) -> Unit,
+                                                  evaluate: (kotlin.time.Duration) -> Evaluated<T>?, mismatch: (T) -> String?): T {
+    val await = if (ticker == null) AsyncAwait.start(conditionSettings) else AsyncAwait.start(conditionSettings, ticker)
+    try {
+        var pollInterval = await.pollDelay
+        while (true) {
+            waitFor(pollInterval.toKotlinDuration())
+            val timeLimit = await.beginEvaluation().asKotlinDuration()
+            var evaluated: Evaluated<T>? = null
+            var mismatchDescription: String? = null
+            var failure: Throwable? = null
+            try {
+                evaluated = evaluate(timeLimit)
+                if (evaluated != null) {
+                    mismatchDescription = mismatch(evaluated.value)
+                }
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Throwable) {
+                failure = e
+            }
+            pollInterval = when {
+                failure is AssertionError && assertion -> await.assertionFailed(failure)
+                failure != null -> await.exceptionThrown(failure)
+                evaluated == null -> await.evaluationTimedOut()
+                mismatchDescription != null -> await.conditionEvaluated(false, evaluated.value, mismatchDescription)
+                else -> await.conditionEvaluated(true, evaluated.value, "Condition was fulfilled") ?: return evaluated.value
+            }
+        }
+    } finally {
+        await.cancel()
+    }
+}
+
+/**
+ * An extension function to `ConditionFactory` that suspends until the [flow] emits a value that matches the [predicate], for example:
+ *
+ * ```
+ * val event = await.atMost(5.seconds).untilEmits(events) { it.type == "created" }
+ * ```
+ *
+ * Unlike polling the source of the flow, the flow is collected so the await statement completes as soon as a matching
+ * value is emitted and values emitted in between two polls are not missed. The timeout, `atLeast` and `during` settings of
+ * the condition factory are respected, with `during` meaning that no value that doesn't match the predicate may be emitted during
+ * the hold time. The poll delay and poll interval are not used. If the flow completes without emitting a matching value a
+ * [TerminalFailureException] is thrown.
+ *
+ * @param flow The flow to collect
+ * @param predicate The predicate that determines whether or not the condition is fulfilled
+ * @return The most recent value emitted by the flow when the condition was fulfilled
+ * @since 4.3.1
+ */
+suspend fun <T> ConditionFactory.untilEmits(flow: Flow<T>, predicate: (T) -> Boolean): T = awaitEmission(flow, "Flow", predicate)
+
+/**
+ * An extension function to `ConditionFactory` that suspends until the value of the [stateFlow] matches the [predicate], for example:
+ *
+ * ```
+ * await.atMost(5.seconds).untilState(viewModel.uiState) { it.isLoaded }
+ * ```
+ *
+ * The current value of the state flow is checked first and subsequent values are collected, see [untilEmits] for details.
+ * Note that a [StateFlow] is conflated, a value that is replaced before the collector is resumed is never observed.
+ *
+ * @param stateFlow The state flow to collect
+ * @param predicate The predicate that determines whether or not the condition is fulfilled
+ * @return The value of the state flow when the condition was fulfilled
+ * @since 4.3.1
+ */
+suspend fun <T> ConditionFactory.untilState(stateFlow: StateFlow<T>, predicate: (T) -> Boolean): T = awaitEmission(stateFlow, "StateFlow", predicate)
+
+@OptIn(ExperimentalCoroutinesApi::class)
+private suspend fun <T> ConditionFactory.awaitEmission(flow: Flow<T>, flowDescription: String, predicate: (T) -> Boolean): T {
+    val settings = conditionSettings
+    val timeSource = awaitTimeSource()
+    val maxWaitTime = settings.maxWaitTimeAsKotlinDuration()
+    val holdPredicateTime = settings.holdPredicateTime.toKotlinDuration()
+
+    val started = timeSource.markNow()
+    var latest: Evaluated<T>? = null
+    val emitted = flow.map { Evaluated(it) }.onEach { latest = it }
+    val matched: Evaluated<Evaluated<T>?>? = withTimeoutOrNull(maxWaitTime) {
+        val match = if (holdPredicateTime.isPositive()) {
+            // Only a value that doesn't match the predicate cancels the hold time, not another value that matches
+            emitted.distinctUntilChangedBy { predicate(it.value) }.transformLatest { evaluated ->
+                if (predicate(evaluated.value)) {
+                    delay(holdPredicateTime)
+                    emit(evaluated)
+                }
+            }.firstOrNull()
+        } else {
+            emitted.firstOrNull { predicate(it.value) }
+        }
+        Evaluated(match)
+    }
+
+    if (matched == null) {
+        val lastValue = latest
+        val reason = if (lastValue == null) "$flowDescription didn't emit any value" else "$flowDescription didn't emit a value matching the predicate, last value was ${lastValue.value}"
+        throw ConditionTimeoutException(settings.timeoutMessage(reason, maxWaitTime))
+    }
+    val value = matched.value ?: throw TerminalFailureException("$flowDescription completed without emitting a value matching the predicate")
+    settings.verifyMinWaitTime(started.elapsedNow())
+    return value.value
+}
+
+private val virtualTimeSupported = try {
+    Class.forName("kotlinx.coroutines.test.TestDispatcher")
+    true
+} catch (e: ClassNotFoundException) {
+    false
+}
+
+/**
+ * @return The virtual time source of the test dispatcher of the calling coroutine, or the monotonic time source if the calling
+ * coroutine isn't running on a test dispatcher (or `kotlinx-coroutines-test` isn't in the classpath)
+ */
+private suspend fun awaitTimeSource(): TimeSource =
+    (if (virtualTimeSupported) virtualTimeSourceOrNull(coroutineContext) else null) ?: TimeSource.Monotonic
+
+/**
+ * @return A ticker that measures the virtual time of the test dispatcher of the calling coroutine, or `null` if the calling coroutine
+ * isn't running on a test dispatcher (or `kotlinx-coroutines-test` isn't in the classpath)
+ */
+private suspend fun awaitTicker(): Ticker? =
+    (if (virtualTimeSupported) virtualTimeSourceOrNull(coroutineContext) else null)?.asTicker()
+
+internal fun TimeSource.asTicker(): Ticker {
+    val origin = markNow()
+    return Ticker { origin.elapsedNow().inWholeNanoseconds }
+}
+
+internal fun java.time.Duration.asKotlinDuration() = if (isForever(this)) kotlin.time.Duration.INFINITE else toKotlinDuration()
+
+internal fun ConditionSettings.maxWaitTimeAsKotlinDuration() = maxWaitTime.asKotlinDuration()
+
+internal fun ConditionSettings.verifyMinWaitTime(elapsed: kotlin.time.Duration) {
+    val expectedMinWaitTime = minWaitTime.toKotlinDuration()
+    if (elapsed < expectedMinWaitTime) {
+        throw ConditionTimeoutException("Condition was evaluated in $elapsed which is earlier than expected minimum timeout $expectedMinWaitTime")
+    }
+}
+
+internal fun ConditionSettings.timeoutMessage(reason: String, maxWaitTime: kotlin.time.Duration) = if (hasAlias()) {
+    "Condition with alias '$alias' didn't complete within $maxWaitTime because ${reason.replaceFirstChar { it.lowercase() }}."
+} else {
+    "$reason within $maxWaitTime."
+}
@@ -0,0 +1,81 @@
+@file:JvmName("AwaitilityVirtualTimeKt")
+@file:OptIn(ExperimentalCoroutinesApi::class)
+
+/**
+ * Contains Awaitility extension functions for tests that use the virtual time of `kotlinx-coroutines-test`.
+ * These functions require `kotlinx-coroutines-test` in the classpath.
+ */
+package org.awaitility.kotlin
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.TestCoroutineScheduler
+import kotlinx.coroutines.test.TestDispatcher
+import org.awaitility.core.ConditionFactory
+import kotlin.coroutines.ContinuationInterceptor
+import kotlin.coroutines.CoroutineContext
+import kotlin.time.TimeSource
+
+/**
+ * An extension function to `ConditionFactory` that evaluates the condition in the calling thread and advances the virtual time of the
+ * [scheduler] by the poll interval (running the coroutines that become due, see [TestCoroutineScheduler.advanceTimeBy] and
+ * [TestCoroutineScheduler.runCurrent]) between the polls, instead of sleeping in real time. For example:
+ *
+ * ```
+ * @Test
+ * fun retries() = runTest {
+ *     launch { service.connectWithRetries() }
+ *     await.atMost(30.seconds).untilAdvancingTime(testScheduler) { service.isConnected }
+ * }
+ * ```
+ *
+ * The timeout, poll delay and poll interval are expressed in virtual time so an await statement that times out after 30 seconds
+ * completes in a few milliseconds of real time. Note that, unlike the other await statements, the condition is evaluated in the calling thread
+ * so an evaluation timeout is not supported, an [IllegalStateException] is thrown if one is set. The other settings of the condition factory
+ * are applied like for the suspending await statements, see `AwaitilityCoroutinesKt`.
+ * Use [untilSuspend] if the calling coroutine should not advance the virtual time by itself.
+ *
+ * @param scheduler The scheduler whose virtual time is advanced
+ * @param fn The function to evaluate
+ * @since 4.3.1
+ */
+fun ConditionFactory.untilAdvancingTime(scheduler: TestCoroutineScheduler, fn: () -> Boolean) {
+    awaitAdvancingTime(scheduler, assertion = false) { if (fn()) null else "Condition was not fulfilled" }
+}
+
+/**
+ * Like [untilAdvancingTime] but the condition is fulfilled when [fn] doesn't throw an [AssertionError]. For example:
+ *
+ * ```
+ * await.atMost(30.seconds).untilAssertedAdvancingTime(testScheduler) {
+ *     assertThat(service.attempts).isEqualTo(3)
+ * }
+ * ```
+ *
+ * @param scheduler The scheduler whose virtual time is advanced
+ * @param fn The function that throws an [AssertionError] as long as the condition is not fulfilled
+ * @since 4.3.1
+ */
+fun ConditionFactory.untilAssertedAdvancingTime(scheduler: TestCoroutineScheduler, fn: () -> Unit) {
+    awaitAdvancingTime(scheduler, assertion = true) {
+        fn()
+        null
+    }
+}
+
+/**
+ * @return The virtual time source of the scheduler if the coroutine context runs on a test dispatcher, otherwise `null`
+ */
+internal fun virtualTimeSourceOrNull(context: CoroutineContext): TimeSource? =
+    (context[ContinuationInterceptor] as? TestDispatcher)?.scheduler?.timeSource
+
+/**
+ * Evaluates [mismatch], which returns `null` if the condition is fulfilled or a description of why it's not, until the condition
+ * is fulfilled while advancing the virtual time of the [scheduler] between the evaluations.
+ */
+private fun ConditionFactory.awaitAdvancingTime(scheduler: TestCoroutineScheduler, assertion: Boolean, mismatch: () -> String?) {
+    check(!conditionSettings.hasEvaluationTimeout()) { "An evaluation timeout is not supported when advancing the virtual time since the condition is evaluated in the calling thread" }
+    pollUntil(scheduler.timeSource.asTicker(), assertion, waitFor = {
+        scheduler.advanceTimeBy(it)
+        scheduler.runCurrent()
+    }, evaluate = { Evaluated(mismatch()) }) { it }
+}
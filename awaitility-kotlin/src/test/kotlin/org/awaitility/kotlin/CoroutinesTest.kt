@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.kotlin
+
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.MutableSharedFlow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.yield
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.catchThrowable
+import org.awaitility.Awaitility.await
+import org.awaitility.core.ConditionTimeoutException
+import org.awaitility.core.TerminalFailureException
+import org.junit.Test
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.seconds
+
+class CoroutinesTest {
+
+    private val value = AtomicInteger()
+
+    private suspend fun suspendingValue(): Int {
+        yield()
+        return value.get()
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendDoesNotBlockSingleThreadedDispatcher(): Unit = runBlocking {
+        // runBlocking uses a single thread so the blocking variant would prevent this coroutine from running
+        launch {
+            delay(100)
+            value.set(1)
+        }
+
+        await atMost 2.seconds untilSuspend { suspendingValue() == 1 }
+
+        assertThat(value.get()).isEqualTo(1)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilCallToSuspendReturnsValueMatchingThePredicate(): Unit = runBlocking {
+        launch {
+            delay(100)
+            value.set(2)
+        }
+
+        val result = await atMost 2.seconds untilCallToSuspend { suspendingValue() } matches { it == 2 }
+
+        assertThat(result).isEqualTo(2)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilCallToSuspendHasUsesValueAsReceiver(): Unit = runBlocking {
+        launch {
+            delay(100)
+            value.set(3)
+        }
+
+        val result = await atMost 2.seconds untilCallToSuspend { suspendingValue() } has { this > 2 }
+
+        assertThat(result).isEqualTo(3)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilAssertedSuspendRetriesUntilAssertionPasses(): Unit = runBlocking {
+        launch {
+            delay(100)
+            value.set(4)
+        }
+
+        await atMost 2.seconds untilAssertedSuspend {
+            assertThat(suspendingValue()).isEqualTo(4)
+        }
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendThrowsConditionTimeoutExceptionWithAliasWhenNotFulfilledInTime() {
+        val throwable = catchThrowable {
+            runBlocking { await withAlias "my alias" atMost 200.milliseconds untilSuspend { suspendingValue() == 5 } }
+        }
+
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException::class.java)
+                .hasMessage("Condition with alias 'my alias' didn't complete within 200 milliseconds because suspending condition was not fulfilled.")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendIsCancelledWithTheCallingCoroutine(): Unit = runBlocking {
+        val awaiting = launch {
+            await.forever untilSuspend { suspendingValue() == 6 }
+        }
+        delay(100)
+
+        awaiting.cancel()
+        awaiting.join()
+
+        assertThat(awaiting.isCancelled).isTrue()
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendFailsWhenFulfilledEarlierThanAtLeast() {
+        value.set(7)
+
+        val throwable = catchThrowable {
+            runBlocking { await().atLeast(java.time.Duration.ofMillis(500)) untilSuspend { suspendingValue() == 7 } }
+        }
+
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException::class.java)
+                .hasMessageStartingWith("Condition was evaluated in")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendFailsFastWhenTheFailFastConditionIsFulfilled() {
+        val throwable = catchThrowable {
+            runBlocking { (await atMost 2.seconds).failFast("Service is down") { true } untilSuspend { suspendingValue() == 8 } }
+        }
+
+        assertThat(throwable).isInstanceOf(TerminalFailureException::class.java).hasMessage("Service is down")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendFailsWhenTheEvaluationBudgetIsExceeded() {
+        val throwable = catchThrowable {
+            runBlocking { (await atMost 2.seconds).maxEvaluations(2) untilSuspend { suspendingValue() == 9 } }
+        }
+
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException::class.java)
+                .hasMessageStartingWith("Suspending condition was not fulfilled within its evaluation budget")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilEmitsCompletesWhenTheFlowEmitsAMatchingValue(): Unit = runBlocking {
+        val events = MutableSharedFlow<Int>()
+        launch {
+            events.subscriptionCount.first { it > 0 }
+            (1..5).forEach { events.emit(it) }
+        }
+
+        val event = await.atMost(2.seconds).untilEmits(events) { it == 3 }
+
+        assertThat(event).isEqualTo(3)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilStateDoesNotMissTransientStates(): Unit = runBlocking {
+        val state = MutableStateFlow("idle")
+        launch {
+            state.subscriptionCount.first { it > 0 }
+            state.value = "loading"
+            yield()
+            state.value = "idle"
+        }
+
+        val value = await.atMost(2.seconds).untilState(state) { it == "loading" }
+
+        assertThat(value).isEqualTo("loading")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilStateThrowsConditionTimeoutExceptionWithLastValueWhenNotFulfilledInTime() {
+        val state = MutableStateFlow(1)
+
+        val throwable = catchThrowable {
+            runBlocking { await.atMost(200.milliseconds).untilState(state) { it > 1 } }
+        }
+
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException::class.java)
+                .hasMessage("StateFlow didn't emit a value matching the predicate, last value was 1 within 200ms.")
+    }
+
+    @Test(timeout = 5000L)
+    fun untilEmitsFailsWhenTheFlowCompletesWithoutAMatchingValue() {
+        val throwable = catchThrowable {
+            runBlocking { await.atMost(2.seconds).untilEmits(flowOf(1, 2, 3)) { it > 3 } }
+        }
+
+        assertThat(throwable).isInstanceOf(TerminalFailureException::class.java)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilStateWithDuringRequiresTheValueToHold(): Unit = runBlocking {
+        val state = MutableStateFlow(0)
+        launch {
+            state.subscriptionCount.first { it > 0 }
+            state.value = 1
+            delay(50)
+            state.value = 0
+            delay(50)
+            state.value = 2
+        }
+
+        val value = await.atMost(2.seconds).during(200.milliseconds).untilState(state) { it > 0 }
+
+        assertThat(value).isEqualTo(2)
+    }
+}
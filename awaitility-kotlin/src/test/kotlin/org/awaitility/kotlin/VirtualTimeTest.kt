@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.kotlin
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.StandardTestDispatcher
+import kotlinx.coroutines.test.TestCoroutineScheduler
+import kotlinx.coroutines.test.runTest
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.catchThrowable
+import org.awaitility.core.ConditionTimeoutException
+import org.junit.Test
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.time.Duration.Companion.seconds
+
+@OptIn(ExperimentalCoroutinesApi::class)
+class VirtualTimeTest {
+
+    @Test(timeout = 5000L)
+    fun untilSuspendUsesVirtualTimeInRunTest() = runTest {
+        val attempts = AtomicInteger()
+        launch {
+            // A retry loop with a back-off of 10 seconds
+            while (attempts.incrementAndGet() < 3) {
+                delay(10.seconds)
+            }
+        }
+
+        await atMost 30.seconds untilSuspend { attempts.get() == 3 }
+
+        assertThat(currentTime).isGreaterThanOrEqualTo(20_000L)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilSuspendTimesOutInVirtualTime() = runTest {
+        val startedAt = System.nanoTime()
+        val timeout = runCatching { await atMost 30.seconds untilSuspend { false } }.exceptionOrNull()
+
+        assertThat(timeout).isInstanceOf(ConditionTimeoutException::class.java).hasMessageEndingWith("within 30 seconds.")
+        assertThat(currentTime).isGreaterThanOrEqualTo(30_000L)
+        assertThat(System.nanoTime() - startedAt).isLessThan(5.seconds.inWholeNanoseconds)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilAdvancingTimeAdvancesTheVirtualTimeOfTheScheduler() {
+        val scheduler = TestCoroutineScheduler()
+        val connected = AtomicBoolean()
+        CoroutineScope(StandardTestDispatcher(scheduler)).launch {
+            delay(5.seconds)
+            connected.set(true)
+        }
+
+        await.atMost(30.seconds).untilAdvancingTime(scheduler) { connected.get() }
+
+        assertThat(scheduler.currentTime).isGreaterThanOrEqualTo(5_000L)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilAssertedAdvancingTimeThrowsConditionTimeoutExceptionInVirtualTime() {
+        val scheduler = TestCoroutineScheduler()
+
+        val throwable = catchThrowable {
+            await.atMost(30.seconds).untilAssertedAdvancingTime(scheduler) { assertThat(scheduler.currentTime).isNegative() }
+        }
+
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException::class.java)
+        assertThat(scheduler.currentTime).isGreaterThanOrEqualTo(30_000L)
+    }
+
+    @Test(timeout = 5000L)
+    fun untilAdvancingTimeRejectsAnEvaluationTimeout() {
+        val scheduler = TestCoroutineScheduler()
+
+        val throwable = catchThrowable {
+            await.atMost(30.seconds).evaluationTimeout(java.time.Duration.ofSeconds(1)).untilAdvancingTime(scheduler) { true }
+        }
+
+        assertThat(throwable).isInstanceOf(IllegalStateException::class.java).hasMessageContaining("evaluation timeout is not supported")
+    }
+}
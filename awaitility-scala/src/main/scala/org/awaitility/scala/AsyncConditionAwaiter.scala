@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.scala
+
+import java.time.{Duration => JavaDuration}
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.{ExecutionException, ScheduledExecutorService, ScheduledFuture, ScheduledThreadPoolExecutor, ThreadFactory, TimeUnit}
+
+import org.awaitility.core.ForeverDuration.isForever
+import org.awaitility.core.{AsyncAwait, ConditionSettings, ConditionTimeoutException}
+
+import scala.concurrent.{ExecutionContext, Future, Promise}
+import scala.util.control.NonFatal
+import scala.util.{Failure, Success, Try}
+
+/**
+ * Awaits a condition without blocking a thread. The polls are scheduled by a scheduler shared by all asynchronous await statements
+ * and each poll starts an evaluation, a future, whose completion schedules the next poll (after the poll interval) unless the
+ * condition is fulfilled. The returned future fails with a [[ConditionTimeoutException]] if the condition is not fulfilled within
+ * the timeout, even if an evaluation is still running.
+ *
+ * The settings of the condition factory are applied by [[AsyncAwait]], the same way as for the Kotlin coroutine await statements, including
+ * the fail-fast condition, the condition evaluation listener, uncaught exceptions, evaluation budgets, the evaluation timeout and the
+ * enclosing [[org.awaitility.core.AwaitBudget]]. An evaluation that exceeds the evaluation timeout is abandoned, not cancelled, since a
+ * future cannot be cancelled. Profiling, pipelined evaluations, a max evaluation CPU time and a custom clock are not supported,
+ * [[start]] throws an [[IllegalStateException]] if they're used.
+ */
+private[awaitility] class AsyncConditionAwaiter[T](settings: ConditionSettings, evaluate: () => Future[T], predicate: T => Boolean,
+                                                    describeMismatch: T => String, ignoreAssertionErrors: Boolean) {
+
+  private val promise = Promise[T]()
+  // Incremented when an evaluation starts and when its outcome is reported, so that only the first of its completion and its
+  // evaluation timeout is reported
+  private val evaluations = new AtomicInteger()
+
+  def start(): Future[T] = {
+    val await = AsyncAwait.start(settings)
+    val remaining = await.remaining()
+    if (!isForever(remaining)) {
+      val timeout = AsyncConditionAwaiter.schedule(remaining)(timedOut(await))
+      promise.future.onComplete(_ => timeout.cancel(false))(ExecutionContext.parasitic)
+    }
+    schedulePoll(await, await.getPollDelay)
+    promise.future
+  }
+
+  private def schedulePoll(await: AsyncAwait, delay: JavaDuration): Unit = {
+    if (!promise.isCompleted) {
+      AsyncConditionAwaiter.schedule(delay)(poll(await))
+    }
+  }
+
+  private def poll(await: AsyncAwait): Unit = {
+    val timeLimit = synchronized {
+      if (promise.isCompleted) {
+        None
+      } else {
+        Try(await.beginEvaluation()) match {
+          case Success(limit) => Some(limit)
+          case Failure(e) =>
+            promise.tryFailure(e)
+            None
+        }
+      }
+    }
+    timeLimit.foreach(evaluateWithin(await, _))
+  }
+
+  private def evaluateWithin(await: AsyncAwait, timeLimit: JavaDuration): Unit = {
+    val evaluation = evaluations.incrementAndGet()
+    val evaluationTimeout = if (settings.hasEvaluationTimeout && !isForever(timeLimit)) {
+      Some(AsyncConditionAwaiter.schedule(timeLimit) {
+        if (evaluations.compareAndSet(evaluation, evaluation + 1)) {
+          next(await, None)(await.evaluationTimedOut())
+        }
+      })
+    } else {
+      None
+    }
+    val future = try evaluate() catch {
+      case NonFatal(e) => Future.failed(e)
+    }
+    future.onComplete { result =>
+      if (evaluations.compareAndSet(evaluation, evaluation + 1)) {
+        evaluationTimeout.foreach(_.cancel(false))
+        evaluated(await, result)
+      }
+    }(ExecutionContext.parasitic)
+  }
+
+  private def evaluated(await: AsyncAwait, result: Try[T]): Unit = result.flatMap { value =>
+    Try {
+      val satisfied = predicate(value)
+      (value, satisfied, if (satisfied) "Condition was fulfilled" else describeMismatch(value))
+    }
+  } match {
+    case Success((value, satisfied, description)) =>
+      next(await, Some(value))(await.conditionEvaluated(satisfied, value, description))
+    case Failure(e) => AsyncConditionAwaiter.unboxed(e) match {
+      case assertionError: AssertionError if ignoreAssertionErrors => next(await, None)(await.assertionFailed(assertionError))
+      case unboxed => next(await, None)(await.exceptionThrown(unboxed))
+    }
+  }
+
+  /**
+   * Reports the outcome of an evaluation, completes the future if the await statement has completed and otherwise schedules the next
+   * poll. Synchronized with the timeout so that the future is completed with the outcome of the await statement.
+   */
+  private def next(await: AsyncAwait, value: Option[T])(report: => JavaDuration): Unit = synchronized {
+    if (!promise.isCompleted) {
+      Try(report) match {
+        case Success(null) => value.foreach(promise.trySuccess)
+        case Success(pollInterval) => schedulePoll(await, pollInterval)
+        case Failure(e) => promise.tryFailure(e)
+      }
+    }
+  }
+
+  private def timedOut(await: AsyncAwait): Unit = synchronized {
+    Option(await.timeout()).foreach(promise.tryFailure)
+  }
+}
+
+private[awaitility] object AsyncConditionAwaiter {
+
+  /**
+   * A future that fails with an [[Error]], such as the [[AssertionError]] of a failed assertion, is completed with an
+   * [[ExecutionException]] that boxes the error. Unbox it so that the error can be ignored.
+   */
+  private def unboxed(e: Throwable): Throwable = e match {
+    case boxed: ExecutionException if boxed.getCause.isInstanceOf[Error] => boxed.getCause
+    case _ => e
+  }
+
+  private def schedule(delay: JavaDuration)(task: => Unit): ScheduledFuture[_] =
+    scheduler.schedule(new Runnable {
+      override def run(): Unit = task
+    }, delay.toNanos, TimeUnit.NANOSECONDS)
+
+  private val scheduler: ScheduledExecutorService = {
+    val executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory {
+      override def newThread(runnable: Runnable): Thread = {
+        val thread = new Thread(runnable, "awaitility-scala-scheduler")
+        thread.setDaemon(true)
+        thread
+      }
+    })
+    executor.setRemoveOnCancelPolicy(true)
+    executor
+  }
+}
@@ -17,9 +17,11 @@ package org.awaitility.scala
 
 import java.util.concurrent.Callable
 
-import org.awaitility.core.ThrowingRunnable
+import org.awaitility.core.{ConditionFactory, ThrowingRunnable}
 import org.awaitility.spi.Timeout._
+import org.hamcrest.{Matcher, StringDescription}
 
+import scala.concurrent.{ExecutionContext, Future}
 import scala.language.implicitConversions
 
 trait AwaitilitySupport {
@@ -42,6 +44,63 @@ trait AwaitilitySupport {
       override def run(): Unit = function
     }
   }
-}
 
+  /**
+   * Adds asynchronous await statements to the condition factory. Instead of blocking the calling thread they return a [[Future]]
+   * that is completed when the condition is fulfilled, or failed with a [[org.awaitility.core.ConditionTimeoutException]] if it's not
+   * fulfilled in time. The polls are driven by a scheduler so no thread of the [[ExecutionContext]] is blocked while waiting, the
+   * execution context is only used to evaluate the condition. For example:
+   *
+   * {{{
+   * await atMost(5, SECONDS) untilAsync { service.isReady } map { _ => ... }
+   * }}}
+   *
+   * The settings of the condition factory are applied like for blocking await statements, except that profiling, pipelined
+   * evaluations, a max evaluation CPU time and a custom clock are not supported (an `IllegalStateException` is thrown if they're used)
+   * and that an evaluation that exceeds the evaluation timeout is abandoned rather than cancelled.
+   */
+  implicit class AsyncConditionFactory(factory: ConditionFactory) {
+
+    /**
+     * Await asynchronously until the condition is fulfilled.
+     *
+     * @param condition The condition, evaluated using the execution context
+     * @return A future that is completed when the condition is fulfilled
+     */
+    def untilAsync(condition: => Boolean)(implicit executionContext: ExecutionContext): Future[Unit] =
+      awaitAsync[Boolean](() => Future(condition), satisfied => satisfied, _ => "Condition was not fulfilled").map(_ => ())(ExecutionContext.parasitic)
+
+    /**
+     * Await asynchronously until the value returned by the supplier matches the Hamcrest matcher.
+     *
+     * @param supplier The supplier of the value, evaluated using the execution context
+     * @param matcher  The matcher
+     * @return A future that is completed with the matching value
+     */
+    def untilAsync[T](supplier: => T, matcher: Matcher[_ >: T])(implicit executionContext: ExecutionContext): Future[T] =
+      awaitAsync[T](() => Future(supplier), value => matcher.matches(value),
+        value => s"Expected ${StringDescription.toString(matcher)} but was <$value>")
+
+    /**
+     * Await asynchronously until the assertion doesn't throw an [[AssertionError]].
+     *
+     * @param assertion The assertion, evaluated using the execution context
+     * @return A future that is completed when the assertion passes
+     */
+    def untilAssertedAsync(assertion: => Unit)(implicit executionContext: ExecutionContext): Future[Unit] =
+      awaitAsync[Unit](() => Future(assertion), _ => true, _ => "Assertion was not fulfilled", ignoreAssertionErrors = true)
 
+    /**
+     * Await asynchronously until the future returned by the condition is completed with `true`. The condition is called once per poll,
+     * for example to send a request to a service that responds asynchronously.
+     *
+     * @param condition The asynchronous condition
+     * @return A future that is completed when the condition is fulfilled
+     */
+    def untilFuture(condition: => Future[Boolean]): Future[Unit] =
+      awaitAsync[Boolean](() => condition, satisfied => satisfied, _ => "Condition was not fulfilled").map(_ => ())(ExecutionContext.parasitic)
+
+    private def awaitAsync[T](evaluate: () => Future[T], predicate: T => Boolean, describeMismatch: T => String, ignoreAssertionErrors: Boolean = false): Future[T] =
+      new AsyncConditionAwaiter[T](factory.getConditionSettings, evaluate, predicate, describeMismatch, ignoreAssertionErrors).start()
+  }
+}
@@ -15,17 +15,22 @@
  */
 package org.awaitility.scala
 
-import java.util.concurrent.TimeUnit.MILLISECONDS
+import java.util.concurrent.Callable
+import java.util.concurrent.TimeUnit.{MILLISECONDS, SECONDS}
+import java.util.concurrent.atomic.AtomicInteger
 
 import org.awaitility.Awaitility._
-import org.awaitility.core.ConditionTimeoutException
+import org.awaitility.core.{ConditionTimeoutException, TerminalFailureException}
 import org.hamcrest.CoreMatchers.is
 import org.hamcrest.Matchers.{containsString, endsWith, startsWith}
 import org.hamcrest.{CoreMatchers, Matchers}
 import org.junit.Assert._
 import org.junit._
 
+import scala.concurrent.duration.DurationInt
+import scala.concurrent.{Await, ExecutionContext, Future, Promise}
 import scala.language.postfixOps
+import scala.util.Try
 
 @Test
 class AwaitilitySupportTest extends AwaitilitySupport {
@@ -101,6 +106,84 @@ class AwaitilitySupportTest extends AwaitilitySupport {
     }
   }
 
+  @Test
+  def asyncConditionCompletesFuture(): Unit = {
+    implicit val executionContext: ExecutionContext = ExecutionContext.global
+    val counter = new AtomicInteger()
+
+    val future = await atMost(2, SECONDS) untilAsync { counter.incrementAndGet() > 3 }
+
+    Await.result(future, 5.seconds)
+    assertEquals(4, counter.get())
+  }
+
+  @Test
+  def asyncSupplierWithMatcherCompletesFutureWithValue(): Unit = {
+    implicit val executionContext: ExecutionContext = ExecutionContext.global
+    val counter = new AtomicInteger()
+
+    val future = await atMost(2, SECONDS) untilAsync (s"value ${counter.incrementAndGet()}", is("value 3"))
+
+    assertEquals("value 3", Await.result(future, 5.seconds))
+  }
+
+  @Test
+  def asyncAwaitWithAliasFailsFutureWithConditionTimeoutException(): Unit = {
+    implicit val executionContext: ExecutionContext = ExecutionContext.global
+
+    val future = await("scala") atMost(500, MILLISECONDS) untilAsync { 2 == 1 }
+
+    val result = Try(Await.result(future, 5.seconds))
+    assertTrue(result.failed.get.isInstanceOf[ConditionTimeoutException])
+    assertEquals("Condition with alias 'scala' didn't complete within 500 milliseconds because condition was not fulfilled.", result.failed.get.getMessage)
+  }
+
+  @Test
+  def asyncAssertionCompletesFuture(): Unit = {
+    implicit val executionContext: ExecutionContext = ExecutionContext.global
+    val counter = new AtomicInteger()
+
+    val future = await atMost(2, SECONDS) untilAssertedAsync { assertThat(counter.incrementAndGet(), is(3)) }
+
+    Await.result(future, 5.seconds)
+  }
+
+  @Test
+  def futureConditionIsCalledOncePerPoll(): Unit = {
+    val counter = new AtomicInteger()
+
+    val future = await atMost(2, SECONDS) untilFuture { Future.successful(counter.incrementAndGet() == 3) }
+
+    Await.result(future, 5.seconds)
+    assertEquals(3, counter.get())
+  }
+
+  @Test
+  def asyncAwaitFailsFutureWhenFailFastConditionIsFulfilled(): Unit = {
+    implicit val executionContext: ExecutionContext = ExecutionContext.global
+    val serviceIsDown = new Callable[java.lang.Boolean] {
+      override def call(): java.lang.Boolean = true
+    }
+
+    val future = await.atMost(2, SECONDS).failFast("Service is down", serviceIsDown) untilAsync { 2 == 1 }
+
+    val result = Try(Await.result(future, 5.seconds))
+    assertTrue(result.failed.get.isInstanceOf[TerminalFailureException])
+    assertEquals("Service is down", result.failed.get.getMessage)
+  }
+
+  @Test
+  def futureConditionThatExceedsTheEvaluationTimeoutIsAbandoned(): Unit = {
+    val counter = new AtomicInteger()
+
+    val future = await.atMost(2, SECONDS).evaluationTimeout(100, MILLISECONDS) untilFuture {
+      if (counter.incrementAndGet() == 1) Promise[Boolean]().future else Future.successful(true)
+    }
+
+    Await.result(future, 5.seconds)
+    assertEquals(2, counter.get())
+  }
+
   class Counter {
       var value = 0
       def count(): Int = {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.classes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntSupplier;
+
+/**
+ * A value that is expensive to allocate, compare and describe, for example to measure the allocation rate of await statements whose
+ * supplier returns a new large value on every evaluation:
+ * <pre>
+ * await().until(AllocationHeavyValue.supplier(10_000, repository::getValue), hasProperty("version", equalTo(1)));
+ * </pre>
+ */
+public class AllocationHeavyValue {
+
+    private final int version;
+    private final List<String> payload;
+
+    /**
+     * @param version     The version of the value, two values are equal if they have the same version and payload size
+     * @param payloadSize The number of strings in the payload that is allocated for the value
+     */
+    public AllocationHeavyValue(int version, int payloadSize) {
+        if (payloadSize < 0) {
+            throw new IllegalArgumentException("Payload size cannot be negative");
+        }
+        this.version = version;
+        List<String> payload = new ArrayList<>(payloadSize);
+        for (int i = 0; i < payloadSize; i++) {
+            payload.add("element-" + version + "-" + i);
+        }
+        this.payload = Collections.unmodifiableList(payload);
+    }
+
+    /**
+     * @param payloadSize The number of strings in the payload of each value
+     * @param version     Supplies the version of each value
+     * @return A supplier that allocates a new {@link AllocationHeavyValue} each time it's called
+     */
+    public static Callable<AllocationHeavyValue> supplier(final int payloadSize, final IntSupplier version) {
+        return () -> new AllocationHeavyValue(version.getAsInt(), payloadSize);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<String> getPayload() {
+        return payload;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AllocationHeavyValue)) return false;
+        AllocationHeavyValue that = (AllocationHeavyValue) o;
+        return version == that.version && payload.equals(that.payload);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * version + payload.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AllocationHeavyValue{version=" + version + ", payload=" + payload + '}';
+    }
+}
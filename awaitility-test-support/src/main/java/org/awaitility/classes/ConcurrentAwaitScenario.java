@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.classes;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Launches a number of concurrent await statements, each from its own thread in its own thread group, and verifies that uncaught exceptions
+ * are routed to the right await statement. Every n:th await statement starts a thread in its thread group that throws an uncaught exception
+ * once the await statement is running, and is never fulfilled. The other await statements are fulfilled after a random delay. The await
+ * statement itself is supplied by the caller, it must only catch uncaught exceptions from the supplied thread group:
+ * <pre>
+ * ConcurrentAwaitScenario.Result result = new ConcurrentAwaitScenario(100, 10, 200).run((threadGroup, condition) ->
+ *         await().atMost(ofSeconds(20)).catchUncaughtExceptionsFrom(threadGroup).until(condition), ConditionTimeoutException.class, 30, SECONDS);
+ * </pre>
+ */
+public class ConcurrentAwaitScenario {
+
+    /**
+     * An await statement that waits until <code>condition</code> is fulfilled, catching uncaught exceptions from <code>threadGroup</code>.
+     */
+    public interface ScopedAwait {
+        void until(ThreadGroup threadGroup, Callable<Boolean> condition) throws Exception;
+    }
+
+    private final int concurrency;
+    private final int failingEvery;
+    private final int maxDelayMillis;
+    private long callerStackSize;
+
+    /**
+     * @param concurrency    The number of concurrent await statements
+     * @param failingEvery   Every n:th await statement gets an uncaught exception, 0 means that no await statement does
+     * @param maxDelayMillis The await statements that don't get an uncaught exception are fulfilled after a random delay of at most this many milliseconds
+     */
+    public ConcurrentAwaitScenario(int concurrency, int failingEvery, int maxDelayMillis) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0");
+        }
+        if (failingEvery < 0) {
+            throw new IllegalArgumentException("Failing every must be greater than or equal to 0");
+        }
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Max delay must be greater than or equal to 0");
+        }
+        this.concurrency = concurrency;
+        this.failingEvery = failingEvery;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * @param callerStackSize The stack size of the threads that run the await statements, 0 means the default stack size
+     * @return This instance
+     */
+    public ConcurrentAwaitScenario callerStackSize(long callerStackSize) {
+        this.callerStackSize = callerStackSize;
+        return this;
+    }
+
+    /**
+     * Run the await statements and wait for them to complete.
+     *
+     * @param await            Runs a single await statement
+     * @param timeoutException The type of exception thrown by <code>await</code> when the condition isn't fulfilled in time
+     * @param timeout          Await statements that haven't completed within this time are reported as incomplete
+     * @param unit             The unit of <code>timeout</code>
+     * @return The outcome of the await statements
+     */
+    public Result run(ScopedAwait await, Class<? extends Throwable> timeoutException, long timeout, TimeUnit unit) throws InterruptedException {
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        final Random random = new Random(concurrency);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        final AtomicInteger unexpectedFailures = new AtomicInteger();
+        final AtomicInteger missedExceptions = new AtomicInteger();
+        final AtomicInteger misroutedExceptions = new AtomicInteger();
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                final int awaitId = i;
+                final boolean failing = failingEvery > 0 && i % failingEvery == 0;
+                final long delayMillis = random.nextInt(maxDelayMillis + 1);
+                final ThreadGroup threadGroup = new ThreadGroup("await-" + i);
+                Thread caller = new Thread(threadGroup, () -> {
+                    final AtomicBoolean fulfilled = new AtomicBoolean();
+                    final AtomicBoolean thrown = new AtomicBoolean();
+                    try {
+                        start.await();
+                        if (!failing) {
+                            scheduler.schedule(() -> fulfilled.set(true), delayMillis, TimeUnit.MILLISECONDS);
+                        }
+                        // The exception is thrown once the await statement is running, a failing await statement is never fulfilled
+                        await.until(threadGroup, () -> {
+                            if (failing && thrown.compareAndSet(false, true)) {
+                                new Thread(threadGroup, () -> {
+                                    throw new AwaitSpecificException(awaitId);
+                                }, "failing-" + awaitId).start();
+                            }
+                            return fulfilled.get();
+                        });
+                    } catch (AwaitSpecificException e) {
+                        if (!failing || e.awaitId != awaitId) {
+                            misroutedExceptions.incrementAndGet();
+                        }
+                    } catch (Throwable e) {
+                        if (failing && timeoutException.isInstance(e)) {
+                            missedExceptions.incrementAndGet();
+                        } else {
+                            unexpectedFailures.incrementAndGet();
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }, "await-" + i, callerStackSize);
+                caller.setDaemon(true);
+                caller.start();
+            }
+
+            final long startedNanos = System.nanoTime();
+            start.countDown();
+            done.await(timeout, unit);
+            final int incomplete = (int) done.getCount();
+            final long wallTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            return new Result(concurrency, wallTimeMillis, unexpectedFailures.get(), missedExceptions.get(), misroutedExceptions.get(), incomplete);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * The outcome of running the await statements of a {@link ConcurrentAwaitScenario}
+     */
+    public static class Result {
+        private final int concurrency;
+        private final long wallTimeMillis;
+        private final int unexpectedFailures;
+        private final int missedExceptions;
+        private final int misroutedExceptions;
+        private final int incomplete;
+
+        private Result(int concurrency, long wallTimeMillis, int unexpectedFailures, int missedExceptions, int misroutedExceptions, int incomplete) {
+            this.concurrency = concurrency;
+            this.wallTimeMillis = wallTimeMillis;
+            this.unexpectedFailures = unexpectedFailures;
+            this.missedExceptions = missedExceptions;
+            this.misroutedExceptions = misroutedExceptions;
+            this.incomplete = incomplete;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public long getWallTimeMillis() {
+            return wallTimeMillis;
+        }
+
+        /**
+         * @return The number of await statements that failed although they should have succeeded, or failed with an unexpected exception
+         */
+        public int getUnexpectedFailures() {
+            return unexpectedFailures;
+        }
+
+        /**
+         * @return The number of await statements that timed out instead of failing with their uncaught exception
+         */
+        public int getMissedExceptions() {
+            return missedExceptions;
+        }
+
+        /**
+         * @return The number of await statements that failed with the uncaught exception of another await statement
+         */
+        public int getMisroutedExceptions() {
+            return misroutedExceptions;
+        }
+
+        /**
+         * @return The number of await statements that didn't complete in time
+         */
+        public int getIncomplete() {
+            return incomplete;
+        }
+
+        /**
+         * @return <code>true</code> if all await statements completed as expected
+         */
+        public boolean isPassed() {
+            return unexpectedFailures == 0 && missedExceptions == 0 && misroutedExceptions == 0 && incomplete == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                    "concurrency=" + concurrency +
+                    ", wallTimeMillis=" + wallTimeMillis +
+                    ", unexpectedFailures=" + unexpectedFailures +
+                    ", missedExceptions=" + missedExceptions +
+                    ", misroutedExceptions=" + misroutedExceptions +
+                    ", incomplete=" + incomplete +
+                    '}';
+        }
+    }
+
+    private static class AwaitSpecificException extends RuntimeException {
+        private final int awaitId;
+
+        private AwaitSpecificException(int awaitId) {
+            super("Uncaught exception for await statement " + awaitId);
+            this.awaitId = awaitId;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.classes;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link FakeRepository} that is continuously updated by a number of writer threads, each incrementing the value at a given rate.
+ * Reads and writes are synchronized so the conditions that read the value are contended by the writers. Start the writers with
+ * {@link #start()} and stop them with {@link #close()}:
+ * <pre>
+ * try (ContendedFakeRepository repository = new ContendedFakeRepository(4, 1000).start()) {
+ *     await().until(repository::getValue, greaterThan(10_000));
+ * }
+ * </pre>
+ */
+public class ContendedFakeRepository implements FakeRepository, AutoCloseable {
+
+    private final int writers;
+    private final long nanosBetweenUpdates;
+    private final AtomicLong updates = new AtomicLong();
+    private Thread[] writerThreads;
+    private volatile boolean running;
+    private int value;
+
+    /**
+     * @param writers             The number of writer threads
+     * @param updatesPerSecond    The number of updates per second made by each writer thread
+     */
+    public ContendedFakeRepository(int writers, int updatesPerSecond) {
+        if (writers < 1) {
+            throw new IllegalArgumentException("Writers must be greater than 0");
+        }
+        if (updatesPerSecond < 1) {
+            throw new IllegalArgumentException("Updates per second must be greater than 0");
+        }
+        this.writers = writers;
+        this.nanosBetweenUpdates = TimeUnit.SECONDS.toNanos(1) / updatesPerSecond;
+    }
+
+    public synchronized ContendedFakeRepository start() {
+        if (running) {
+            throw new IllegalStateException("Writers are already running");
+        }
+        running = true;
+        writerThreads = new Thread[writers];
+        for (int i = 0; i < writers; i++) {
+            writerThreads[i] = new Thread(this::write, "contended-repository-writer-" + i);
+            writerThreads[i].setDaemon(true);
+            writerThreads[i].start();
+        }
+        return this;
+    }
+
+    private void write() {
+        long nextUpdate = System.nanoTime();
+        while (running) {
+            synchronized (this) {
+                value++;
+            }
+            updates.incrementAndGet();
+            nextUpdate += nanosBetweenUpdates;
+            long sleepNanos = nextUpdate - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+        }
+    }
+
+    public synchronized int getValue() {
+        return value;
+    }
+
+    public synchronized void setValue(int value) {
+        this.value = value;
+    }
+
+    /**
+     * @return The total number of updates made by the writer threads
+     */
+    public long getUpdates() {
+        return updates.get();
+    }
+
+    /**
+     * Stop the writer threads and wait for them to finish. If the calling thread is interrupted while waiting the interrupt flag is restored
+     * and the remaining writer threads are left to stop on their own.
+     */
+    @Override
+    public void close() {
+        final Thread[] threads;
+        synchronized (this) {
+            running = false;
+            threads = writerThreads;
+            writerThreads = null;
+        }
+        if (threads != null) {
+            try {
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.classes;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A condition that alternates between being fulfilled for <code>trueFor</code> and not fulfilled for <code>falseFor</code>, starting with
+ * not fulfilled when created. Optionally it stays fulfilled once <code>stableAfter</code> has elapsed. Useful to test <code>during(..)</code>:
+ * <pre>
+ * FlappingCondition condition = new FlappingCondition(ofMillis(20), ofMillis(20)).stableAfter(ofMillis(500));
+ * await().during(ofMillis(100)).until(condition);
+ * </pre>
+ */
+public class FlappingCondition implements Callable<Boolean> {
+
+    private final long trueForNanos;
+    private final long falseForNanos;
+    private final long stableAfterNanos;
+    private final long startedNanos;
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    public FlappingCondition(Duration trueFor, Duration falseFor) {
+        this(trueFor.toNanos(), falseFor.toNanos(), Long.MAX_VALUE, System.nanoTime());
+    }
+
+    private FlappingCondition(long trueForNanos, long falseForNanos, long stableAfterNanos, long startedNanos) {
+        if (trueForNanos <= 0 || falseForNanos <= 0) {
+            throw new IllegalArgumentException("Both trueFor and falseFor must be greater than 0");
+        }
+        this.trueForNanos = trueForNanos;
+        this.falseForNanos = falseForNanos;
+        this.stableAfterNanos = stableAfterNanos;
+        this.startedNanos = startedNanos;
+    }
+
+    /**
+     * @param stableAfter The time after which the condition stays fulfilled
+     * @return A new flapping condition, with the same start time as this one, that stays fulfilled after <code>stableAfter</code>
+     */
+    public FlappingCondition stableAfter(Duration stableAfter) {
+        return new FlappingCondition(trueForNanos, falseForNanos, stableAfter.toNanos(), startedNanos);
+    }
+
+    public Boolean call() {
+        evaluations.incrementAndGet();
+        final long elapsedNanos = System.nanoTime() - startedNanos;
+        if (elapsedNanos >= stableAfterNanos) {
+            return true;
+        }
+        return elapsedNanos % (falseForNanos + trueForNanos) >= falseForNanos;
+    }
+
+    /**
+     * @return The number of times the condition has been evaluated
+     */
+    public int getEvaluations() {
+        return evaluations.get();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.classes;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A distribution of latencies (or delays) used by load-generating fixtures such as {@link SlowSupplier}. The random number generator is
+ * supplied by the caller so that the same seed gives the same sequence of latencies.
+ * Distributions can also be parsed from a specification such as <code>fixed:50</code>, <code>uniform:10:200</code> or
+ * <code>exponential:100</code> where all values are in milliseconds.
+ */
+public abstract class LatencyDistribution {
+
+    private final String description;
+
+    private LatencyDistribution(String description) {
+        this.description = description;
+    }
+
+    /**
+     * @param random The random number generator to use
+     * @return The next latency in nanoseconds
+     */
+    public abstract long nextNanos(Random random);
+
+    /**
+     * @param random The random number generator to use
+     * @return The next latency
+     */
+    public Duration next(Random random) {
+        return Duration.ofNanos(nextNanos(random));
+    }
+
+    public static LatencyDistribution parse(String specification) {
+        String[] parts = specification.split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed":
+                    return fixed(Duration.ofMillis(Long.parseLong(parts[1])));
+                case "uniform":
+                    return uniform(Duration.ofMillis(Long.parseLong(parts[1])), Duration.ofMillis(Long.parseLong(parts[2])));
+                case "exponential":
+                    return exponential(Duration.ofMillis(Long.parseLong(parts[1])));
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution '" + parts[0] + "', expected fixed, uniform or exponential");
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency distribution '" + specification + "'", e);
+        }
+    }
+
+    public static LatencyDistribution fixed(Duration latency) {
+        final long latencyNanos = latency.toNanos();
+        return new LatencyDistribution("fixed " + format(latencyNanos)) {
+            @Override
+            public long nextNanos(Random random) {
+                return latencyNanos;
+            }
+        };
+    }
+
+    public static LatencyDistribution uniform(Duration min, Duration max) {
+        if (max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("Max latency must be greater than or equal to min latency");
+        }
+        final long minNanos = min.toNanos();
+        final long rangeNanos = max.toNanos() - minNanos;
+        return new LatencyDistribution("uniform " + format(minNanos) + " - " + format(max.toNanos())) {
+            @Override
+            public long nextNanos(Random random) {
+                return minNanos + (long) (random.nextDouble() * rangeNanos);
+            }
+        };
+    }
+
+    public static LatencyDistribution exponential(Duration mean) {
+        if (mean.isZero() || mean.isNegative()) {
+            throw new IllegalArgumentException("Mean latency must be greater than 0");
+        }
+        final double meanNanos = mean.toNanos();
+        return new LatencyDistribution("exponential with mean " + format(mean.toNanos())) {
+            @Override
+            public long nextNanos(Random random) {
+                return (long) (-Math.log(1.0d - random.nextDouble()) * meanNanos);
+            }
+        };
+    }
+
+    private static String format(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.classes;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A supplier that takes a latency drawn from a {@link LatencyDistribution} before returning the value of its delegate, for example to
+ * simulate a call to a slow service:
+ * <pre>
+ * await().until(new SlowSupplier&lt;&gt;(repository::getValue, LatencyDistribution.uniform(ofMillis(50), ofMillis(300)), 42), equalTo(1));
+ * </pre>
+ * The latency is spent sleeping so the supplier responds to interruption.
+ */
+public class SlowSupplier<T> implements Callable<T> {
+
+    private final Callable<T> delegate;
+    private final LatencyDistribution latencyDistribution;
+    private final Random random;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public SlowSupplier(Callable<T> delegate, LatencyDistribution latencyDistribution, long seed) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate cannot be null");
+        }
+        if (latencyDistribution == null) {
+            throw new IllegalArgumentException("Latency distribution cannot be null");
+        }
+        this.delegate = delegate;
+        this.latencyDistribution = latencyDistribution;
+        this.random = new Random(seed);
+    }
+
+    public T call() throws Exception {
+        calls.incrementAndGet();
+        TimeUnit.NANOSECONDS.sleep(latencyDistribution.nextNanos(random));
+        return delegate.call();
+    }
+
+    /**
+     * @return The number of times the supplier has been called
+     */
+    public int getCalls() {
+        return calls.get();
+    }
+}
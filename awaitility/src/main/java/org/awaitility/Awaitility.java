@@ -15,12 +15,10 @@
  */
 package org.awaitility;
 
-import org.awaitility.constraint.AtMostWaitConstraint;
-import org.awaitility.constraint.WaitConstraint;
 import org.awaitility.core.*;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition.FailFastAssertion;
-import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.metrics.AwaitilityMetrics;
 import org.awaitility.pollinterval.PollInterval;
 import org.hamcrest.Matcher;
 
@@ -32,8 +30,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static org.awaitility.Durations.ONE_HUNDRED_MILLISECONDS;
-
 /**
  * Awaitility is a small Java DSL for synchronizing (waiting for) asynchronous
  * operations. It makes it easy to test asynchronous code. Examples:
@@ -114,50 +110,6 @@ import static org.awaitility.Durations.ONE_HUNDRED_MILLISECONDS;
  */
 public class Awaitility {
 
-    private static final Duration DEFAULT_POLL_DELAY = null;
-
-    private static final PollInterval DEFAULT_POLL_INTERVAL = new FixedPollInterval(ONE_HUNDRED_MILLISECONDS);
-
-    /**
-     * The default poll interval (fixed 100 ms).
-     */
-    private static volatile PollInterval defaultPollInterval = DEFAULT_POLL_INTERVAL;
-
-    /**
-     * The default wait constraint (10 seconds).
-     */
-    private static volatile WaitConstraint defaultWaitConstraint = AtMostWaitConstraint.TEN_SECONDS;
-
-    /**
-     * The default poll delay
-     */
-    private static volatile Duration defaultPollDelay = DEFAULT_POLL_DELAY;
-
-    /**
-     * Catch all uncaught exceptions by default?
-     */
-    private static volatile boolean defaultCatchUncaughtExceptions = true;
-
-    /**
-     * Ignore caught exceptions by default?
-     */
-    private static volatile ExceptionIgnorer defaultExceptionIgnorer = new PredicateExceptionIgnorer(e -> false);
-
-    /**
-     * Default listener of condition evaluation results.
-     */
-    private static volatile ConditionEvaluationListener defaultConditionEvaluationListener = null;
-
-    /**
-     * Default condition evaluation executor service.
-     */
-    private static volatile ExecutorLifecycle defaultExecutorLifecycle = null;
-
-    /**
-     * If this condition if _ever_ false, indicates our condition will _never_ be true.
-     */
-    private static volatile FailFastCondition defaultFailFastCondition = null;
-
     /**
      * Instruct Awaitility to catch uncaught exceptions from other threads by
      * default. This is useful in multi-threaded systems when you want your test
@@ -165,7 +117,7 @@ public class Awaitility {
      * <code>true</code>.
      */
     public static void catchUncaughtExceptionsByDefault() {
-        defaultCatchUncaughtExceptions = true;
+        AwaitilityConfig.update(config -> config.withCatchUncaughtExceptions(true));
     }
 
     /**
@@ -173,7 +125,7 @@ public class Awaitility {
      * Your test will not fail if another thread throws an exception.
      */
     public static void doNotCatchUncaughtExceptionsByDefault() {
-        defaultCatchUncaughtExceptions = false;
+        AwaitilityConfig.update(config -> config.withCatchUncaughtExceptions(false));
     }
 
     /**
@@ -182,7 +134,7 @@ public class Awaitility {
      * upon an exception, unless it times out.
      */
     public static void ignoreExceptionsByDefault() {
-        defaultExceptionIgnorer = new PredicateExceptionIgnorer(e -> true);
+        AwaitilityConfig.update(config -> config.withExceptionIgnorer(new PredicateExceptionIgnorer(e -> true)));
     }
 
     /**
@@ -191,7 +143,7 @@ public class Awaitility {
      * upon an exception matching the supplied exception type, unless it times out.
      */
     public static void ignoreExceptionByDefault(final Class<? extends Throwable> exceptionType) {
-        defaultExceptionIgnorer = new PredicateExceptionIgnorer(e -> e.getClass().equals(exceptionType));
+        AwaitilityConfig.update(config -> config.withExceptionIgnorer(new PredicateExceptionIgnorer(e -> e.getClass().equals(exceptionType))));
     }
 
     /**
@@ -200,7 +152,7 @@ public class Awaitility {
      * upon an exception matching the supplied predicate, unless it times out.
      */
     public static void ignoreExceptionsByDefaultMatching(Predicate<? super Throwable> predicate) {
-        defaultExceptionIgnorer = new PredicateExceptionIgnorer(predicate);
+        AwaitilityConfig.update(config -> config.withExceptionIgnorer(new PredicateExceptionIgnorer(predicate)));
     }
 
     /**
@@ -209,7 +161,7 @@ public class Awaitility {
      * upon an exception matching the supplied exception type, unless it times out.
      */
     public static void ignoreExceptionsByDefaultMatching(Matcher<? super Throwable> matcher) {
-        defaultExceptionIgnorer = new HamcrestExceptionIgnorer(matcher);
+        AwaitilityConfig.update(config -> config.withExceptionIgnorer(new HamcrestExceptionIgnorer(matcher)));
     }
 
     /**
@@ -229,7 +181,18 @@ public class Awaitility {
      * @since 3.0.0
      */
     public static void pollInSameThread() {
-        defaultExecutorLifecycle = ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::sameThreadExecutorService);
+        AwaitilityConfig.update(AwaitilityConfig::pollInSameThread);
+    }
+
+    /**
+     * Instructs Awaitility to evaluate the conditions of all await statements in the {@link java.util.concurrent.ForkJoinPool} of the
+     * await statement, for example when it's used in a parallel stream or in <code>CompletableFuture.supplyAsync(..)</code>.
+     * Await statements that aren't running in a fork-join pool evaluate the condition in the common pool.
+     *
+     * @since 4.3.1
+     */
+    public static void pollInForkJoinPool() {
+        AwaitilityConfig.update(AwaitilityConfig::pollInForkJoinPool);
     }
 
     /**
@@ -241,7 +204,7 @@ public class Awaitility {
      * @since 3.0.0
      */
     public static void pollExecutorService(final ExecutorService executorService) {
-        defaultExecutorLifecycle = ExecutorLifecycle.withoutCleanup(executorService);
+        AwaitilityConfig.update(config -> config.withExecutorLifecycle(ExecutorLifecycle.withoutCleanup(executorService)));
     }
 
     /**
@@ -253,7 +216,7 @@ public class Awaitility {
      * @since 3.0.0
      */
     public static void pollThread(final Function<Runnable, Thread> threadSupplier) {
-        defaultExecutorLifecycle = ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create(threadSupplier));
+        AwaitilityConfig.update(config -> config.withExecutorLifecycle(ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create(threadSupplier))));
     }
 
     /**
@@ -269,18 +232,29 @@ public class Awaitility {
      * <li>Don't handle condition evaluation results</li>
      * <li>Don't log anything</li>
      * <li>No fail fast condition</li>
+     * <li>No metrics</li>
      * </ul>
+     * The default uncaught exception handler that Awaitility replaced when it started catching uncaught exceptions is restored, also if an
+     * await statement that catches uncaught exceptions never completed. If a configuration scope is bound to the current thread
+     * (see {@link AwaitilityConfig#bind()}) the configuration of the scope is instead reset to the configuration that it was bound with
+     * and the default uncaught exception handler is left as is.
      */
     public static void reset() {
-        defaultPollInterval = DEFAULT_POLL_INTERVAL;
-        defaultPollDelay = DEFAULT_POLL_DELAY;
-        defaultWaitConstraint = AtMostWaitConstraint.TEN_SECONDS;
-        defaultCatchUncaughtExceptions = true;
-        defaultConditionEvaluationListener = null;
-        defaultExecutorLifecycle = null;
-        defaultExceptionIgnorer = new PredicateExceptionIgnorer(e -> false);
-        defaultFailFastCondition = null;
-        Thread.setDefaultUncaughtExceptionHandler(null);
+        AwaitilityConfig.reset();
+    }
+
+    /**
+     * Sets the default configuration that all await statements will use. If a configuration scope is bound to the current thread
+     * (see {@link AwaitilityConfig#bind()}) only the await statements started in the scope are affected.
+     *
+     * @param config the new default configuration
+     * @since 4.3.1
+     */
+    public static void setDefaultConfig(AwaitilityConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("You must specify a configuration (was null).");
+        }
+        AwaitilityConfig.update(previousConfig -> config);
     }
 
     /**
@@ -302,9 +276,7 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory await(String alias) {
-        return new ConditionFactory(alias, defaultWaitConstraint, defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        return AwaitilityConfig.current().await(alias);
     }
 
     /**
@@ -315,9 +287,7 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory catchUncaughtExceptions() {
-        return new ConditionFactory(null, defaultWaitConstraint, defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        return AwaitilityConfig.current().await();
     }
 
     /**
@@ -327,9 +297,8 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory dontCatchUncaughtExceptions() {
-        return new ConditionFactory(null, defaultWaitConstraint, defaultPollInterval, defaultPollDelay,
-                false, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        final AwaitilityConfig config = AwaitilityConfig.current();
+        return config.conditionFactory(null, config.getWaitConstraint(), false);
     }
 
     /**
@@ -342,9 +311,7 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory with() {
-        return new ConditionFactory(null, defaultWaitConstraint, defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        return AwaitilityConfig.current().await();
     }
 
     /**
@@ -357,9 +324,7 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory given() {
-        return new ConditionFactory(null, defaultWaitConstraint, defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        return AwaitilityConfig.current().await();
     }
 
     /**
@@ -370,9 +335,8 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory waitAtMost(Duration timeout) {
-        return new ConditionFactory(null, defaultWaitConstraint.withMaxWaitTime(timeout), defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        final AwaitilityConfig config = AwaitilityConfig.current();
+        return config.conditionFactory(null, config.getWaitConstraint().withMaxWaitTime(timeout), config.shouldCatchUncaughtExceptions());
     }
 
     /**
@@ -384,9 +348,7 @@ public class Awaitility {
      * @return the condition factory
      */
     public static ConditionFactory waitAtMost(long value, TimeUnit unit) {
-        return new ConditionFactory(null, defaultWaitConstraint.withMaxWaitTime(DurationFactory.of(value, unit)), defaultPollInterval, defaultPollDelay,
-                defaultCatchUncaughtExceptions, defaultExceptionIgnorer, defaultConditionEvaluationListener,
-                defaultExecutorLifecycle, defaultFailFastCondition);
+        return waitAtMost(DurationFactory.of(value, unit));
     }
 
     /**
@@ -396,7 +358,7 @@ public class Awaitility {
      * @param unit         the unit
      */
     public static void setDefaultPollInterval(long pollInterval, TimeUnit unit) {
-        defaultPollInterval = new FixedPollInterval(DurationFactory.of(pollInterval, unit));
+        setDefaultPollInterval(DurationFactory.of(pollInterval, unit));
     }
 
     /**
@@ -406,7 +368,7 @@ public class Awaitility {
      * @param unit      the unit
      */
     public static void setDefaultPollDelay(long pollDelay, TimeUnit unit) {
-        defaultPollDelay = DurationFactory.of(pollDelay, unit);
+        setDefaultPollDelay(DurationFactory.of(pollDelay, unit));
     }
 
     /**
@@ -416,7 +378,7 @@ public class Awaitility {
      * @param unit    the unit
      */
     public static void setDefaultTimeout(long timeout, TimeUnit unit) {
-        defaultWaitConstraint = defaultWaitConstraint.withMaxWaitTime(DurationFactory.of(timeout, unit));
+        setDefaultTimeout(DurationFactory.of(timeout, unit));
     }
 
     /**
@@ -428,7 +390,7 @@ public class Awaitility {
         if (pollInterval == null) {
             throw new IllegalArgumentException("You must specify a poll interval (was null).");
         }
-        defaultPollInterval = new FixedPollInterval(pollInterval);
+        AwaitilityConfig.update(config -> config.pollInterval(pollInterval));
     }
 
     /**
@@ -440,7 +402,7 @@ public class Awaitility {
         if (pollInterval == null) {
             throw new IllegalArgumentException("You must specify a poll interval (was null).");
         }
-        defaultPollInterval = pollInterval;
+        AwaitilityConfig.update(config -> config.pollInterval(pollInterval));
     }
 
     /**
@@ -452,7 +414,7 @@ public class Awaitility {
         if (pollDelay == null) {
             throw new IllegalArgumentException("You must specify a poll delay (was null).");
         }
-        defaultPollDelay = pollDelay;
+        AwaitilityConfig.update(config -> config.pollDelay(pollDelay));
     }
 
     /**
@@ -464,7 +426,7 @@ public class Awaitility {
         if (defaultTimeout == null) {
             throw new IllegalArgumentException("You must specify a default timeout (was null).");
         }
-        defaultWaitConstraint = defaultWaitConstraint.withMaxWaitTime(defaultTimeout);
+        AwaitilityConfig.update(config -> config.atMost(defaultTimeout));
     }
 
     /**
@@ -473,7 +435,21 @@ public class Awaitility {
      * @param defaultConditionEvaluationListener handles condition evaluation each time evaluation of a condition occurs. Works only with Hamcrest matcher-based conditions.
      */
     public static void setDefaultConditionEvaluationListener(ConditionEvaluationListener defaultConditionEvaluationListener) {
-        Awaitility.defaultConditionEvaluationListener = defaultConditionEvaluationListener;
+        AwaitilityConfig.update(config -> config.conditionEvaluationListener(defaultConditionEvaluationListener));
+    }
+
+    /**
+     * Sets the default metrics that all await statements will report to. For example:
+     * <pre>
+     * Awaitility.setDefaultMetrics(DefaultAwaitilityMetrics.create().exportOnExit(Paths.get("target/awaitility-metrics.prom")));
+     * </pre>
+     *
+     * @param defaultMetrics the metrics, or <code>null</code> to disable metrics
+     * @see org.awaitility.metrics.DefaultAwaitilityMetrics
+     * @since 4.3.1
+     */
+    public static void setDefaultMetrics(AwaitilityMetrics defaultMetrics) {
+        AwaitilityConfig.update(config -> config.metrics(defaultMetrics));
     }
 
     /**
@@ -484,7 +460,7 @@ public class Awaitility {
      * @see #setDefaultConditionEvaluationListener(ConditionEvaluationListener)
      */
     public static void setLoggingListener(ConditionEvaluationListener loggingListener) {
-        Awaitility.defaultConditionEvaluationListener = loggingListener;
+        AwaitilityConfig.update(config -> config.conditionEvaluationListener(loggingListener));
     }
 
     /**
@@ -518,7 +494,7 @@ public class Awaitility {
      * @see #setDefaultFailFastCondition(String, Callable)
      */
     public static void setDefaultFailFastCondition(Callable<Boolean> defaultFailFastCondition) {
-        Awaitility.defaultFailFastCondition = new CallableFailFastCondition(null, defaultFailFastCondition);
+        AwaitilityConfig.update(config -> config.withFailFastCondition(new CallableFailFastCondition(null, defaultFailFastCondition)));
     }
 
     /**
@@ -545,7 +521,7 @@ public class Awaitility {
      * @see ConditionFactory#failFast(ThrowingRunnable)
      */
     public static void setDefaultFailFastCondition(String failFastFailureReason, ThrowingRunnable defaultFailFastAssertion) {
-        Awaitility.defaultFailFastCondition = new FailFastAssertion(failFastFailureReason, defaultFailFastAssertion);
+        AwaitilityConfig.update(config -> config.withFailFastCondition(new FailFastAssertion(failFastFailureReason, defaultFailFastAssertion)));
     }
 
     /**
@@ -556,7 +532,7 @@ public class Awaitility {
      * @param failFastFailureReason    A descriptive reason why the fail fast condition has failed, will be included in the {@link TerminalFailureException} thrown if <code>failFastCondition</code> evaluates to <code>true</code>.
      */
     public static void setDefaultFailFastCondition(String failFastFailureReason, Callable<Boolean> defaultFailFastCondition) {
-        Awaitility.defaultFailFastCondition = new CallableFailFastCondition(failFastFailureReason, defaultFailFastCondition);
+        AwaitilityConfig.update(config -> config.withFailFastCondition(new CallableFailFastCondition(failFastFailureReason, defaultFailFastCondition)));
     }
 
     /**
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.awaitility.clock.Sleeper;
+import org.awaitility.clock.Ticker;
+import org.awaitility.constraint.AtMostWaitConstraint;
+import org.awaitility.constraint.WaitConstraint;
+import org.awaitility.core.ConditionEvaluationListener;
+import org.awaitility.core.ConditionEvaluationLogger;
+import org.awaitility.core.ConditionFactory;
+import org.awaitility.core.ExceptionIgnorer;
+import org.awaitility.core.ExecutorLifecycle;
+import org.awaitility.core.FailFastCondition;
+import org.awaitility.core.FailFastCondition.CallableFailFastCondition;
+import org.awaitility.core.InternalExecutorServiceFactory;
+import org.awaitility.core.PredicateExceptionIgnorer;
+import org.awaitility.core.UncaughtExceptionDispatcher;
+import org.awaitility.metrics.AwaitilityMetrics;
+import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.pollinterval.PollInterval;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static org.awaitility.Durations.ONE_HUNDRED_MILLISECONDS;
+
+/**
+ * An immutable set of default settings for await statements, i.e. the settings that are otherwise configured by the static
+ * <code>Awaitility.setDefaultXXX</code> methods. A configuration can be bound to a scope so that await statements started in
+ * the scope use it instead of the JVM-wide defaults. This makes it possible to run tests with different defaults in parallel.
+ * For example:
+ * <pre>
+ * AwaitilityConfig config = AwaitilityConfig.defaults().atMost(Duration.ofSeconds(30)).pollInterval(Duration.ofMillis(20));
+ * try (AwaitilityConfig.Scope ignored = config.bind()) {
+ *     await().until(..); // Waits at most 30 seconds
+ * }
+ * </pre>
+ * A scope is bound to the current thread only, threads that are created while it's bound (such as the threads of a pool) use the JVM-wide
+ * configuration unless a scope is bound to them as well, for example using {@link #run(Runnable)}. Calls to
+ * <code>Awaitility.setDefaultXXX</code> and {@link Awaitility#reset()} made while a scope is bound only affect that scope.
+ * <p>
+ * The configuration is resolved once when an await statement is started by for example {@link Awaitility#await()}.
+ *
+ * @since 4.3.1
+ */
+public final class AwaitilityConfig {
+
+    private static final AwaitilityConfig DEFAULTS = new AwaitilityConfig(AtMostWaitConstraint.TEN_SECONDS,
+            new FixedPollInterval(ONE_HUNDRED_MILLISECONDS), null, true, new PredicateExceptionIgnorer(e -> false), null, null, null, null);
+
+    /**
+     * The configuration used when no scope is bound
+     */
+    private static final AtomicReference<AwaitilityConfig> globalConfig = new AtomicReference<>(DEFAULTS);
+
+    // Not inheritable since a thread that is created in a scope, e.g. by a thread pool, typically outlives the scope
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    private final WaitConstraint waitConstraint;
+    private final PollInterval pollInterval;
+    private final Duration pollDelay;
+    private final boolean catchUncaughtExceptions;
+    private final ExceptionIgnorer exceptionIgnorer;
+    private final ConditionEvaluationListener conditionEvaluationListener;
+    private final ExecutorLifecycle executorLifecycle;
+    private final FailFastCondition failFastCondition;
+    private final AwaitilityMetrics metrics;
+
+    private AwaitilityConfig(WaitConstraint waitConstraint, PollInterval pollInterval, Duration pollDelay, boolean catchUncaughtExceptions,
+                             ExceptionIgnorer exceptionIgnorer, ConditionEvaluationListener conditionEvaluationListener,
+                             ExecutorLifecycle executorLifecycle, FailFastCondition failFastCondition, AwaitilityMetrics metrics) {
+        this.waitConstraint = waitConstraint;
+        this.pollInterval = pollInterval;
+        this.pollDelay = pollDelay;
+        this.catchUncaughtExceptions = catchUncaughtExceptions;
+        this.exceptionIgnorer = exceptionIgnorer;
+        this.conditionEvaluationListener = conditionEvaluationListener;
+        this.executorLifecycle = executorLifecycle;
+        this.failFastCondition = failFastCondition;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The configuration that Awaitility uses unless anything else is specified, see {@link Awaitility#reset()}
+     */
+    public static AwaitilityConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return The configuration of the scope bound to the current thread or, if no scope is bound, the JVM-wide configuration
+     */
+    public static AwaitilityConfig current() {
+        final Scope scope = currentScope.get();
+        return scope == null ? globalConfig.get() : scope.config.get();
+    }
+
+    /**
+     * @return The JVM-wide configuration, i.e. the configuration used by threads that have no scope bound
+     */
+    public static AwaitilityConfig global() {
+        return globalConfig.get();
+    }
+
+    /**
+     * Replace the configuration of the scope bound to the current thread or, if no scope is bound, the JVM-wide configuration
+     */
+    static void update(UnaryOperator<AwaitilityConfig> updateFunction) {
+        final Scope scope = currentScope.get();
+        (scope == null ? globalConfig : scope.config).updateAndGet(updateFunction);
+    }
+
+    /**
+     * Reset the configuration of the scope bound to the current thread to the configuration it was bound with or, if no scope is bound,
+     * the JVM-wide configuration to the {@link #defaults()} and the default uncaught exception handler to the handler that was replaced by Awaitility.
+     */
+    static void reset() {
+        final Scope scope = currentScope.get();
+        if (scope == null) {
+            globalConfig.set(DEFAULTS);
+            UncaughtExceptionDispatcher.reset();
+        } else {
+            scope.config.set(scope.initialConfig);
+        }
+    }
+
+    /**
+     * Bind this configuration to the current thread until the returned scope is closed. The scope is not inherited by threads created by
+     * the current thread. Scopes can be nested and must be closed by the thread that bound them, in the reverse order.
+     *
+     * @return The scope, close it to restore the previous configuration
+     */
+    public Scope bind() {
+        final Scope scope = new Scope(this, currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * Run <code>runnable</code> with this configuration bound to the current thread.
+     *
+     * @param runnable The code to run
+     */
+    public void run(Runnable runnable) {
+        try (Scope ignored = bind()) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Start building an await statement that uses this configuration regardless of the scope it's started in.
+     *
+     * @return the condition factory
+     */
+    public ConditionFactory await() {
+        return await(null);
+    }
+
+    /**
+     * Start building a named await statement that uses this configuration regardless of the scope it's started in.
+     *
+     * @param alias the alias that will be shown if the await timeouts.
+     * @return the condition factory
+     */
+    public ConditionFactory await(String alias) {
+        return conditionFactory(alias, waitConstraint, catchUncaughtExceptions);
+    }
+
+    ConditionFactory conditionFactory(String alias, WaitConstraint waitConstraint, boolean catchUncaughtExceptions) {
+        return new ConditionFactory(alias, waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, null, 1, metrics, null, null, Ticker.system(), Sleeper.system());
+    }
+
+    /**
+     * @param timeout The default timeout
+     * @return A copy of this configuration with the supplied default timeout
+     */
+    public AwaitilityConfig atMost(Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("You must specify a default timeout (was null).");
+        }
+        return withWaitConstraint(waitConstraint.withMaxWaitTime(timeout));
+    }
+
+    /**
+     * @param pollInterval The default poll interval
+     * @return A copy of this configuration with the supplied default poll interval
+     */
+    public AwaitilityConfig pollInterval(Duration pollInterval) {
+        if (pollInterval == null) {
+            throw new IllegalArgumentException("You must specify a poll interval (was null).");
+        }
+        return pollInterval(new FixedPollInterval(pollInterval));
+    }
+
+    /**
+     * @param pollInterval The default poll interval
+     * @return A copy of this configuration with the supplied default poll interval
+     */
+    public AwaitilityConfig pollInterval(PollInterval pollInterval) {
+        if (pollInterval == null) {
+            throw new IllegalArgumentException("You must specify a poll interval (was null).");
+        }
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    /**
+     * @param pollDelay The default poll delay
+     * @return A copy of this configuration with the supplied default poll delay
+     */
+    public AwaitilityConfig pollDelay(Duration pollDelay) {
+        if (pollDelay == null) {
+            throw new IllegalArgumentException("You must specify a poll delay (was null).");
+        }
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    /**
+     * @return A copy of this configuration that catches uncaught exceptions from other threads
+     */
+    public AwaitilityConfig catchUncaughtExceptions() {
+        return withCatchUncaughtExceptions(true);
+    }
+
+    /**
+     * @return A copy of this configuration that doesn't catch uncaught exceptions from other threads
+     */
+    public AwaitilityConfig dontCatchUncaughtExceptions() {
+        return withCatchUncaughtExceptions(false);
+    }
+
+    /**
+     * @return A copy of this configuration that ignores all exceptions thrown during condition evaluation
+     */
+    public AwaitilityConfig ignoreExceptions() {
+        return ignoreExceptionsMatching(e -> true);
+    }
+
+    /**
+     * @param predicate The predicate that determines which exceptions to ignore
+     * @return A copy of this configuration that ignores exceptions matching the predicate thrown during condition evaluation
+     */
+    public AwaitilityConfig ignoreExceptionsMatching(Predicate<? super Throwable> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("predicate cannot be null");
+        }
+        return withExceptionIgnorer(new PredicateExceptionIgnorer(predicate));
+    }
+
+    /**
+     * @param conditionEvaluationListener The condition evaluation listener or <code>null</code> to not use any
+     * @return A copy of this configuration with the supplied default condition evaluation listener
+     */
+    public AwaitilityConfig conditionEvaluationListener(ConditionEvaluationListener conditionEvaluationListener) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    /**
+     * @return A copy of this configuration that logs condition evaluation results to System.out
+     */
+    public AwaitilityConfig logging() {
+        return conditionEvaluationListener(new ConditionEvaluationLogger());
+    }
+
+    /**
+     * @return A copy of this configuration that evaluates conditions in the same thread as the await statement
+     * @see Awaitility#pollInSameThread()
+     */
+    public AwaitilityConfig pollInSameThread() {
+        return withExecutorLifecycle(ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::sameThreadExecutorService));
+    }
+
+    /**
+     * @return A copy of this configuration that evaluates conditions in the fork-join pool of the await statement (or the common pool)
+     * @see Awaitility#pollInForkJoinPool()
+     */
+    public AwaitilityConfig pollInForkJoinPool() {
+        return withExecutorLifecycle(ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::forkJoinPoolExecutorService));
+    }
+
+    /**
+     * @param executorService The executor service that Awaitility will use when polling condition evaluations, it must be shutdown manually
+     * @return A copy of this configuration that evaluates conditions using the supplied executor service
+     */
+    public AwaitilityConfig pollExecutorService(ExecutorService executorService) {
+        if (executorService == null) {
+            throw new IllegalArgumentException("Executor service cannot be null");
+        }
+        return withExecutorLifecycle(ExecutorLifecycle.withoutCleanup(executorService));
+    }
+
+    /**
+     * @param failFastCondition The terminal failure condition, if it <i>ever</i> returns <code>true</code> the await statement fails immediately
+     * @return A copy of this configuration with the supplied default fail fast condition
+     */
+    public AwaitilityConfig failFast(Callable<Boolean> failFastCondition) {
+        if (failFastCondition == null) {
+            throw new IllegalArgumentException("Fail fast condition cannot be null");
+        }
+        return withFailFastCondition(new CallableFailFastCondition(null, failFastCondition));
+    }
+
+    /**
+     * @param metrics The metrics that all await statements report to, or <code>null</code> to disable metrics
+     * @return A copy of this configuration with the supplied default metrics
+     */
+    public AwaitilityConfig metrics(AwaitilityMetrics metrics) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    AwaitilityConfig withWaitConstraint(WaitConstraint waitConstraint) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    AwaitilityConfig withCatchUncaughtExceptions(boolean catchUncaughtExceptions) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    AwaitilityConfig withExceptionIgnorer(ExceptionIgnorer exceptionIgnorer) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    AwaitilityConfig withExecutorLifecycle(ExecutorLifecycle executorLifecycle) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    AwaitilityConfig withFailFastCondition(FailFastCondition failFastCondition) {
+        return new AwaitilityConfig(waitConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, metrics);
+    }
+
+    /**
+     * @return The default wait constraint
+     */
+    public WaitConstraint getWaitConstraint() {
+        return waitConstraint;
+    }
+
+    /**
+     * @return The default poll interval
+     */
+    public PollInterval getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * @return The default poll delay, <code>null</code> means that the poll delay is derived from the poll interval
+     */
+    public Duration getPollDelay() {
+        return pollDelay;
+    }
+
+    /**
+     * @return <code>true</code> if uncaught exceptions from other threads are caught by default
+     */
+    public boolean shouldCatchUncaughtExceptions() {
+        return catchUncaughtExceptions;
+    }
+
+    /**
+     * @return The default condition evaluation listener, <code>null</code> if undefined
+     */
+    public ConditionEvaluationListener getConditionEvaluationListener() {
+        return conditionEvaluationListener;
+    }
+
+    /**
+     * @return The default metrics, <code>null</code> if metrics are disabled
+     */
+    public AwaitilityMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return <code>true</code> if conditions are evaluated by the executor that Awaitility creates for each await statement, i.e. if
+     * neither {@link #pollInSameThread()}, {@link #pollInForkJoinPool()} nor {@link #pollExecutorService(ExecutorService)} is configured
+     */
+    public boolean usesDefaultPollExecutor() {
+        return executorLifecycle == null;
+    }
+
+    /**
+     * A configuration bound to a thread, see {@link AwaitilityConfig#bind()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final AwaitilityConfig initialConfig;
+        private final AtomicReference<AwaitilityConfig> config;
+        private final Scope previous;
+        private final Thread owner;
+        private boolean closed;
+
+        private Scope(AwaitilityConfig initialConfig, Scope previous) {
+            this.initialConfig = initialConfig;
+            this.config = new AtomicReference<>(initialConfig);
+            this.previous = previous;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * @return The current configuration of the scope, it differs from the configuration it was bound with if
+         * <code>Awaitility.setDefaultXXX</code> has been called in the scope
+         */
+        public AwaitilityConfig getConfig() {
+            return config.get();
+        }
+
+        /**
+         * Unbind the scope and restore the configuration that was used before it was bound
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner || currentScope.get() != this) {
+                throw new IllegalStateException("A scope must be closed by the thread that bound it and nested scopes must be closed first");
+            }
+            closed = true;
+            if (previous == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(previous);
+            }
+        }
+    }
+}
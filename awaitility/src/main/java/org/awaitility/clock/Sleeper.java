@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.clock;
+
+/**
+ * Responsible for letting time pass between the condition evaluations of an await statement, i.e. during the poll delay and the poll interval.
+ * The default sleeper puts the awaiting thread to sleep, use {@link VirtualClock} to advance virtual time instead.
+ *
+ * @see org.awaitility.core.ConditionFactory#clock(Ticker, Sleeper)
+ * @since 4.3.1
+ */
+@FunctionalInterface
+public interface Sleeper {
+
+    /**
+     * Let <code>nanos</code> nanoseconds pass.
+     *
+     * @param nanos The number of nanoseconds to sleep, never negative
+     * @throws InterruptedException If the thread was interrupted while sleeping
+     */
+    void sleep(long nanos) throws InterruptedException;
+
+    /**
+     * @return A sleeper that puts the current thread to sleep
+     */
+    static Sleeper system() {
+        return SystemClock.INSTANCE;
+    }
+}
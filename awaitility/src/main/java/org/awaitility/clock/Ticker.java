@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.clock;
+
+/**
+ * The source of time that Awaitility uses to decide when an await statement has timed out and for how long a condition has held.
+ * The default ticker is backed by {@link System#nanoTime()}, use {@link VirtualClock} to run await statements on virtual time.
+ * Just like <code>System.nanoTime()</code> the returned value is only meaningful when compared to other values returned by the same ticker.
+ *
+ * @see org.awaitility.core.ConditionFactory#clock(Ticker, Sleeper)
+ * @since 4.3.1
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    /**
+     * @return The current value of the ticker in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * @return A ticker backed by {@link System#nanoTime()}
+     */
+    static Ticker system() {
+        return SystemClock.INSTANCE;
+    }
+}
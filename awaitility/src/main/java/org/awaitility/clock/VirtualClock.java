@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.clock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Ticker} and {@link Sleeper} backed by virtual time. Sleeping doesn't block, it advances the virtual time instantly.
+ * This allows await statements with long timeouts, poll intervals or hold predicates (<code>during</code>) to complete in
+ * milliseconds provided that the system under test also reads its time from the same clock, for example by using {@link #asClock()}:
+ * <pre>
+ * VirtualClock clock = new VirtualClock();
+ * Scheduler scheduler = new Scheduler(clock.asClock());
+ * scheduler.schedule(job, Duration.ofMinutes(5));
+ *
+ * await().clock(clock).atMost(Duration.ofMinutes(10)).until(job::hasRun);
+ * </pre>
+ * Note that the time it takes to evaluate the condition is not accounted for in virtual time, and that the
+ * evaluation timeout and the time to wait for a condition evaluation that doesn't return are still real time.
+ * This class is thread-safe and may be shared by several await statements.
+ *
+ * @since 4.3.1
+ */
+public class VirtualClock implements Ticker, Sleeper {
+
+    private final AtomicLong epochNanos;
+
+    /**
+     * Create a new virtual clock that starts at the current time (truncated to milliseconds)
+     */
+    public VirtualClock() {
+        this(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * Create a new virtual clock that starts at the supplied instant
+     *
+     * @param start The instant that the clock starts at
+     */
+    public VirtualClock(Instant start) {
+        if (start == null) {
+            throw new IllegalArgumentException("Start cannot be null");
+        }
+        this.epochNanos = new AtomicLong(Math.addExact(Math.multiplyExact(start.getEpochSecond(), 1_000_000_000L), start.getNano()));
+    }
+
+    /**
+     * @return The number of virtual nanoseconds since the epoch
+     */
+    @Override
+    public long nanoTime() {
+        return epochNanos.get();
+    }
+
+    /**
+     * Advance the virtual time by <code>nanos</code> nanoseconds without blocking.
+     *
+     * @param nanos The number of nanoseconds to advance the time
+     */
+    @Override
+    public void sleep(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Cannot sleep a negative amount of time");
+        }
+        epochNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Advance the virtual time by the supplied duration.
+     *
+     * @param duration The duration to advance the time by
+     * @return The virtual time after the advance
+     */
+    public Instant advance(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be greater than or equal to zero");
+        }
+        return toInstant(epochNanos.addAndGet(duration.toNanos()));
+    }
+
+    /**
+     * @return The current virtual time
+     */
+    public Instant instant() {
+        return toInstant(epochNanos.get());
+    }
+
+    /**
+     * @return A {@link Clock} in UTC that reads the virtual time, pass this to the system under test.
+     */
+    public Clock asClock() {
+        return asClock(ZoneOffset.UTC);
+    }
+
+    /**
+     * @param zone The time-zone of the clock
+     * @return A {@link Clock} in the supplied time-zone that reads the virtual time, pass this to the system under test.
+     */
+    public Clock asClock(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        return new VirtualJavaClock(zone);
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock{" +
+                "instant=" + instant() +
+                '}';
+    }
+
+    private class VirtualJavaClock extends Clock {
+        private final ZoneId zone;
+
+        VirtualJavaClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return asClock(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return VirtualClock.this.instant();
+        }
+
+        @Override
+        public String toString() {
+            return "VirtualClock[" + zone + "]";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.constraint;
+
+import java.time.Duration;
+
+/**
+ * A wait constraint that, in addition to the time constraints of the wrapped wait constraint, limits the amount of work an await statement
+ * is allowed to perform, i.e. the maximum number of condition evaluations and the maximum cumulative (wall clock and CPU) time spent evaluating the condition.
+ */
+public class EvaluationBudgetWaitConstraint implements WaitConstraint {
+
+    private final WaitConstraint waitConstraint;
+    private final int maxEvaluations;
+    private final Duration maxEvaluationTime;
+    private final Duration maxEvaluationCpuTime;
+
+    EvaluationBudgetWaitConstraint(WaitConstraint waitConstraint, int maxEvaluations, Duration maxEvaluationTime, Duration maxEvaluationCpuTime) {
+        if (waitConstraint == null) {
+            throw new IllegalArgumentException("Wait constraint cannot be null");
+        }
+        if (maxEvaluations < 1) {
+            throw new IllegalArgumentException("Max evaluations must be greater than 0");
+        }
+        if (maxEvaluationTime == null || maxEvaluationTime.isZero() || maxEvaluationTime.isNegative()) {
+            throw new IllegalArgumentException("Max evaluation time must be greater than 0");
+        }
+        if (maxEvaluationCpuTime == null || maxEvaluationCpuTime.isZero() || maxEvaluationCpuTime.isNegative()) {
+            throw new IllegalArgumentException("Max evaluation CPU time must be greater than 0");
+        }
+        this.waitConstraint = waitConstraint;
+        this.maxEvaluations = maxEvaluations;
+        this.maxEvaluationTime = maxEvaluationTime;
+        this.maxEvaluationCpuTime = maxEvaluationCpuTime;
+    }
+
+    public Duration getMaxWaitTime() {
+        return waitConstraint.getMaxWaitTime();
+    }
+
+    public Duration getMinWaitTime() {
+        return waitConstraint.getMinWaitTime();
+    }
+
+    public Duration getHoldPredicateTime() {
+        return waitConstraint.getHoldPredicateTime();
+    }
+
+    @Override
+    public int getMaxEvaluations() {
+        return maxEvaluations;
+    }
+
+    @Override
+    public Duration getMaxEvaluationTime() {
+        return maxEvaluationTime;
+    }
+
+    @Override
+    public Duration getMaxEvaluationCpuTime() {
+        return maxEvaluationCpuTime;
+    }
+
+    public WaitConstraint withMinWaitTime(Duration minWaitTime) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint.withMinWaitTime(minWaitTime), maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+
+    public WaitConstraint withMaxWaitTime(Duration maxWaitTime) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint.withMaxWaitTime(maxWaitTime), maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+
+    public WaitConstraint withHoldPredicateTime(Duration holdConditionTime) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint.withHoldPredicateTime(holdConditionTime), maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+
+    @Override
+    public WaitConstraint withMaxEvaluations(int maxEvaluations) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint, maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+
+    @Override
+    public WaitConstraint withMaxEvaluationTime(Duration maxEvaluationTime) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint, maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+
+    @Override
+    public WaitConstraint withMaxEvaluationCpuTime(Duration maxEvaluationCpuTime) {
+        return new EvaluationBudgetWaitConstraint(waitConstraint, maxEvaluations, maxEvaluationTime, maxEvaluationCpuTime);
+    }
+}
@@ -1,6 +1,7 @@
 package org.awaitility.constraint;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Interface that defines the wait strategy.
@@ -8,6 +9,9 @@ import java.time.Duration;
  * evaluation duration. In case operation is executed before getMinWaitTime the exception is thrown indicating that
  * condition shouldn't be executed earlier than specified amount of time. Also operation is not allowed to be
  * executed longer than getMaxWaitTime.
+ * <p>
+ * A wait constraint may also define an evaluation budget, i.e. the max number of condition evaluations and the max cumulative
+ * time spent evaluating the condition. By default there's no evaluation budget.
  */
 public interface WaitConstraint {
 
@@ -22,4 +26,37 @@ public interface WaitConstraint {
     WaitConstraint withMaxWaitTime(Duration maxWaitTime);
 
     WaitConstraint withHoldPredicateTime(Duration holdConditionTime);
+
+    /**
+     * @return The max number of times the condition is allowed to be evaluated, {@link Integer#MAX_VALUE} if unlimited.
+     */
+    default int getMaxEvaluations() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return The max cumulative wall clock time that may be spent evaluating the condition.
+     */
+    default Duration getMaxEvaluationTime() {
+        return ChronoUnit.FOREVER.getDuration();
+    }
+
+    /**
+     * @return The max cumulative CPU time that may be spent evaluating the condition.
+     */
+    default Duration getMaxEvaluationCpuTime() {
+        return ChronoUnit.FOREVER.getDuration();
+    }
+
+    default WaitConstraint withMaxEvaluations(int maxEvaluations) {
+        return new EvaluationBudgetWaitConstraint(this, maxEvaluations, getMaxEvaluationTime(), getMaxEvaluationCpuTime());
+    }
+
+    default WaitConstraint withMaxEvaluationTime(Duration maxEvaluationTime) {
+        return new EvaluationBudgetWaitConstraint(this, getMaxEvaluations(), maxEvaluationTime, getMaxEvaluationCpuTime());
+    }
+
+    default WaitConstraint withMaxEvaluationCpuTime(Duration maxEvaluationCpuTime) {
+        return new EvaluationBudgetWaitConstraint(this, getMaxEvaluations(), getMaxEvaluationTime(), maxEvaluationCpuTime);
+    }
 }
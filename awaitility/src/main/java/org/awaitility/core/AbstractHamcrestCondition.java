@@ -26,6 +26,7 @@ public abstract class AbstractHamcrestCondition<T> implements Condition<T> {
     private ConditionAwaiter conditionAwaiter;
 
     private volatile T lastResult;
+    private boolean matchingResultPublished;
     private final ConditionEvaluationHandler<T> conditionEvaluationHandler;
 
     /**
@@ -45,12 +46,23 @@ public abstract class AbstractHamcrestCondition<T> implements Condition<T> {
 
         conditionEvaluationHandler = new ConditionEvaluationHandler<T>(matcher, settings);
         final ConditionEvaluator callable = pollInterval -> {
-            lastResult = supplier.call();
-            boolean matches = matcher.matches(lastResult);
+            final long evaluationStartedNanos = conditionEvaluationHandler.evaluationStarted();
+            long phaseStartedNanos = conditionEvaluationHandler.phaseStarted();
+            final T result = supplier.call();
+            phaseStartedNanos = conditionEvaluationHandler.phaseCompleted(EvaluationPhase.SUPPLIER, phaseStartedNanos);
+            boolean matches = matcher.matches(result);
+            phaseStartedNanos = conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MATCHER, phaseStartedNanos);
+            if (!publishResult(result, matches, settings.isPipelined())) {
+                // A concurrent (pipelined) evaluation has already fulfilled the condition so its result is kept
+                return new ConditionEvaluationResult(matches);
+            }
+            // Use the result of this evaluation, a concurrent (pipelined) evaluation may already have replaced the last result
+            final String message = matches ? getMatchMessage(supplier, matcher) : getMismatchMessage(supplier, matcher, result);
+            conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MESSAGE_GENERATION, phaseStartedNanos);
             if (matches) {
-                conditionEvaluationHandler.handleConditionResultMatch(getMatchMessage(supplier, matcher), lastResult, pollInterval);
+                conditionEvaluationHandler.handleConditionResultMatch(message, result, pollInterval, evaluationStartedNanos);
             } else {
-                conditionEvaluationHandler.handleConditionResultMismatch(getMismatchMessage(supplier, matcher), lastResult, pollInterval);
+                conditionEvaluationHandler.handleConditionResultMismatch(message, result, pollInterval, evaluationStartedNanos);
             }
             return new ConditionEvaluationResult(matches);
 
@@ -58,21 +70,29 @@ public abstract class AbstractHamcrestCondition<T> implements Condition<T> {
         conditionAwaiter = new ConditionAwaiter(callable, settings) {
             @Override
             protected String getTimeoutMessage() {
-                return getMismatchMessage(supplier, matcher);
+                return getMismatchMessage(supplier, matcher, lastResult);
             }
         };
     }
 
+    private synchronized boolean publishResult(T result, boolean matches, boolean pipelined) {
+        if (pipelined && matchingResultPublished) {
+            return false;
+        }
+        lastResult = result;
+        matchingResultPublished = matches;
+        return true;
+    }
 
     private String getMatchMessage(Callable<T> supplier, Matcher<? super T> matcher) {
         return String.format("%s reached its end value of %s", getCallableDescription(supplier), HamcrestToStringFilter.filter(matcher));
     }
 
-    private String getMismatchMessage(Callable<T> supplier, Matcher<? super T> matcher) {
+    private String getMismatchMessage(Callable<T> supplier, Matcher<? super T> matcher, T result) {
         Description mismatchDescription = new StringDescription();
-        matcher.describeMismatch(lastResult, mismatchDescription);
+        matcher.describeMismatch(result, mismatchDescription);
         if (mismatchDescription.toString() != null && mismatchDescription.toString().isEmpty()) {
-            mismatchDescription.appendText("was ").appendValue(lastResult);
+            mismatchDescription.appendText("was ").appendValue(result);
         }
         return String.format("%s expected %s but %s", getCallableDescription(supplier), HamcrestToStringFilter.filter(matcher), mismatchDescription);
     }
@@ -49,13 +49,22 @@ public class AssertionCondition implements Condition<Void> {
         conditionEvaluationHandler = new ConditionEvaluationHandler<Object>(null, settings);
 
         final ConditionEvaluator callable = pollInterval -> {
+            final long evaluationStartedNanos = conditionEvaluationHandler.evaluationStarted();
+            long phaseStartedNanos = conditionEvaluationHandler.phaseStarted();
             try {
                 supplier.run();
-                conditionEvaluationHandler.handleConditionResultMatch(getMatchMessage(supplier, settings.getAlias()), null, pollInterval);
+                phaseStartedNanos = conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MATCHER, phaseStartedNanos);
+                final String matchMessage = getMatchMessage(supplier, settings.getAlias());
+                conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MESSAGE_GENERATION, phaseStartedNanos);
+                conditionEvaluationHandler.handleConditionResultMatch(matchMessage, null, pollInterval, evaluationStartedNanos);
                 return new ConditionEvaluationResult(true);
             } catch (AssertionError e) {
+                // The assertion is both the supplier and the matcher so its time is accounted to the matcher
+                phaseStartedNanos = conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MATCHER, phaseStartedNanos);
                 lastExceptionMessage = e.getMessage();
-                conditionEvaluationHandler.handleConditionResultMismatch(getMismatchMessage(supplier, lastExceptionMessage, settings.getAlias(), true), null, pollInterval);
+                final String mismatchMessage = getMismatchMessage(supplier, lastExceptionMessage, settings.getAlias(), true);
+                conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MESSAGE_GENERATION, phaseStartedNanos);
+                conditionEvaluationHandler.handleConditionResultMismatch(mismatchMessage, null, pollInterval, evaluationStartedNanos);
                 return new ConditionEvaluationResult(false, null, e);
             } catch (Throwable throwable) {
                 return CheckedExceptionRethrower.safeRethrow(throwable);
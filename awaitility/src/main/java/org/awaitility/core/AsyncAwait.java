@@ -0,0 +1,448 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+import org.awaitility.clock.Ticker;
+import org.awaitility.metrics.AwaitilityMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.core.ConditionAwaiter.decapitalize;
+import static org.awaitility.core.ConditionAwaiter.describeEvaluationBudget;
+import static org.awaitility.core.ConditionAwaiter.executeFailFastConditionIfDefined;
+import static org.awaitility.core.ConditionAwaiter.newEvaluationTimeoutException;
+import static org.awaitility.core.ConditionAwaiter.saturatedToNanos;
+import static org.awaitility.core.ForeverDuration.isForever;
+import static org.awaitility.core.TemporalDuration.formatAsString;
+
+/**
+ * The polling logic of an await statement whose condition is evaluated, and whose poll interval is waited for, by the caller instead of
+ * by a thread that Awaitility blocks. It's used by the language extensions that await conditions without blocking a thread, such as the
+ * Kotlin coroutine and Scala future extensions, so that they apply the settings of the condition factory the same way as Awaitility does.
+ * <p>
+ * The caller waits for the {@link #getPollDelay() poll delay} and then, for each poll, calls {@link #beginEvaluation()}, evaluates the
+ * condition within the returned time limit and reports the outcome using {@link #conditionEvaluated(boolean, Object, String)},
+ * {@link #assertionFailed(AssertionError)}, {@link #exceptionThrown(Throwable)} or {@link #evaluationTimedOut()}. These return the time
+ * to wait before the next poll, or <code>null</code> once the condition is fulfilled, and throw the exception that the await statement
+ * fails with, such as a {@link ConditionTimeoutException}, if it fails. Call {@link #cancel()} if the caller gives up on the await
+ * statement, for example because the calling coroutine was cancelled.
+ * </p>
+ * <p>
+ * The timeout (capped by the enclosing {@link AwaitBudget} or await statement), poll delay, poll interval, min wait time, hold predicate
+ * time, ignored exceptions, fail-fast condition, evaluation budget, evaluation timeout, uncaught exceptions, condition evaluation listener,
+ * {@link AwaitilityMetrics metrics}, the await registry and Flight Recorder events are supported. Since the condition is not evaluated by
+ * Awaitility, the executor service is not used, an uncaught exception fails the await statement when the current evaluation completes
+ * rather than immediately and await statements started by the condition are not capped by the timeout of this await statement.
+ * Profiling, pipelined evaluations, a max evaluation CPU time and a custom clock are not supported, {@link #start(ConditionSettings)}
+ * throws an {@link IllegalStateException} if they're used.
+ * </p>
+ * <p>
+ * The methods may be called from different threads but the evaluations must not overlap.
+ * </p>
+ *
+ * @since 4.3.1
+ */
+public final class AsyncAwait {
+
+    private final ConditionSettings settings;
+    private final Ticker ticker;
+    private final Duration maxWaitTime;
+    // The deadline of the enclosing await budget or await statement if it caps the timeout, otherwise null
+    private final Deadline enclosingDeadline;
+    private final AwaitilityMetrics metrics;
+    private final String metricsName;
+    private final String callSite;
+    private final ConditionEvaluationHandler<Object> conditionEvaluationHandler;
+    private final InFlightAwait inFlightAwait;
+    private final UncaughtExceptionCatcher uncaughtExceptionCatcher;
+    private final AtomicReference<Throwable> uncaughtThrowable = new AtomicReference<>();
+    private final long awaitStartedNanos;
+    private final long startedNanos;
+
+    private Duration pollInterval;
+    private int pollCount;
+    private boolean satisfiedBefore;
+    private long firstSatisfiedNanos;
+    private long evaluationStartedNanos;
+    private long consumedEvaluationNanos;
+    private Object flightRecorderEvent;
+    private Throwable lastIgnoredException;
+    private boolean completed;
+    // Read by the await registry
+    private volatile String lastMismatch = "Condition was not evaluated";
+
+    private AsyncAwait(ConditionSettings settings, Ticker ticker) {
+        this.settings = settings;
+        this.ticker = ticker;
+        // Never wait longer than what remains of the await budget or await statement that this await statement is started in
+        final Deadline deadline = Deadline.current();
+        final Duration enclosingRemainingTime = deadline == null ? ForeverDuration.FOREVER : deadline.remaining();
+        this.enclosingDeadline = enclosingRemainingTime.compareTo(settings.getMaxWaitTime()) < 0 ? deadline : null;
+        this.maxWaitTime = enclosingDeadline == null ? settings.getMaxWaitTime() : enclosingRemainingTime;
+        this.metrics = settings.getMetrics();
+        // Finding the call site requires walking the stack so only do it if someone is interested in it
+        this.callSite = metrics != null && metrics.usesName() && !settings.hasAlias() || settings.getConditionEvaluationListener() != null
+                || FlightRecorderEvents.isEnabled() ? CallSite.find() : null;
+        this.metricsName = metrics == null ? null : settings.hasAlias() ? settings.getAlias() : callSite;
+        this.conditionEvaluationHandler = new ConditionEvaluationHandler<>(null, settings, ticker);
+        this.pollInterval = settings.getPollDelay();
+        this.awaitStartedNanos = System.nanoTime();
+        this.inFlightAwait = AwaitRegistry.getInstance().awaitStarted(settings.getAlias(), () -> callSite == null ? "unknown" : callSite,
+                maxWaitTime, pollInterval, () -> lastMismatch);
+        if (settings.shouldCatchUncaughtExceptions()) {
+            uncaughtExceptionCatcher = new UncaughtExceptionCatcher();
+            UncaughtExceptionDispatcher.getInstance().register(uncaughtExceptionCatcher);
+        } else {
+            uncaughtExceptionCatcher = null;
+        }
+        this.startedNanos = ticker.nanoTime();
+    }
+
+    /**
+     * Start an await statement that uses the clock of the settings.
+     *
+     * @param settings The settings of the condition factory
+     * @return The await statement
+     * @throws IllegalStateException If the settings use a feature that is not supported
+     */
+    public static AsyncAwait start(ConditionSettings settings) {
+        return start(settings, settings.getTicker());
+    }
+
+    /**
+     * Start an await statement whose timeout and poll intervals are measured by <code>ticker</code>, for example the virtual time of a test scheduler.
+     *
+     * @param settings The settings of the condition factory
+     * @param ticker   The source of time
+     * @return The await statement
+     * @throws IllegalStateException If the settings use a feature that is not supported
+     */
+    public static AsyncAwait start(ConditionSettings settings, Ticker ticker) {
+        if (settings == null) {
+            throw new IllegalArgumentException("Condition settings cannot be null");
+        } else if (ticker == null) {
+            throw new IllegalArgumentException("Ticker cannot be null");
+        }
+        rejectUnsupported(settings.isProfiling(), "Profiling");
+        rejectUnsupported(settings.isPipelined(), "Pipelined condition evaluation");
+        rejectUnsupported(!isForever(settings.getMaxEvaluationCpuTime()), "A max evaluation CPU time");
+        rejectUnsupported(settings.hasCustomClock(), "A custom clock");
+        final AsyncAwait await = new AsyncAwait(settings, ticker);
+        try {
+            await.conditionEvaluationHandler.start(await.callSite);
+        } catch (Throwable e) {
+            throw await.failWith(e);
+        }
+        return await;
+    }
+
+    /**
+     * @return The time to wait before the first poll
+     */
+    public Duration getPollDelay() {
+        return settings.getPollDelay();
+    }
+
+    /**
+     * Called before each evaluation of the condition. Fails the await statement if it has timed out, if the fail-fast condition is
+     * fulfilled or if an uncaught exception has been thrown.
+     *
+     * @return The max time that the evaluation may take, the evaluation timeout or what remains of the timeout of the await statement
+     * if that's shorter. {@link ForeverDuration#FOREVER} if the await statement waits forever and has no evaluation timeout.
+     */
+    public synchronized Duration beginEvaluation() {
+        ensureRunning();
+        try {
+            failIfUncaughtExceptionWasThrown();
+            final Duration remaining = remaining();
+            if (remaining.isZero()) {
+                throw timedOut();
+            }
+            executeFailFastConditionIfDefined(settings);
+            pollCount++;
+            evaluationStartedNanos = System.nanoTime();
+            flightRecorderEvent = FlightRecorderEvents.beginConditionEvaluation();
+            return settings.hasEvaluationTimeout() && settings.getEvaluationTimeout().compareTo(remaining) < 0 ? settings.getEvaluationTimeout() : remaining;
+        } catch (Throwable e) {
+            throw failWith(e);
+        }
+    }
+
+    /**
+     * Called when the condition has been evaluated.
+     *
+     * @param satisfied   <code>true</code> if the condition is fulfilled
+     * @param value       The value of the condition, passed to the condition evaluation listener
+     * @param description Describes the outcome of the evaluation, used in the timeout message if the condition is not fulfilled
+     * @return The time to wait before the next poll or <code>null</code> if the condition is fulfilled and the await statement has completed
+     */
+    public synchronized Duration conditionEvaluated(boolean satisfied, Object value, String description) {
+        ensureRunning();
+        try {
+            if (satisfied) {
+                conditionEvaluationHandler.handleConditionResultMatch(description, value, pollInterval, evaluationStartedNanos);
+            } else {
+                lastMismatch = description;
+                lastIgnoredException = null;
+                conditionEvaluationHandler.handleConditionResultMismatch(description, value, pollInterval, evaluationStartedNanos);
+            }
+            return evaluationCompleted(satisfied, null);
+        } catch (Throwable e) {
+            throw failWith(e);
+        }
+    }
+
+    /**
+     * Called when the evaluation of a condition that is defined as an assertion fails, i.e. when the condition is not fulfilled.
+     *
+     * @param assertionError The assertion error thrown by the evaluation
+     * @return The time to wait before the next poll
+     */
+    public synchronized Duration assertionFailed(AssertionError assertionError) {
+        ensureRunning();
+        lastMismatch = describe(assertionError);
+        lastIgnoredException = assertionError;
+        try {
+            conditionEvaluationHandler.handleConditionResultMismatch(lastMismatch, null, pollInterval, evaluationStartedNanos);
+            return evaluationCompleted(false, assertionError);
+        } catch (Throwable e) {
+            throw failWith(e);
+        }
+    }
+
+    /**
+     * Called when the evaluation of the condition throws an exception. Fails the await statement with the exception unless it's ignored.
+     *
+     * @param throwable The exception thrown by the evaluation
+     * @return The time to wait before the next poll
+     */
+    public synchronized Duration exceptionThrown(Throwable throwable) {
+        ensureRunning();
+        try {
+            if (!settings.shouldExceptionBeIgnored(throwable)) {
+                throw throwable;
+            }
+            lastMismatch = describe(throwable);
+            lastIgnoredException = throwable;
+            return evaluationCompleted(false, throwable);
+        } catch (Throwable e) {
+            throw failWith(e);
+        }
+    }
+
+    /**
+     * Called when the evaluation didn't complete within the time limit returned by {@link #beginEvaluation()}. Fails the await statement
+     * if it has timed out, otherwise the evaluation is treated like an evaluation that threw an ignored exception.
+     *
+     * @return The time to wait before the next poll
+     */
+    public synchronized Duration evaluationTimedOut() {
+        ensureRunning();
+        try {
+            if (remaining().isZero()) {
+                throw timedOut();
+            }
+            final TimeoutException timeoutException = newEvaluationTimeoutException(settings.getEvaluationTimeout());
+            lastMismatch = timeoutException.getMessage();
+            lastIgnoredException = timeoutException;
+            return evaluationCompleted(false, timeoutException);
+        } catch (Throwable e) {
+            throw failWith(e);
+        }
+    }
+
+    /**
+     * Time out the await statement, for callers that enforce the timeout of the await statement with a timer while an evaluation is running.
+     *
+     * @return The exception that the await statement fails with or <code>null</code> if the await statement has already completed
+     */
+    public synchronized ConditionTimeoutException timeout() {
+        if (completed) {
+            return null;
+        }
+        final ConditionTimeoutException timeoutException = timedOut();
+        complete();
+        return timeoutException;
+    }
+
+    /**
+     * Stop the await statement without completing it, for example because the calling coroutine was cancelled. Does nothing if the await
+     * statement has already completed.
+     */
+    public synchronized void cancel() {
+        if (!completed) {
+            complete();
+        }
+    }
+
+    /**
+     * @return The time that remains until the await statement times out, {@link ForeverDuration#FOREVER} if it waits forever
+     */
+    public synchronized Duration remaining() {
+        if (isForever(maxWaitTime)) {
+            return ForeverDuration.FOREVER;
+        }
+        return Duration.ofNanos(Math.max(0L, saturatedToNanos(maxWaitTime) - (ticker.nanoTime() - startedNanos)));
+    }
+
+    private Duration evaluationCompleted(boolean satisfied, Throwable ignoredException) throws Throwable {
+        final long evaluationNanos = System.nanoTime() - evaluationStartedNanos;
+        consumedEvaluationNanos += evaluationNanos;
+        FlightRecorderEvents.endConditionEvaluation(flightRecorderEvent, settings.getAlias(), callSite, satisfied, pollInterval);
+        if (metrics != null) {
+            metrics.conditionEvaluated(metricsName, evaluationNanos);
+        }
+        inFlightAwait.conditionEvaluated(pollCount, pollInterval, satisfied);
+        failIfUncaughtExceptionWasThrown();
+        if (!satisfied) {
+            satisfiedBefore = false;
+        } else if (!satisfiedBefore) {
+            satisfiedBefore = true;
+            firstSatisfiedNanos = ticker.nanoTime();
+        }
+        if (satisfied && ticker.nanoTime() - firstSatisfiedNanos >= saturatedToNanos(settings.getHoldPredicateTime())) {
+            satisfied();
+            return null;
+        }
+        if (ignoredException != null) {
+            conditionEvaluationHandler.handleIgnoredException(ignoredException);
+            inFlightAwait.exceptionIgnored();
+            if (metrics != null) {
+                metrics.exceptionIgnored(metricsName);
+            }
+        }
+        if (pollCount >= settings.getMaxEvaluations() || consumedEvaluationNanos >= saturatedToNanos(settings.getMaxEvaluationTime())) {
+            throw evaluationBudgetExceeded();
+        }
+        pollInterval = settings.getPollInterval().next(pollCount, pollInterval);
+        return pollInterval;
+    }
+
+    private void satisfied() {
+        final Duration elapsed = Duration.ofNanos(ticker.nanoTime() - startedNanos);
+        final Duration minWaitTime = settings.getMinWaitTime();
+        if (elapsed.compareTo(minWaitTime) < 0) {
+            final String message = String.format("Condition was evaluated in %s which is earlier than expected minimum timeout %s",
+                    formatAsString(elapsed), formatAsString(minWaitTime));
+            conditionEvaluationHandler.handleTimeout(message, true);
+            recordTimeout();
+            throw new ConditionTimeoutException(message);
+        }
+        inFlightAwait.satisfied();
+        conditionEvaluationHandler.handleCompleted(pollCount);
+        if (metrics != null) {
+            metrics.awaitSatisfied(metricsName, Duration.ofNanos(System.nanoTime() - awaitStartedNanos), pollCount);
+        }
+        complete();
+    }
+
+    private ConditionTimeoutException timedOut() {
+        String durationAsString = formatAsString(maxWaitTime);
+        if (enclosingDeadline != null) {
+            durationAsString = String.format("%s, the time that remained of %s", durationAsString, enclosingDeadline.describe());
+        }
+        final String message;
+        if (settings.hasAlias()) {
+            message = String.format("Condition with alias '%s' didn't complete within %s because %s.", settings.getAlias(), durationAsString, decapitalize(lastMismatch));
+        } else {
+            message = String.format("%s within %s.", lastMismatch, durationAsString);
+        }
+        conditionEvaluationHandler.handleTimeout(message, false);
+        recordTimeout();
+        return new ConditionTimeoutException(message, lastIgnoredException);
+    }
+
+    private EvaluationBudgetExceededException evaluationBudgetExceeded() {
+        final Duration evaluationTime = Duration.ofNanos(consumedEvaluationNanos);
+        final String budgetAsString = describeEvaluationBudget(settings, pollCount, evaluationTime, null);
+        final String message;
+        if (settings.hasAlias()) {
+            message = String.format("Condition with alias '%s' didn't complete within its evaluation budget because %s (consumed %s).",
+                    settings.getAlias(), decapitalize(lastMismatch), budgetAsString);
+        } else {
+            message = String.format("%s within its evaluation budget (consumed %s).", lastMismatch, budgetAsString);
+        }
+        conditionEvaluationHandler.handleTimeout(message, false);
+        recordTimeout();
+        return new EvaluationBudgetExceededException(message, pollCount, evaluationTime, null);
+    }
+
+    private void recordTimeout() {
+        inFlightAwait.timedOut();
+        if (metrics != null) {
+            metrics.awaitTimedOut(metricsName, Duration.ofNanos(System.nanoTime() - awaitStartedNanos), pollCount);
+        }
+    }
+
+    private void failIfUncaughtExceptionWasThrown() throws Throwable {
+        final Throwable throwable = uncaughtThrowable.get();
+        if (throwable != null) {
+            throw throwable;
+        }
+    }
+
+    private void ensureRunning() {
+        if (completed) {
+            throw new IllegalStateException("The await statement has already completed");
+        }
+    }
+
+    /**
+     * Complete the await statement, if it's still running, and rethrow <code>throwable</code>.
+     */
+    private RuntimeException failWith(Throwable throwable) {
+        if (!completed) {
+            complete();
+        }
+        return CheckedExceptionRethrower.safeRethrow(throwable);
+    }
+
+    private void complete() {
+        completed = true;
+        if (uncaughtExceptionCatcher != null) {
+            UncaughtExceptionDispatcher.getInstance().unregister(uncaughtExceptionCatcher);
+        }
+        AwaitRegistry.getInstance().awaitCompleted(inFlightAwait);
+    }
+
+    private static String describe(Throwable throwable) {
+        return throwable.getMessage() == null ? throwable.toString() : throwable.getMessage();
+    }
+
+    private static void rejectUnsupported(boolean used, String feature) {
+        if (used) {
+            throw new IllegalStateException(feature + " is not supported when the condition is awaited without blocking a thread");
+        }
+    }
+
+    private class UncaughtExceptionCatcher implements UncaughtExceptionDispatcher.Catcher {
+
+        @Override
+        public boolean catchesUncaughtExceptionsFrom(Thread thread) {
+            return settings.shouldCatchUncaughtExceptionFrom(thread);
+        }
+
+        @Override
+        public void uncaughtException(Thread thread, Throwable throwable) {
+            if (!settings.shouldExceptionBeIgnored(throwable)) {
+                uncaughtThrowable.compareAndSet(null, throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ConditionEvaluationListener} that dispatches the events to another listener from a single background thread. The events
+ * are handed over through a bounded lock-free ring buffer so that a slow listener, such as a {@link ConditionEvaluationLogger} writing
+ * to a busy console, doesn't delay the condition evaluations. For example:
+ * <pre>
+ * await().conditionEvaluationListener(async(new ConditionEvaluationLogger())).until(..);
+ * </pre>
+ * What happens when the buffer is full is defined by the {@link OverflowPolicy}, by default events are dropped.
+ * <p>
+ * Note that the events are delivered after the condition has been evaluated so the delegate listener may see a later state of
+ * mutable condition values. Call {@link #flush(Duration)} to wait for the events that have been dispatched so far to be delivered,
+ * for example before asserting on what the delegate listener has recorded. Exceptions thrown by the delegate listener are passed to
+ * the uncaught exception handler of the dispatcher thread. The dispatcher thread is started when needed and stops after being idle for
+ * a second.
+ * </p>
+ *
+ * @param <T> The expected return type of the condition
+ * @since 4.3.1
+ */
+public class AsyncConditionEvaluationListener<T> implements ConditionEvaluationListener<T> {
+
+    /**
+     * Defines what happens when an event is dispatched and the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the event
+         */
+        DROP,
+        /**
+         * Once the buffer is half full only every {@value AsyncConditionEvaluationListener#SAMPLE_RATE}th condition evaluated event is kept,
+         * other kinds of events are always kept. Events that don't fit are dropped.
+         */
+        SAMPLE,
+        /**
+         * Block the evaluating thread until there's room in the buffer
+         */
+        BLOCK
+    }
+
+    /**
+     * The default capacity of the buffer
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The rate with which condition evaluated events are sampled by {@link OverflowPolicy#SAMPLE}
+     */
+    public static final int SAMPLE_RATE = 10;
+
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = 50_000L;
+    private static final long FLUSH_PARK_NANOS = 1_000_000L;
+    private static final long DISPATCHER_IDLE_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private final ConditionEvaluationListener<T> delegate;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final BoundedRingBuffer<Consumer<ConditionEvaluationListener<T>>> buffer;
+    private final AtomicBoolean dispatcherStarted = new AtomicBoolean();
+    private final AtomicLong enqueuedEvents = new AtomicLong();
+    private final AtomicLong sampledEvents = new AtomicLong();
+    private final LongAdder droppedEvents = new LongAdder();
+    private volatile long deliveredEvents;
+    private volatile boolean dispatcherParked;
+    private volatile Thread dispatcher;
+
+    /**
+     * Create a new instance that dispatches the events to <code>delegate</code> using a buffer with the {@link #DEFAULT_CAPACITY} and
+     * the {@link OverflowPolicy#DROP} overflow policy.
+     *
+     * @param delegate The listener to dispatch the events to
+     */
+    public AsyncConditionEvaluationListener(ConditionEvaluationListener<T> delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Create a new instance that dispatches the events to <code>delegate</code>.
+     *
+     * @param delegate       The listener to dispatch the events to
+     * @param capacity       The capacity of the buffer, rounded up to the next power of two
+     * @param overflowPolicy What to do when the buffer is full
+     */
+    public AsyncConditionEvaluationListener(ConditionEvaluationListener<T> delegate, int capacity, OverflowPolicy overflowPolicy) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate listener cannot be null");
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new BoundedRingBuffer<>(capacity);
+    }
+
+    /**
+     * Syntactic sugar for <code>new AsyncConditionEvaluationListener(delegate)</code>
+     *
+     * @param delegate The listener to dispatch the events to
+     * @param <T>      The expected return type of the condition
+     * @return A new instance of {@link AsyncConditionEvaluationListener}
+     */
+    public static <T> AsyncConditionEvaluationListener<T> async(ConditionEvaluationListener<T> delegate) {
+        return new AsyncConditionEvaluationListener<>(delegate);
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same instance of {@link AsyncConditionEvaluationListener}
+     */
+    public AsyncConditionEvaluationListener<T> with() {
+        return this;
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same instance of {@link AsyncConditionEvaluationListener}
+     */
+    public AsyncConditionEvaluationListener<T> and() {
+        return this;
+    }
+
+    /**
+     * Create a new {@link AsyncConditionEvaluationListener} that uses a buffer with the given capacity
+     *
+     * @param capacity The capacity of the buffer, rounded up to the next power of two
+     * @return A new instance of {@link AsyncConditionEvaluationListener}
+     */
+    public AsyncConditionEvaluationListener<T> capacity(int capacity) {
+        return new AsyncConditionEvaluationListener<>(delegate, capacity, overflowPolicy);
+    }
+
+    /**
+     * Create a new {@link AsyncConditionEvaluationListener} that uses the given overflow policy
+     *
+     * @param overflowPolicy What to do when the buffer is full
+     * @return A new instance of {@link AsyncConditionEvaluationListener}
+     */
+    public AsyncConditionEvaluationListener<T> overflowPolicy(OverflowPolicy overflowPolicy) {
+        return new AsyncConditionEvaluationListener<>(delegate, capacity, overflowPolicy);
+    }
+
+    @Override
+    public void conditionEvaluated(EvaluatedCondition<T> condition) {
+        if (overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() >= buffer.capacity() / 2
+                && sampledEvents.getAndIncrement() % SAMPLE_RATE != 0) {
+            droppedEvents.increment();
+            return;
+        }
+        dispatch(listener -> listener.conditionEvaluated(condition));
+    }
+
+    @Override
+    public void beforeEvaluation(StartEvaluationEvent<T> startEvaluationEvent) {
+        dispatch(listener -> listener.beforeEvaluation(startEvaluationEvent));
+    }
+
+    @Override
+    public void onTimeout(TimeoutEvent timeoutEvent) {
+        dispatch(listener -> listener.onTimeout(timeoutEvent));
+    }
+
+    @Override
+    public void onCompleted(CompletedEvent completedEvent) {
+        dispatch(listener -> listener.onCompleted(completedEvent));
+    }
+
+    @Override
+    public void exceptionIgnored(IgnoredException ignoredException) {
+        dispatch(listener -> listener.exceptionIgnored(ignoredException));
+    }
+
+    /**
+     * Wait until the events that have been dispatched so far have been delivered to the delegate listener.
+     *
+     * @param timeout The max time to wait
+     * @return <code>true</code> if all events were delivered, <code>false</code> if the timeout elapsed first
+     */
+    public boolean flush(Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("Timeout cannot be null");
+        }
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final long enqueued = enqueuedEvents.get();
+        while (deliveredEvents < enqueued) {
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(FLUSH_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of events that have been dropped because the buffer was full or because they were not sampled
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    private void dispatch(Consumer<ConditionEvaluationListener<T>> event) {
+        boolean enqueued = buffer.offer(event);
+        if (!enqueued && overflowPolicy == OverflowPolicy.BLOCK) {
+            while (!enqueued && !Thread.currentThread().isInterrupted()) {
+                startOrWakeUpDispatcher();
+                LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+                enqueued = buffer.offer(event);
+            }
+        }
+        if (enqueued) {
+            enqueuedEvents.incrementAndGet();
+            startOrWakeUpDispatcher();
+        } else {
+            droppedEvents.increment();
+        }
+    }
+
+    private void startOrWakeUpDispatcher() {
+        if (!dispatcherStarted.get() && dispatcherStarted.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::deliverEvents, "awaitility-listener-dispatcher");
+            thread.setDaemon(true);
+            dispatcher = thread;
+            thread.start();
+        } else if (dispatcherParked) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+
+    private void deliverEvents() {
+        final Thread currentThread = Thread.currentThread();
+        long idleSinceNanos = System.nanoTime();
+        while (true) {
+            final Consumer<ConditionEvaluationListener<T>> event = buffer.poll();
+            if (event == null) {
+                if (System.nanoTime() - idleSinceNanos >= DISPATCHER_IDLE_TIMEOUT_NANOS) {
+                    // Stop the idle dispatcher unless an event was added before the producer could see that it's stopping
+                    dispatcherStarted.set(false);
+                    if (buffer.size() == 0 || !dispatcherStarted.compareAndSet(false, true)) {
+                        return;
+                    }
+                    dispatcher = currentThread;
+                    idleSinceNanos = System.nanoTime();
+                    continue;
+                }
+                dispatcherParked = true;
+                // Check again since a producer may have added an event before it saw that the dispatcher is parked
+                if (buffer.size() == 0) {
+                    LockSupport.parkNanos(this, DISPATCHER_IDLE_TIMEOUT_NANOS);
+                }
+                dispatcherParked = false;
+                continue;
+            }
+            try {
+                event.accept(delegate);
+            } catch (Throwable e) {
+                currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, e);
+            } finally {
+                deliveredEvents = deliveredEvents + 1;
+                idleSinceNanos = System.nanoTime();
+            }
+        }
+    }
+}
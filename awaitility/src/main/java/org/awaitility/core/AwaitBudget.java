@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.clock.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static org.awaitility.core.ForeverDuration.isForever;
+import static org.awaitility.core.TemporalDuration.formatAsString;
+
+/**
+ * An overall deadline for a sequence of await statements. Await statements started while the budget is bound wait at most for
+ * the time that remains of the budget, even if their own timeout is longer. This bounds the worst-case runtime of a test that
+ * chains several await statements. For example:
+ * <pre>
+ * AwaitBudget budget = AwaitBudget.of(Duration.ofMinutes(2));
+ * try (AwaitBudget.Scope ignored = budget.bind()) {
+ *     await().atMost(Duration.ofMinutes(1)).until(orderService::isStarted);
+ *     await().atMost(Duration.ofMinutes(1)).until(order::isShipped);
+ *     await().atMost(Duration.ofMinutes(1)).until(order::isDelivered); // Waits at most for what remains of the 2 minutes
+ * }
+ * </pre>
+ * The time of the budget starts running when the budget is created. A budget is bound to the current thread only, bind it to other threads
+ * explicitly, for example using {@link #run(Runnable)}. Await statements started while an exhausted budget is bound time out immediately.
+ * Budgets can be nested, the inner budget never exceeds the time that remains of the outer budget.
+ * <p>
+ * Note that every await statement also binds its own timeout as a deadline while it's running, so an await statement that is started
+ * while evaluating the condition (or fail-fast condition) of another await statement never waits longer than the enclosing await statement.
+ *
+ * @since 4.3.1
+ */
+public final class AwaitBudget {
+
+    private final Duration total;
+    private final Deadline deadline;
+
+    private AwaitBudget(Duration total, Ticker ticker) {
+        if (total == null) {
+            throw new IllegalArgumentException("Total cannot be null");
+        } else if (total.isNegative() || total.isZero()) {
+            throw new IllegalArgumentException("Total must be greater than zero");
+        }
+        if (ticker == null) {
+            throw new IllegalArgumentException("Ticker cannot be null");
+        }
+        this.total = total;
+        this.deadline = Deadline.after(ticker, total, isForever(total) ? "the await budget" : "the await budget of " + formatAsString(total), false);
+    }
+
+    /**
+     * Create a new budget that expires <code>total</code> from now.
+     *
+     * @param total The total time of the budget
+     * @return The budget
+     */
+    public static AwaitBudget of(Duration total) {
+        return new AwaitBudget(total, Ticker.system());
+    }
+
+    /**
+     * Create a new budget that expires <code>total</code> from now according to the supplied ticker, for example a
+     * {@link org.awaitility.clock.VirtualClock}.
+     *
+     * @param total  The total time of the budget
+     * @param ticker The source of time of the budget
+     * @return The budget
+     */
+    public static AwaitBudget of(Duration total, Ticker ticker) {
+        return new AwaitBudget(total, ticker);
+    }
+
+    /**
+     * @return The total time of the budget
+     */
+    public Duration getTotal() {
+        return total;
+    }
+
+    /**
+     * @return The time that remains of the budget, or of an enclosing budget or await statement if it expires earlier
+     */
+    public Duration getRemaining() {
+        return deadline.remaining();
+    }
+
+    /**
+     * @return <code>true</code> if there's no time left of the budget
+     */
+    public boolean isExhausted() {
+        return getRemaining().isZero();
+    }
+
+    /**
+     * Bind this budget to the current thread until the returned scope is closed. The budget is not inherited by threads created by the
+     * current thread. Scopes can be nested and must be closed by the thread that bound them, in the reverse order.
+     *
+     * @return The scope, close it to unbind the budget
+     */
+    public Scope bind() {
+        final Deadline boundDeadline = deadline.nestedIn(Deadline.current());
+        return new Scope(boundDeadline, boundDeadline.bind());
+    }
+
+    /**
+     * Run <code>runnable</code> with this budget bound to the current thread.
+     *
+     * @param runnable The code to run
+     */
+    public void run(Runnable runnable) {
+        try (Scope ignored = bind()) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Call <code>callable</code> with this budget bound to the current thread.
+     *
+     * @param callable The code to call
+     * @param <T>      The type of the result
+     * @return The result of the callable
+     */
+    public <T> T call(Callable<T> callable) {
+        try (Scope ignored = bind()) {
+            return callable.call();
+        } catch (Exception e) {
+            return CheckedExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AwaitBudget{" +
+                "total=" + total +
+                ", remaining=" + getRemaining() +
+                '}';
+    }
+
+    /**
+     * A budget bound to a thread, see {@link AwaitBudget#bind()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Deadline boundDeadline;
+        private final Deadline previous;
+        private final Thread owner;
+        private boolean closed;
+
+        private Scope(Deadline boundDeadline, Deadline previous) {
+            this.boundDeadline = boundDeadline;
+            this.previous = previous;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * Unbind the budget and restore the deadline that was bound before
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner || Deadline.current() != boundDeadline) {
+                throw new IllegalStateException("A scope must be closed by the thread that bound it and nested scopes must be closed first");
+            }
+            closed = true;
+            boundDeadline.release();
+            Deadline.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The time spent in each {@link EvaluationPhase} of the evaluations of an await statement. This is available when profiling is enabled,
+ * see {@link ConditionFactory#profiling()}.
+ *
+ * @since 4.3.1
+ */
+public class AwaitProfile {
+
+    private final String alias;
+    private final Duration awaitTime;
+    private final int evaluations;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+    private final long[] counts;
+
+    AwaitProfile(String alias, Duration awaitTime, int evaluations, long[] totalNanos, long[] maxNanos, long[] counts) {
+        this.alias = alias;
+        this.awaitTime = awaitTime;
+        this.evaluations = evaluations;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.counts = counts;
+    }
+
+    /**
+     * @return The alias of the await statement or <code>null</code> if it doesn't have an alias
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return The time from the start of the await statement until the profile was taken
+     */
+    public Duration getAwaitTime() {
+        return awaitTime;
+    }
+
+    /**
+     * @return The number of completed condition evaluations
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @param phase The phase
+     * @return The total time spent in the phase
+     */
+    public Duration getTotalTime(EvaluationPhase phase) {
+        return Duration.ofNanos(totalNanos[phase.ordinal()]);
+    }
+
+    /**
+     * @param phase The phase
+     * @return The longest time spent in the phase at once
+     */
+    public Duration getMaxTime(EvaluationPhase phase) {
+        return Duration.ofNanos(maxNanos[phase.ordinal()]);
+    }
+
+    /**
+     * @param phase The phase
+     * @return The number of times the phase was measured
+     */
+    public long getCount(EvaluationPhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * @return The total time spent in the phases that run the code of the condition, see {@link EvaluationPhase#isConditionCode()}
+     */
+    public Duration getConditionTime() {
+        return sumOfPhases(true);
+    }
+
+    /**
+     * @return The total time spent in the phases that are caused by Awaitility, see {@link EvaluationPhase#isConditionCode()}
+     */
+    public Duration getAwaitilityOverhead() {
+        return sumOfPhases(false);
+    }
+
+    /**
+     * @return A human readable summary of the profile
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Profile of await statement").append(alias == null ? "" : " with alias " + alias)
+                .append(" (").append(millis(awaitTime.toNanos())).append(", ").append(evaluations)
+                .append(evaluations == 1 ? " evaluation)" : " evaluations)");
+        for (EvaluationPhase phase : EvaluationPhase.values()) {
+            final int index = phase.ordinal();
+            final long count = counts[index];
+            summary.append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT, "  %-20s total %12s, avg %12s, max %12s (%d)", phase.getDescription(), millis(totalNanos[index]),
+                            millis(count == 0 ? 0L : totalNanos[index] / count), millis(maxNanos[index]), count));
+        }
+        summary.append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "  %-20s %s", "condition", millis(getConditionTime().toNanos())))
+                .append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "  %-20s %s", "awaitility overhead", millis(getAwaitilityOverhead().toNanos())));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    private Duration sumOfPhases(boolean conditionCode) {
+        long nanos = 0;
+        for (EvaluationPhase phase : EvaluationPhase.values()) {
+            if (phase.isConditionCode() == conditionCode) {
+                nanos += totalNanos[phase.ordinal()];
+            }
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0d);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects the time spent in each {@link EvaluationPhase} of an await statement. Phases are recorded both by the thread awaiting
+ * the condition and by the threads evaluating it.
+ */
+class AwaitProfiler {
+
+    private static final int NUMBER_OF_PHASES = EvaluationPhase.values().length;
+
+    private final AtomicLongArray totalNanos = new AtomicLongArray(NUMBER_OF_PHASES);
+    private final AtomicLongArray maxNanos = new AtomicLongArray(NUMBER_OF_PHASES);
+    private final AtomicLongArray counts = new AtomicLongArray(NUMBER_OF_PHASES);
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private volatile long startedNanos = System.nanoTime();
+
+    void start() {
+        startedNanos = System.nanoTime();
+    }
+
+    void evaluationCompleted() {
+        evaluations.incrementAndGet();
+    }
+
+    void record(EvaluationPhase phase, long nanos) {
+        final int index = phase.ordinal();
+        final long nonNegativeNanos = Math.max(0L, nanos);
+        totalNanos.addAndGet(index, nonNegativeNanos);
+        counts.incrementAndGet(index);
+        long max = maxNanos.get(index);
+        while (nonNegativeNanos > max && !maxNanos.compareAndSet(index, max, nonNegativeNanos)) {
+            max = maxNanos.get(index);
+        }
+    }
+
+    AwaitProfile snapshot(String alias) {
+        final Duration awaitTime = Duration.ofNanos(System.nanoTime() - startedNanos);
+        long[] totals = new long[NUMBER_OF_PHASES];
+        long[] maxima = new long[NUMBER_OF_PHASES];
+        long[] numberOfMeasurements = new long[NUMBER_OF_PHASES];
+        for (int i = 0; i < NUMBER_OF_PHASES; i++) {
+            totals[i] = totalNanos.get(i);
+            maxima[i] = maxNanos.get(i);
+            numberOfMeasurements[i] = counts.get(i);
+        }
+        return new AwaitProfile(alias, awaitTime, evaluations.get(), totals, maxima, numberOfMeasurements);
+    }
+}
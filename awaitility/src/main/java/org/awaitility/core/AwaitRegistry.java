@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.management.AwaitInfo;
+import org.awaitility.management.AwaitilityMXBean;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps track of all await statements that are currently blocking in the JVM as well as aggregate counters for all await statements.
+ * This makes it possible to find out what a stalled test or readiness check is waiting for without taking thread dumps. The registry
+ * can be queried on demand, for example:
+ * <pre>
+ * System.out.println(AwaitRegistry.getInstance().dumpInFlightAwaits());
+ * </pre>
+ * or over JMX after calling {@link #registerMXBean()}. Tracking an await statement only adds (and later removes) an entry to a
+ * concurrent set, everything else (such as the call site) is computed when the registry is queried. The mismatch message is
+ * computed lazily by the thread running the await statement, after the first evaluation that follows a query. A query therefore reports the
+ * message requested by an earlier query (none for the first one) and never runs user code itself.
+ *
+ * @since 4.3.1
+ */
+public final class AwaitRegistry implements AwaitilityMXBean {
+
+    /**
+     * The object name of the {@link AwaitilityMXBean}
+     */
+    public static final String OBJECT_NAME = "org.awaitility:type=Awaitility";
+
+    private static final AwaitRegistry INSTANCE = new AwaitRegistry();
+
+    private final Set<InFlightAwait> inFlightAwaits = ConcurrentHashMap.newKeySet();
+    private final LongAdder startedAwaits = new LongAdder();
+    private final LongAdder satisfiedAwaits = new LongAdder();
+    private final LongAdder timedOutAwaits = new LongAdder();
+    private final LongAdder failedAwaits = new LongAdder();
+    private final LongAdder conditionEvaluations = new LongAdder();
+    private final LongAdder ignoredExceptions = new LongAdder();
+
+    private AwaitRegistry() {
+    }
+
+    /**
+     * @return The registry of the JVM
+     */
+    public static AwaitRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the {@link AwaitilityMXBean} in the platform MBean server under the name {@value #OBJECT_NAME}. Does nothing if it's already registered.
+     */
+    public static synchronized void registerMXBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(INSTANCE, objectName);
+            }
+        } catch (InstanceAlreadyExistsException ignored) {
+            // Registered by someone else in between
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register " + AwaitilityMXBean.class.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Unregister the {@link AwaitilityMXBean} from the platform MBean server. Does nothing if it's not registered.
+     */
+    public static synchronized void unregisterMXBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException ignored) {
+            // Not registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister " + AwaitilityMXBean.class.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Called when an await statement starts.
+     *
+     * @param alias           The alias of the await statement, may be <code>null</code>
+     * @param callSite        Supplies the call site of the await statement, only called when the registry is queried
+     * @param maxWaitTime     The max time to wait for the condition
+     * @param pollInterval    The initial poll interval
+     * @param mismatchMessage Supplies a message describing why the condition was not fulfilled, only called by the thread running the await statement
+     * @return The handle that Awaitility uses to update the registry
+     */
+    InFlightAwait awaitStarted(String alias, Supplier<String> callSite, Duration maxWaitTime, Duration pollInterval, Supplier<String> mismatchMessage) {
+        if (callSite == null) {
+            throw new IllegalArgumentException("Call site supplier cannot be null");
+        }
+        if (mismatchMessage == null) {
+            throw new IllegalArgumentException("Mismatch message supplier cannot be null");
+        }
+        InFlightAwait inFlightAwait = new InFlightAwait(this, alias, callSite, maxWaitTime, pollInterval, mismatchMessage);
+        startedAwaits.increment();
+        inFlightAwaits.add(inFlightAwait);
+        return inFlightAwait;
+    }
+
+    /**
+     * Called when an await statement is completed, regardless of how.
+     *
+     * @param inFlightAwait The handle returned by {@link #awaitStarted(String, Supplier, Duration, Duration, Supplier)}
+     */
+    void awaitCompleted(InFlightAwait inFlightAwait) {
+        if (inFlightAwait == null || !inFlightAwaits.remove(inFlightAwait)) {
+            return;
+        }
+        switch (inFlightAwait.getOutcome()) {
+            case SATISFIED:
+                satisfiedAwaits.increment();
+                break;
+            case TIMED_OUT:
+                timedOutAwaits.increment();
+                break;
+            default:
+                failedAwaits.increment();
+        }
+    }
+
+    void conditionEvaluated() {
+        conditionEvaluations.increment();
+    }
+
+    void exceptionIgnored() {
+        ignoredExceptions.increment();
+    }
+
+    @Override
+    public List<AwaitInfo> getInFlightAwaits() {
+        List<InFlightAwait> awaits = new ArrayList<>(inFlightAwaits);
+        awaits.sort(Comparator.comparingLong(InFlightAwait::getStartTime));
+        return awaits.stream().map(InFlightAwait::snapshot).collect(toList());
+    }
+
+    @Override
+    public int getInFlightAwaitCount() {
+        return inFlightAwaits.size();
+    }
+
+    @Override
+    public long getStartedAwaitCount() {
+        return startedAwaits.sum();
+    }
+
+    @Override
+    public long getSatisfiedAwaitCount() {
+        return satisfiedAwaits.sum();
+    }
+
+    @Override
+    public long getTimedOutAwaitCount() {
+        return timedOutAwaits.sum();
+    }
+
+    @Override
+    public long getFailedAwaitCount() {
+        return failedAwaits.sum();
+    }
+
+    @Override
+    public long getConditionEvaluationCount() {
+        return conditionEvaluations.sum();
+    }
+
+    @Override
+    public long getIgnoredExceptionCount() {
+        return ignoredExceptions.sum();
+    }
+
+    @Override
+    public String dumpInFlightAwaits() {
+        List<AwaitInfo> awaits = getInFlightAwaits();
+        StringBuilder dump = new StringBuilder();
+        dump.append(awaits.size()).append(awaits.size() == 1 ? " await statement" : " await statements").append(" in flight");
+        for (AwaitInfo await : awaits) {
+            dump.append(System.lineSeparator()).append("  ");
+            if (await.getAlias() != null) {
+                dump.append('\'').append(await.getAlias()).append("' ");
+            }
+            dump.append("at ").append(await.getCallSite())
+                    .append(" in thread \"").append(await.getThreadName()).append('"')
+                    .append(" for ").append(await.getElapsedTimeInMS()).append(" ms");
+            if (await.getRemainingTimeInMS() != Long.MAX_VALUE) {
+                dump.append(" (").append(await.getRemainingTimeInMS()).append(" ms remaining)");
+            }
+            dump.append(", polled ").append(await.getPollCount()).append(await.getPollCount() == 1 ? " time" : " times")
+                    .append(" with poll interval ").append(await.getPollIntervalInMS()).append(" ms");
+            if (await.getLastMismatchMessage() != null) {
+                dump.append(": ").append(await.getLastMismatchMessage());
+            }
+        }
+        return dump.toString();
+    }
+
+    @Override
+    public void resetCounters() {
+        startedAwaits.reset();
+        satisfiedAwaits.reset();
+        timedOutAwaits.reset();
+        failedAwaits.reset();
+        conditionEvaluations.reset();
+        ignoredExceptions.reset();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer. Each slot has a sequence number that tells producers whether
+ * the slot is free for the current lap and the consumer whether it has been published (see Dmitry Vyukov's bounded MPMC queue).
+ * Only one thread may call {@link #poll()}.
+ *
+ * @param <E> The type of the elements
+ */
+class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity The capacity of the buffer, rounded up to the next power of two
+     */
+    BoundedRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30) + " (was " + capacity + ")");
+        }
+        final int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = powerOfTwoCapacity - 1;
+        this.elements = new AtomicReferenceArray<>(powerOfTwoCapacity);
+        this.sequences = new AtomicLongArray(powerOfTwoCapacity);
+        for (int i = 0; i < powerOfTwoCapacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @param element The element to add, cannot be <code>null</code>
+     * @return <code>true</code> if the element was added, <code>false</code> if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // Publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot has not yet been consumed in the previous lap
+                return false;
+            } else {
+                // Another producer claimed the slot
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return The oldest element or <code>null</code> if the buffer is empty
+     */
+    E poll() {
+        final long position = head.get();
+        final int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        final E element = elements.get(index);
+        elements.lazySet(index, null);
+        // Frees the slot for the next lap
+        sequences.set(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * May only be called by the consumer.
+     *
+     * @return <code>true</code> if {@link #poll()} would return <code>null</code>, i.e. if the oldest element has not been published
+     */
+    boolean isEmpty() {
+        final long position = head.get();
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    /**
+     * @return The approximate number of elements in the buffer
+     */
+    int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0L, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
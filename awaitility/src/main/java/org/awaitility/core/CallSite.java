@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+/**
+ * Finds the call site of an await statement, i.e. the first frame of the current stack trace after the Awaitility frames, skipping
+ * the frames of its language extensions and of the JDK.
+ */
+class CallSite {
+
+    private static final String CORE_PACKAGE = "org.awaitility.core.";
+    private static final String[] SKIPPED_PREFIXES = {
+            "org.awaitility.Awaitility", "org.awaitility.kotlin.AwaitilityKt", "org.awaitility.kotlin.AwaitilityCoroutinesKt",
+            "org.awaitility.kotlin.AwaitilityVirtualTimeKt", "org.awaitility.scala.AwaitilitySupport", "org.awaitility.scala.AsyncConditionAwaiter",
+            "org.awaitility.groovy.AwaitilityExtensionModule", "java.", "jdk.", "sun.", "kotlin.", "scala.", "groovy.", "org.codehaus.groovy."
+    };
+
+    private CallSite() {
+    }
+
+    /**
+     * @return The call site formatted as <code>ClassName.methodName(FileName.java:line)</code> or <code>"unknown"</code> if not found.
+     */
+    static String find() {
+        return find(new Throwable().getStackTrace());
+    }
+
+    /**
+     * @param stackTrace The stack trace of a thread that is executing an await statement
+     * @return The call site formatted as <code>ClassName.methodName(FileName.java:line)</code> or <code>"unknown"</code> if not found.
+     */
+    static String find(StackTraceElement[] stackTrace) {
+        int index = stackTrace.length - 1;
+        while (index >= 0 && !stackTrace[index].getClassName().startsWith(CORE_PACKAGE)) {
+            index--;
+        }
+        if (index < 0) {
+            return "unknown";
+        }
+        for (index = index + 1; index < stackTrace.length; index++) {
+            if (!isSkipped(stackTrace[index].getClassName())) {
+                return format(stackTrace[index]);
+            }
+        }
+        return "unknown";
+    }
+
+    // StackTraceElement#toString includes the class loader and module from Java 9 onwards which only adds noise
+    private static String format(StackTraceElement element) {
+        final String location;
+        if (element.getFileName() == null) {
+            location = "Unknown Source";
+        } else if (element.getLineNumber() < 0) {
+            location = element.getFileName();
+        } else {
+            location = element.getFileName() + ":" + element.getLineNumber();
+        }
+        return element.getClassName() + "." + element.getMethodName() + "(" + location + ")";
+    }
+
+    private static boolean isSkipped(String className) {
+        for (String prefix : SKIPPED_PREFIXES) {
+            if (className.equals(prefix) || className.startsWith(prefix + "$") || prefix.endsWith(".") && className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
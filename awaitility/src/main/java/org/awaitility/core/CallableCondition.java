@@ -96,12 +96,16 @@ class CallableCondition implements Condition<Void> {
         }
 
         public ConditionEvaluationResult eval(Duration pollInterval) throws Exception {
+            final long evaluationStartedNanos = conditionEvaluationHandler.evaluationStarted();
+            long phaseStartedNanos = conditionEvaluationHandler.phaseStarted();
             boolean conditionFulfilled = matcher.call();
+            phaseStartedNanos = conditionEvaluationHandler.phaseCompleted(EvaluationPhase.SUPPLIER, phaseStartedNanos);
+            final String message = conditionFulfilled ? getMatchMessage(matcher, settings.getAlias()) : getMismatchMessage(matcher, settings.getAlias());
+            conditionEvaluationHandler.phaseCompleted(EvaluationPhase.MESSAGE_GENERATION, phaseStartedNanos);
             if (conditionFulfilled) {
-                conditionEvaluationHandler.handleConditionResultMatch(getMatchMessage(matcher, settings.getAlias()), true, pollInterval);
+                conditionEvaluationHandler.handleConditionResultMatch(message, true, pollInterval, evaluationStartedNanos);
             } else {
-                conditionEvaluationHandler.handleConditionResultMismatch(getMismatchMessage(matcher, settings.getAlias()), false, pollInterval);
-
+                conditionEvaluationHandler.handleConditionResultMismatch(message, false, pollInterval, evaluationStartedNanos);
             }
             return new ConditionEvaluationResult(conditionFulfilled);
         }
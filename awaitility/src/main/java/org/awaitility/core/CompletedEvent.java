@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+/**
+ * Contains properties of an await statement that completed because its condition was satisfied.
+ *
+ * @since 4.3.1
+ */
+public class CompletedEvent {
+
+    private final long elapsedTimeInMS;
+    private final long remainingTimeInMS;
+    private final long elapsedTimeInNanos;
+    private final long remainingTimeInNanos;
+    private final int pollCount;
+    private final String alias;
+    private final AwaitProfile profile;
+    private final String callSite;
+    private final long awaitId;
+
+    /**
+     * @param elapsedTimeInMS      elapsed time in milliseconds.
+     * @param remainingTimeInMS    remaining time to wait in milliseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param elapsedTimeInNanos   elapsed time in nanoseconds.
+     * @param remainingTimeInNanos remaining time to wait in nanoseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param pollCount            The number of times the condition was evaluated.
+     * @param alias                The alias of the await statement, <code>null</code> if it has no alias.
+     * @param profile              The time spent in each phase of the condition evaluations, <code>null</code> if profiling is not enabled.
+     * @param callSite             The call site of the await statement, <code>null</code> if unknown.
+     * @param awaitId              The id of the await statement.
+     */
+    public CompletedEvent(long elapsedTimeInMS, long remainingTimeInMS, long elapsedTimeInNanos, long remainingTimeInNanos, int pollCount,
+                          String alias, AwaitProfile profile, String callSite, long awaitId) {
+        this.elapsedTimeInMS = elapsedTimeInMS;
+        this.remainingTimeInMS = remainingTimeInMS;
+        this.elapsedTimeInNanos = elapsedTimeInNanos;
+        this.remainingTimeInNanos = remainingTimeInNanos;
+        this.pollCount = pollCount;
+        this.alias = alias;
+        this.profile = profile;
+        this.callSite = callSite;
+        this.awaitId = awaitId;
+    }
+
+    /**
+     * @return Elapsed time in milliseconds.
+     */
+    public long getElapsedTimeInMS() {
+        return elapsedTimeInMS;
+    }
+
+    /**
+     * @return Remaining time to wait in milliseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     */
+    public long getRemainingTimeInMS() {
+        return remainingTimeInMS;
+    }
+
+    /**
+     * @return Elapsed time in nanoseconds.
+     */
+    public long getElapsedTimeInNanos() {
+        return elapsedTimeInNanos;
+    }
+
+    /**
+     * @return Remaining time to wait in nanoseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     */
+    public long getRemainingTimeInNanos() {
+        return remainingTimeInNanos;
+    }
+
+    /**
+     * @return The number of times the condition was evaluated.
+     */
+    public int getPollCount() {
+        return pollCount;
+    }
+
+    /**
+     * @return The alias of the await statement or <code>null</code> if it has no alias.
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return The time spent in each phase of the condition evaluations or <code>null</code> if profiling is not enabled.
+     * @see ConditionFactory#profiling()
+     */
+    public AwaitProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return The call site of the await statement (<code>class.method(file:line)</code>), <code>null</code> if it's unknown
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return An id that is unique for each await statement run in this JVM, it tells the events of concurrent await statements apart.
+     * <code>0</code> if it's unknown.
+     */
+    public long getAwaitId() {
+        return awaitId;
+    }
+}
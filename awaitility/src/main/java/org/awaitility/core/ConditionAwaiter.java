@@ -16,13 +16,18 @@
 package org.awaitility.core;
 
 
+import org.awaitility.clock.Ticker;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition.FailFastAssertion;
+import org.awaitility.metrics.AwaitilityMetrics;
 
-import java.lang.Thread.UncaughtExceptionHandler;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
@@ -31,13 +36,21 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.awaitility.classpath.ClassPathResolver.existInCP;
 import static org.awaitility.core.TemporalDuration.formatAsString;
 import static org.awaitility.core.Uninterruptibles.getUninterruptibly;
+import static org.awaitility.core.Uninterruptibles.pollUninterruptibly;
 import static org.awaitility.core.Uninterruptibles.sleepUninterruptibly;
 
-abstract class ConditionAwaiter implements UncaughtExceptionHandler {
-    private final ExecutorService executor;
+abstract class ConditionAwaiter implements UncaughtExceptionDispatcher.Catcher {
+    private volatile ExecutorService executor;
     private final ConditionEvaluator conditionEvaluator;
     private final AtomicReference<Throwable> uncaughtThrowable;
     private final ConditionSettings conditionSettings;
+    private final AtomicLong consumedEvaluationNanos;
+    private final AtomicLong consumedEvaluationCpuNanos;
+    private final boolean measureEvaluationCpuTime;
+    private final AwaitilityMetrics metrics;
+    private final String metricsName;
+    private final String callSite;
+    private volatile Deadline deadline;
 
     /**
      * <p>Constructor for ConditionAwaiter.</p>
@@ -52,16 +65,18 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
         if (conditionSettings == null) {
             throw new IllegalArgumentException("You must specify the condition settings (was null).");
         }
-        // in order to solve https://github.com/awaitility/awaitility/issues/152 the original handler will be set back at the end
-        OriginalDefaultUncaughtExceptionHandler.set(Thread.getDefaultUncaughtExceptionHandler());
-
-        if (conditionSettings.shouldCatchUncaughtExceptions()) {
-            Thread.setDefaultUncaughtExceptionHandler(this);
-        }
         this.conditionSettings = conditionSettings;
         this.conditionEvaluator = conditionEvaluator;
         this.executor = conditionSettings.getExecutorLifecycle().supplyExecutorService();
         this.uncaughtThrowable = new AtomicReference<>();
+        this.consumedEvaluationNanos = new AtomicLong();
+        this.consumedEvaluationCpuNanos = new AtomicLong();
+        this.measureEvaluationCpuTime = !ForeverDuration.isForever(conditionSettings.getMaxEvaluationCpuTime()) && isCurrentThreadCpuTimeSupported();
+        this.metrics = conditionSettings.getMetrics();
+        // Finding the call site requires walking the stack so only do it if someone is interested in it
+        this.callSite = metrics != null && metrics.usesName() && !conditionSettings.hasAlias() || conditionSettings.getConditionEvaluationListener() != null
+                || FlightRecorderEvents.isEnabled() ? CallSite.find() : null;
+        this.metricsName = metrics == null ? null : conditionSettings.hasAlias() ? conditionSettings.getAlias() : callSite;
     }
 
     /**
@@ -71,56 +86,128 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
      */
     public <T> void await(final ConditionEvaluationHandler<T> conditionEvaluationHandler) {
         final Duration pollDelay = conditionSettings.getPollDelay();
-        final Duration maxWaitTime = conditionSettings.getMaxWaitTime();
         final Duration minWaitTime = conditionSettings.getMinWaitTime();
         final Duration holdPredicateWaitTime = conditionSettings.getHoldPredicateTime();
+        final Ticker ticker = conditionSettings.getTicker();
+        // Never wait longer than what remains of the await budget or await statement that this await statement is started in
+        final Deadline enclosingDeadline = Deadline.current();
+        final Duration enclosingRemainingTime = enclosingDeadline == null ? ForeverDuration.FOREVER : enclosingDeadline.remaining();
+        final boolean cappedByEnclosingDeadline = enclosingRemainingTime.compareTo(conditionSettings.getMaxWaitTime()) < 0;
+        final Duration maxWaitTime = cappedByEnclosingDeadline ? enclosingRemainingTime : conditionSettings.getMaxWaitTime();
+        final Deadline deadline = Deadline.after(ticker, maxWaitTime, conditionSettings.hasAlias() ?
+                String.format("the enclosing await statement with alias '%s'", conditionSettings.getAlias()) : "the enclosing await statement", true);
+        this.deadline = deadline;
 
-        long pollingStartedNanos = System.nanoTime() - pollDelay.toNanos();
+        final long awaitStartedNanos = System.nanoTime();
+        final Thread awaitingThread = Thread.currentThread();
+        final InFlightAwait inFlightAwait = AwaitRegistry.getInstance().awaitStarted(conditionSettings.getAlias(),
+                () -> callSite == null ? CallSite.find(awaitingThread.getStackTrace()) : callSite, maxWaitTime, pollDelay, this::getTimeoutMessage);
+        long pollingStartedNanos = ticker.nanoTime() - pollDelay.toNanos();
 
         int pollCount = 0;
+        int completedEvaluations = 0;
         boolean succeededBeforeTimeout = false;
         ConditionEvaluationResult lastResult = null;
         Duration evaluationDuration = Duration.of(0, MILLIS);
         Future<ConditionEvaluationResult> currentConditionEvaluation = null;
         long firstSucceedSinceStarted = 0L;
+        boolean evaluationBudgetExceeded = false;
+        final boolean pipelined = conditionSettings.isPipelined();
+        // Evaluations that have been launched but not completed when pipelining, mapped to the time they were launched
+        final Map<Future<ConditionEvaluationResult>, Long> inFlightEvaluations = new LinkedHashMap<>();
+        final AwaitProfiler profiler = conditionEvaluationHandler.getProfiler();
+        if (conditionSettings.shouldCatchUncaughtExceptions()) {
+            // Uncaught exceptions are dispatched to all running await statements by a single default handler instead of replacing it per await
+            UncaughtExceptionDispatcher.getInstance().register(this);
+        }
+        // Await statements started by the fail-fast condition are capped by the deadline of this await statement
+        final Deadline previousDeadline = deadline.bind();
         try {
             if (executor.isShutdown() || executor.isTerminated()) {
                 throw new IllegalStateException("The executor service that Awaitility is instructed to use has been shutdown so condition evaluation cannot be performed. Is there something wrong the thread or executor configuration?");
             }
 
-            conditionEvaluationHandler.start();
+            conditionEvaluationHandler.start(callSite);
             if (!pollDelay.isZero()) {
-                sleepUninterruptibly(pollDelay.toNanos(), NANOSECONDS);
+                sleep(pollDelay, profiler);
             }
             Duration pollInterval = pollDelay;
+            final CompletionService<ConditionEvaluationResult> completionService = pipelined ? new ExecutorCompletionService<>(executor) : null;
+            long nextEvaluationNanos = System.nanoTime();
             while (maxWaitTime.compareTo(evaluationDuration) > 0) {
-                executeFailFastConditionIfDefined();
-                pollCount = pollCount + 1;
+                executeFailFastConditionIfDefined(conditionSettings);
                 // Only wait for the next condition evaluation for at most what's remaining of
                 Duration maxWaitTimeForThisCondition = maxWaitTime.minus(evaluationDuration);
-                currentConditionEvaluation = executor.submit(new ConditionPoller(pollInterval));
-                // Wait for condition evaluation to complete with "maxWaitTimeForThisCondition" or else throw TimeoutException
-                lastResult = ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) ? getUninterruptibly(currentConditionEvaluation) : getUninterruptibly(currentConditionEvaluation, maxWaitTimeForThisCondition);
+                if (pipelined) {
+                    // Launch a new evaluation every poll interval, without waiting for the previous ones to complete, as long as
+                    // the number of in-flight evaluations is below the limit. The first evaluation to complete is handled below.
+                    final long now = System.nanoTime();
+                    if (canLaunchPipelinedEvaluation(inFlightEvaluations, pollCount) && now - nextEvaluationNanos >= 0) {
+                        pollCount = pollCount + 1;
+                        currentConditionEvaluation = completionService.submit(new ConditionPoller(pollInterval, profiler));
+                        inFlightEvaluations.put(currentConditionEvaluation, now);
+                        pollInterval = conditionSettings.getPollInterval().next(pollCount, pollInterval);
+                        nextEvaluationNanos = now + pollInterval.toNanos();
+                    }
+                    final ConditionEvaluationResult completedResult = awaitPipelinedEvaluation(completionService, inFlightEvaluations, pollCount, nextEvaluationNanos, maxWaitTime, maxWaitTimeForThisCondition);
+                    if (completedResult == null) {
+                        // No evaluation completed before it's time to launch the next one, keep the last result since it may explain a timeout
+                        evaluationDuration = calculateConditionEvaluationDuration(ticker.nanoTime(), pollDelay, pollingStartedNanos, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
+                        continue;
+                    }
+                    lastResult = completedResult;
+                } else if (shouldApplyEvaluationTimeout(maxWaitTime, maxWaitTimeForThisCondition)) {
+                    pollCount = pollCount + 1;
+                    currentConditionEvaluation = executor.submit(new ConditionPoller(pollInterval, profiler));
+                    // Wait for condition evaluation to complete within the evaluation timeout or else treat it as a condition mismatch and evaluate again
+                    try {
+                        lastResult = getUninterruptibly(currentConditionEvaluation, conditionSettings.getEvaluationTimeout());
+                    } catch (TimeoutException e) {
+                        lastResult = abortTimedOutEvaluation(currentConditionEvaluation);
+                    }
+                } else {
+                    pollCount = pollCount + 1;
+                    currentConditionEvaluation = executor.submit(new ConditionPoller(pollInterval, profiler));
+                    // Wait for condition evaluation to complete with "maxWaitTimeForThisCondition" or else throw TimeoutException
+                    lastResult = ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) ? getUninterruptibly(currentConditionEvaluation) : getUninterruptibly(currentConditionEvaluation, maxWaitTimeForThisCondition);
+                }
+                completedEvaluations = completedEvaluations + 1;
+                inFlightAwait.conditionEvaluated(completedEvaluations, pollInterval, lastResult.isSuccessful());
                 if (lastResult.isSuccessful() && firstSucceedSinceStarted == 0L) {
-                    firstSucceedSinceStarted = System.nanoTime();
+                    firstSucceedSinceStarted = ticker.nanoTime();
                 } else if (lastResult.isError()) {
                     firstSucceedSinceStarted = 0L;
                 }
-                if (lastResult.isSuccessful() && (System.nanoTime() - firstSucceedSinceStarted >= holdPredicateWaitTime.toNanos()) || lastResult.hasThrowable()) {
+                if (lastResult.isSuccessful() && (ticker.nanoTime() - firstSucceedSinceStarted >= holdPredicateWaitTime.toNanos()) || lastResult.hasThrowable()) {
                     break;
                 }
                 if (lastResult.hasTrace()) {
                     conditionEvaluationHandler.handleIgnoredException(lastResult.getTrace());
+                    inFlightAwait.exceptionIgnored();
+                    if (metrics != null) {
+                        metrics.exceptionIgnored(metricsName);
+                    }
                 }
 
-                pollInterval = conditionSettings.getPollInterval().next(pollCount, pollInterval);
-                sleepUninterruptibly(pollInterval.toNanos(), NANOSECONDS);
-                evaluationDuration = calculateConditionEvaluationDuration(pollDelay, pollingStartedNanos, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
+                if (isEvaluationBudgetExceeded(completedEvaluations)) {
+                    evaluationBudgetExceeded = true;
+                    break;
+                }
+
+                if (!pipelined) {
+                    pollInterval = conditionSettings.getPollInterval().next(pollCount, pollInterval);
+                    sleep(pollInterval, profiler);
+                }
+                evaluationDuration = calculateConditionEvaluationDuration(ticker.nanoTime(), pollDelay, pollingStartedNanos, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
             }
-            evaluationDuration = calculateConditionEvaluationDuration(pollDelay, pollingStartedNanos, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
+            evaluationDuration = calculateConditionEvaluationDuration(ticker.nanoTime(), pollDelay, pollingStartedNanos, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
             succeededBeforeTimeout = maxWaitTime.compareTo(evaluationDuration) > 0;
         } catch (TimeoutException e) {
-            lastResult = new ConditionEvaluationResult(false, null, e);
+            // The last evaluation didn't complete in what remained of the wait time, report why the previous one failed (such as
+            // the evaluation timeout) instead if known, a TimeoutException of the future has no message
+            if (lastResult == null || !lastResult.hasTrace()) {
+                lastResult = new ConditionEvaluationResult(false, null, e);
+            }
         } catch (ExecutionException e) {
             lastResult = new ConditionEvaluationResult(false, e.getCause(), null);
         } catch (Throwable e) {
@@ -131,6 +218,10 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
                 // See https://github.com/awaitility/awaitility/issues/109
                 currentConditionEvaluation.cancel(true);
             }
+            // The first successful evaluation wins, the others are no longer of interest
+            for (Future<ConditionEvaluationResult> inFlightEvaluation : inFlightEvaluations.keySet()) {
+                inFlightEvaluation.cancel(true);
+            }
         }
 
         try {
@@ -138,10 +229,28 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
                 throw uncaughtThrowable.get();
             } else if (lastResult != null && lastResult.hasThrowable()) {
                 throw lastResult.getThrowable();
+            } else if (evaluationBudgetExceeded) {
+                Duration evaluationTime = Duration.ofNanos(consumedEvaluationNanos.get());
+                Duration evaluationCpuTime = measureEvaluationCpuTime ? Duration.ofNanos(consumedEvaluationCpuNanos.get()) : null;
+                String budgetAsString = describeEvaluationBudget(conditionSettings, completedEvaluations, evaluationTime, evaluationCpuTime);
+                String timeoutMessage = getTimeoutMessage();
+                final String message;
+                if (conditionSettings.hasAlias()) {
+                    message = String.format("Condition with alias '%s' didn't complete within its evaluation budget because %s (consumed %s).",
+                            conditionSettings.getAlias(), decapitalize(timeoutMessage), budgetAsString);
+                } else {
+                    message = String.format("%s within its evaluation budget (consumed %s).", timeoutMessage, budgetAsString);
+                }
+                conditionEvaluationHandler.handleTimeout(message, false);
+                recordTimeout(inFlightAwait, awaitStartedNanos, completedEvaluations);
+                throw new EvaluationBudgetExceededException(message, completedEvaluations, evaluationTime, evaluationCpuTime);
             } else if (!succeededBeforeTimeout) {
                 final String message;
                 String timeoutMessage = getTimeoutMessage();
                 String durationAsString = formatAsString(maxWaitTime);
+                if (cappedByEnclosingDeadline) {
+                    durationAsString = String.format("%s, the time that remained of %s", durationAsString, enclosingDeadline.describe());
+                }
                 if (conditionSettings.hasAlias()) {
                     message = String.format("Condition with alias '%s' didn't complete within %s because %s.",
                             conditionSettings.getAlias(), durationAsString, decapitalize(timeoutMessage));
@@ -164,23 +273,82 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
                     }
                 }
                 conditionEvaluationHandler.handleTimeout(message, false);
+                recordTimeout(inFlightAwait, awaitStartedNanos, completedEvaluations);
                 throw new ConditionTimeoutException(message, cause);
             } else if (evaluationDuration.compareTo(minWaitTime) < 0) {
                 String message = String.format("Condition was evaluated in %s which is earlier than expected minimum timeout %s",
                         formatAsString(evaluationDuration), formatAsString(minWaitTime));
                 conditionEvaluationHandler.handleTimeout(message, true);
+                recordTimeout(inFlightAwait, awaitStartedNanos, completedEvaluations);
                 throw new ConditionTimeoutException(message);
+            } else {
+                inFlightAwait.satisfied();
+                conditionEvaluationHandler.handleCompleted(completedEvaluations);
+                if (metrics != null) {
+                    metrics.awaitSatisfied(metricsName, Duration.ofNanos(System.nanoTime() - awaitStartedNanos), completedEvaluations);
+                }
             }
         } catch (Throwable e) {
             CheckedExceptionRethrower.safeRethrow(e);
         } finally {
-            Thread.setDefaultUncaughtExceptionHandler(OriginalDefaultUncaughtExceptionHandler.get());
+            // Condition evaluations that are still running must not cap the await statements they start by this await statement anymore
+            deadline.release();
+            Deadline.restore(previousDeadline);
+            UncaughtExceptionDispatcher.getInstance().unregister(this);
             uncaughtThrowable.set(null);
             conditionSettings.getExecutorLifecycle().executeNormalCleanupBehavior(executor);
+            AwaitRegistry.getInstance().awaitCompleted(inFlightAwait);
+            if (profiler != null) {
+                publishProfile(profiler);
+            }
+        }
+    }
+
+    private void publishProfile(AwaitProfiler profiler) {
+        final AwaitProfile profile = profiler.snapshot(conditionSettings.getAlias());
+        if (metrics != null) {
+            metrics.awaitProfiled(metricsName, profile);
+        }
+        conditionSettings.getProfilingConsumer().accept(profile);
+    }
+
+    /**
+     * Sleep for the given duration and, if profiling, record the time slept in excess of the given duration.
+     */
+    private void sleep(Duration duration, AwaitProfiler profiler) {
+        final long requestedNanos = duration.toNanos();
+        if (conditionSettings.hasCustomClock()) {
+            sleepOnCustomClock(requestedNanos);
+            return;
+        } else if (profiler == null) {
+            sleepUninterruptibly(requestedNanos, NANOSECONDS);
+            return;
         }
+        final long sleepStartedNanos = System.nanoTime();
+        sleepUninterruptibly(requestedNanos, NANOSECONDS);
+        profiler.record(EvaluationPhase.OVERSLEEP, Math.max(0L, System.nanoTime() - sleepStartedNanos - requestedNanos));
     }
 
-    private void executeFailFastConditionIfDefined() throws Throwable {
+    /**
+     * Let time pass using the sleeper of the custom clock. Just like when sleeping on the system clock, an interrupt doesn't abort the
+     * await statement, the interrupt status is restored and the await statement continues.
+     */
+    private void sleepOnCustomClock(long nanos) {
+        try {
+            conditionSettings.getSleeper().sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordTimeout(InFlightAwait inFlightAwait, long awaitStartedNanos, int completedEvaluations) {
+        inFlightAwait.timedOut();
+        if (metrics != null) {
+            metrics.awaitTimedOut(metricsName, Duration.ofNanos(System.nanoTime() - awaitStartedNanos), completedEvaluations);
+        }
+    }
+
+    static void executeFailFastConditionIfDefined(ConditionSettings conditionSettings) throws Throwable {
         FailFastCondition failFastCondition = conditionSettings.getFailFastCondition();
         if (failFastCondition == null) {
             return;
@@ -204,7 +372,117 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
         }
     }
 
-    private static String decapitalize(String str) {
+    private boolean canLaunchPipelinedEvaluation(Map<Future<ConditionEvaluationResult>, Long> inFlightEvaluations, int pollCount) {
+        return inFlightEvaluations.size() < conditionSettings.getMaxInFlightEvaluations() && pollCount < conditionSettings.getMaxEvaluations();
+    }
+
+    /**
+     * Wait for one of the in-flight evaluations to complete, but no longer than until it's time to launch the next evaluation (if the
+     * in-flight limit allows it) or until the await statement times out.
+     *
+     * @return The result of the completed evaluation or <code>null</code> if no evaluation completed in time
+     */
+    private ConditionEvaluationResult awaitPipelinedEvaluation(CompletionService<ConditionEvaluationResult> completionService,
+                                                               Map<Future<ConditionEvaluationResult>, Long> inFlightEvaluations,
+                                                               int pollCount, long nextEvaluationNanos, Duration maxWaitTime,
+                                                               Duration maxWaitTimeForThisCondition) throws ExecutionException {
+        final long now = System.nanoTime();
+        long waitNanos = ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) ? Long.MAX_VALUE : saturatedToNanos(maxWaitTimeForThisCondition);
+        if (canLaunchPipelinedEvaluation(inFlightEvaluations, pollCount)) {
+            waitNanos = Math.min(waitNanos, Math.max(0L, nextEvaluationNanos - now));
+        }
+        final Duration evaluationTimeout = conditionSettings.getEvaluationTimeout();
+        if (evaluationTimeout != null && !inFlightEvaluations.isEmpty()) {
+            final long oldestEvaluationStartedNanos = inFlightEvaluations.values().iterator().next();
+            waitNanos = Math.min(waitNanos, Math.max(0L, saturatedToNanos(evaluationTimeout) - (now - oldestEvaluationStartedNanos)));
+        }
+
+        final Future<ConditionEvaluationResult> completedEvaluation = pollUninterruptibly(completionService, waitNanos, NANOSECONDS);
+        if (completedEvaluation != null) {
+            // Evaluations that have been cancelled because of the evaluation timeout are no longer in-flight and are ignored
+            return inFlightEvaluations.remove(completedEvaluation) == null ? null : getUninterruptibly(completedEvaluation);
+        } else if (evaluationTimeout != null) {
+            final long timeoutCheckedNanos = System.nanoTime();
+            for (Iterator<Map.Entry<Future<ConditionEvaluationResult>, Long>> iterator = inFlightEvaluations.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<Future<ConditionEvaluationResult>, Long> inFlightEvaluation = iterator.next();
+                if (timeoutCheckedNanos - inFlightEvaluation.getValue() >= saturatedToNanos(evaluationTimeout)) {
+                    iterator.remove();
+                    inFlightEvaluation.getKey().cancel(true);
+                    return new ConditionEvaluationResult(false, null, newEvaluationTimeoutException(evaluationTimeout));
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean shouldApplyEvaluationTimeout(Duration maxWaitTime, Duration maxWaitTimeForThisCondition) {
+        if (!conditionSettings.hasEvaluationTimeout()) {
+            return false;
+        }
+        return ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) || conditionSettings.getEvaluationTimeout().compareTo(maxWaitTimeForThisCondition) < 0;
+    }
+
+    private ConditionEvaluationResult abortTimedOutEvaluation(Future<ConditionEvaluationResult> timedOutEvaluation) {
+        final Duration evaluationTimeout = conditionSettings.getEvaluationTimeout();
+        timedOutEvaluation.cancel(true);
+        // The thread evaluating the condition may not respond to interruption. If Awaitility manages the executor it's shutdown
+        // and replaced so that the next evaluation is not queued behind the one that timed out.
+        final ExecutorLifecycle executorLifecycle = conditionSettings.getExecutorLifecycle();
+        executorLifecycle.executeUnexpectedCleanupBehavior(executor);
+        if (executor.isShutdown()) {
+            executor = executorLifecycle.supplyExecutorService();
+        }
+        return new ConditionEvaluationResult(false, null, newEvaluationTimeoutException(evaluationTimeout));
+    }
+
+    static TimeoutException newEvaluationTimeoutException(Duration evaluationTimeout) {
+        return new TimeoutException(String.format("Condition evaluation didn't complete within the evaluation timeout of %s.", formatAsString(evaluationTimeout)));
+    }
+
+    private boolean isEvaluationBudgetExceeded(int pollCount) {
+        return pollCount >= conditionSettings.getMaxEvaluations()
+                || consumedEvaluationNanos.get() >= saturatedToNanos(conditionSettings.getMaxEvaluationTime())
+                || (measureEvaluationCpuTime && consumedEvaluationCpuNanos.get() >= saturatedToNanos(conditionSettings.getMaxEvaluationCpuTime()));
+    }
+
+    static String describeEvaluationBudget(ConditionSettings conditionSettings, int pollCount, Duration evaluationTime, Duration evaluationCpuTime) {
+        StringBuilder description = new StringBuilder();
+        description.append(pollCount).append(pollCount == 1 ? " evaluation" : " evaluations");
+        if (conditionSettings.getMaxEvaluations() != Integer.MAX_VALUE) {
+            description.append(" of max ").append(conditionSettings.getMaxEvaluations());
+        }
+        description.append(", evaluation time ").append(formatAsString(evaluationTime));
+        if (!ForeverDuration.isForever(conditionSettings.getMaxEvaluationTime())) {
+            description.append(" of max ").append(formatAsString(conditionSettings.getMaxEvaluationTime()));
+        }
+        if (evaluationCpuTime != null) {
+            description.append(", evaluation CPU time ").append(formatAsString(evaluationCpuTime))
+                    .append(" of max ").append(formatAsString(conditionSettings.getMaxEvaluationCpuTime()));
+        }
+        return description.toString();
+    }
+
+    static long saturatedToNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException tooBig) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean isCurrentThreadCpuTimeSupported() {
+        // Not all systems support measuring thread CPU time so ignore if ThreadMXBean & ManagementFactory is not in classpath
+        if (existInCP("java.lang.management.ThreadMXBean") && existInCP("java.lang.management.ManagementFactory")) {
+            return java.lang.management.ManagementFactory.getThreadMXBean().isCurrentThreadCpuTimeSupported();
+        }
+        return false;
+    }
+
+    private static long currentThreadCpuTime() {
+        return java.lang.management.ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+    }
+
+    static String decapitalize(String str) {
         if (str == null) {
             return "";
         }
@@ -220,6 +498,14 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
      */
     protected abstract String getTimeoutMessage();
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean catchesUncaughtExceptionsFrom(Thread thread) {
+        return conditionSettings.shouldCatchUncaughtExceptionFrom(thread);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -234,29 +520,62 @@ abstract class ConditionAwaiter implements UncaughtExceptionHandler {
 
     private class ConditionPoller implements Callable<ConditionEvaluationResult> {
         private final Duration delayed;
+        private final AwaitProfiler profiler;
+        private final long submittedNanos;
 
         /**
-         * @param delayed The duration of the poll interval
+         * @param delayed  The duration of the poll interval
+         * @param profiler The profiler of the await statement or <code>null</code> if profiling is disabled
          */
-        ConditionPoller(Duration delayed) {
+        ConditionPoller(Duration delayed, AwaitProfiler profiler) {
             this.delayed = delayed;
+            this.profiler = profiler;
+            this.submittedNanos = profiler == null ? 0L : System.nanoTime();
         }
 
         @Override
         public ConditionEvaluationResult call() {
+            // Await statements started by the condition are capped by the deadline of this await statement
+            final Deadline previousDeadline = deadline.bind();
+            final long evaluationStartedNanos = System.nanoTime();
+            if (profiler != null) {
+                profiler.record(EvaluationPhase.EXECUTOR_HANDOFF, evaluationStartedNanos - submittedNanos);
+            }
+            final long evaluationStartedCpuNanos = measureEvaluationCpuTime ? currentThreadCpuTime() : 0L;
+            final Object flightRecorderEvent = FlightRecorderEvents.beginConditionEvaluation();
+            boolean satisfied = false;
             try {
-                return conditionEvaluator.eval(delayed);
+                ConditionEvaluationResult result = conditionEvaluator.eval(delayed);
+                satisfied = result.isSuccessful();
+                return result;
             } catch (Throwable e) {
                 if (conditionSettings.shouldExceptionBeIgnored(e)) {
                     return new ConditionEvaluationResult(false, null, e);
                 }
                 return new ConditionEvaluationResult(false, e, null);
+            } finally {
+                FlightRecorderEvents.endConditionEvaluation(flightRecorderEvent, conditionSettings.getAlias(), callSite, satisfied, delayed);
+                final long evaluationNanos = System.nanoTime() - evaluationStartedNanos;
+                consumedEvaluationNanos.addAndGet(evaluationNanos);
+                if (metrics != null) {
+                    metrics.conditionEvaluated(metricsName, evaluationNanos);
+                }
+                if (measureEvaluationCpuTime) {
+                    consumedEvaluationCpuNanos.addAndGet(currentThreadCpuTime() - evaluationStartedCpuNanos);
+                }
+                if (profiler != null) {
+                    profiler.evaluationCompleted();
+                }
+                Deadline.restore(previousDeadline);
             }
         }
     }
 
     static Duration calculateConditionEvaluationDuration(Duration pollDelay, long pollingStarted, long firstSucceedSinceStarted, Duration minWaitTime, Duration holdPredicateWaitTime) {
-        final long now = System.nanoTime();
+        return calculateConditionEvaluationDuration(System.nanoTime(), pollDelay, pollingStarted, firstSucceedSinceStarted, minWaitTime, holdPredicateWaitTime);
+    }
+
+    static Duration calculateConditionEvaluationDuration(long now, Duration pollDelay, long pollingStarted, long firstSucceedSinceStarted, Duration minWaitTime, Duration holdPredicateWaitTime) {
         long calculatedDuration = now - pollingStarted - pollDelay.toNanos();
         if (firstSucceedSinceStarted > 0 && minWaitTime.isZero() && holdPredicateWaitTime.isZero()) {
             calculatedDuration = now - firstSucceedSinceStarted;
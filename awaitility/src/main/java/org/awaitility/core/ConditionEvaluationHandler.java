@@ -15,10 +15,12 @@
  */
 package org.awaitility.core;
 
+import org.awaitility.clock.Ticker;
 import org.hamcrest.Matcher;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -32,33 +34,98 @@ class ConditionEvaluationHandler<T> {
     private final Matcher<? super T> matcher;
     private final ConditionSettings settings;
     private final StopWatch watch;
+    private final AwaitProfiler profiler;
+    private static final AtomicLong awaitIds = new AtomicLong();
+
+    private final Object listenerLock = new Object();
+    private final long awaitId = awaitIds.incrementAndGet();
+    private String callSite;
 
     ConditionEvaluationHandler(Matcher<? super T> matcher, ConditionSettings settings) {
+        this(matcher, settings, settings.getTicker());
+    }
+
+    /**
+     * @param ticker The source of the elapsed and remaining time of the events, for await statements that don't use the clock of the settings
+     */
+    ConditionEvaluationHandler(Matcher<? super T> matcher, ConditionSettings settings, Ticker ticker) {
         this.matcher = matcher;
         this.settings = settings;
-        watch = new StopWatch();
+        watch = new StopWatch(ticker);
+        profiler = settings.isProfiling() ? new AwaitProfiler() : null;
+    }
+
+    /**
+     * @return The profiler of the await statement or <code>null</code> if profiling is disabled
+     */
+    AwaitProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * @return The current time in nanoseconds if profiling is enabled, otherwise 0
+     */
+    long phaseStarted() {
+        return profiler == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Record the time spent in <code>phase</code> if profiling is enabled.
+     *
+     * @param phase        The phase that completed
+     * @param startedNanos The value returned by {@link #phaseStarted()} (or by this method) when the phase started
+     * @return The current time in nanoseconds, i.e. the start of the next phase, if profiling is enabled, otherwise 0
+     */
+    long phaseCompleted(EvaluationPhase phase, long startedNanos) {
+        if (profiler == null) {
+            return 0L;
+        }
+        final long now = System.nanoTime();
+        profiler.record(phase, now - startedNanos);
+        return now;
     }
 
-    void handleConditionResultMismatch(String mismatchMessage, T currentConditionValue, Duration pollInterval) {
+    /**
+     * @return The current time in nanoseconds if a listener is registered, otherwise 0
+     */
+    long evaluationStarted() {
+        return settings.getConditionEvaluationListener() == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * @param evaluationStartedNanos The value returned by {@link #evaluationStarted()} when the evaluation started
+     */
+    void handleConditionResultMismatch(String mismatchMessage, T currentConditionValue, Duration pollInterval, long evaluationStartedNanos) {
+        settings.getPollInterval().valueObserved(currentConditionValue);
         doWithListener(listener -> {
-            long elapsedTimeInMS = watch.getElapsedTimeInMS();
+            long evaluationDurationInNanos = System.nanoTime() - evaluationStartedNanos;
+            long elapsedTimeInNanos = watch.getElapsedTimeInNanos();
+            long elapsedTimeInMS = NANOSECONDS.toMillis(elapsedTimeInNanos);
             long remainingTimeInMS = getRemainingTimeInMS(elapsedTimeInMS, settings.getMaxWaitTime());
             try {
                 listener.conditionEvaluated(new EvaluatedCondition<>(mismatchMessage, matcher, currentConditionValue, elapsedTimeInMS,
-                        remainingTimeInMS, false, settings.getAlias(), pollInterval));
+                        remainingTimeInMS, elapsedTimeInNanos, getRemainingTimeInNanos(elapsedTimeInNanos, settings.getMaxWaitTime()),
+                        evaluationDurationInNanos, false, settings.getAlias(), pollInterval, callSite, awaitId));
             } catch (ClassCastException e) {
                 throwClassCastExceptionBecauseConditionEvaluationListenerCouldNotBeApplied(e, listener);
             }
         });
     }
 
-    void handleConditionResultMatch(String matchMessage, T currentConditionValue, Duration pollInterval) {
+    /**
+     * @param evaluationStartedNanos The value returned by {@link #evaluationStarted()} when the evaluation started
+     */
+    void handleConditionResultMatch(String matchMessage, T currentConditionValue, Duration pollInterval, long evaluationStartedNanos) {
+        settings.getPollInterval().valueObserved(currentConditionValue);
         doWithListener(listener -> {
-            long elapsedTimeInMS = watch.getElapsedTimeInMS();
+            long evaluationDurationInNanos = System.nanoTime() - evaluationStartedNanos;
+            long elapsedTimeInNanos = watch.getElapsedTimeInNanos();
+            long elapsedTimeInMS = NANOSECONDS.toMillis(elapsedTimeInNanos);
             long remainingTimeInMS = getRemainingTimeInMS(elapsedTimeInMS, settings.getMaxWaitTime());
             try {
                 listener.conditionEvaluated(new EvaluatedCondition<>(matchMessage, matcher, currentConditionValue, elapsedTimeInMS,
-                        remainingTimeInMS, true, settings.getAlias(), pollInterval));
+                        remainingTimeInMS, elapsedTimeInNanos, getRemainingTimeInNanos(elapsedTimeInNanos, settings.getMaxWaitTime()),
+                        evaluationDurationInNanos, true, settings.getAlias(), pollInterval, callSite, awaitId));
             } catch (ClassCastException e) {
                 throwClassCastExceptionBecauseConditionEvaluationListenerCouldNotBeApplied(e, listener);
             }
@@ -71,58 +138,115 @@ class ConditionEvaluationHandler<T> {
         if (listener == null) {
             return;
         }
-        consumer.accept(listener);
+        final long listenerStartedNanos = phaseStarted();
+        try {
+            if (settings.isPipelined()) {
+                // Pipelined evaluations call the listener from several threads, listeners are typically not thread-safe
+                synchronized (listenerLock) {
+                    consumer.accept(listener);
+                }
+            } else {
+                consumer.accept(listener);
+            }
+        } finally {
+            phaseCompleted(EvaluationPhase.LISTENER, listenerStartedNanos);
+        }
     }
 
     private long getRemainingTimeInMS(long elapsedTimeInMS, Duration maxWaitTime) {
         return maxWaitTime == null || ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) ? Long.MAX_VALUE : maxWaitTime.toMillis() - elapsedTimeInMS;
     }
 
+    private long getRemainingTimeInNanos(long elapsedTimeInNanos, Duration maxWaitTime) {
+        if (maxWaitTime == null || ChronoUnit.FOREVER.getDuration().equals(maxWaitTime)) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return maxWaitTime.toNanos() - elapsedTimeInNanos;
+        } catch (ArithmeticException tooBig) {
+            return Long.MAX_VALUE;
+        }
+    }
+
     private void throwClassCastExceptionBecauseConditionEvaluationListenerCouldNotBeApplied(ClassCastException e, ConditionEvaluationListener listener) {
         throw new ClassCastException("Cannot apply condition evaluation listener " + listener.getClass().getName() + " because " + e.getMessage());
     }
 
-    public void start() {
+    /**
+     * @param callSite The call site of the await statement or <code>null</code> if it has not been resolved
+     */
+    public void start(String callSite) {
+        this.callSite = callSite;
+        if (profiler != null) {
+            profiler.start();
+        }
 
-        ConditionEvaluationListener<T> listener = settings.getConditionEvaluationListener();
-        if (listener != null) {
+        doWithListener(listener -> {
             long elapsedTimeInMS = 0L;
             long remainingTimeInMS = getRemainingTimeInMS(0, settings.getMaxWaitTime());
 
             listener.beforeEvaluation(new StartEvaluationEvent<>("Starting evaluation", matcher, elapsedTimeInMS,
-                    remainingTimeInMS, settings.getAlias()));
-        }
+                    remainingTimeInMS, 0L, getRemainingTimeInNanos(0L, settings.getMaxWaitTime()), settings.getAlias(), callSite, awaitId));
+        });
         watch.start();
+        FlightRecorderEvents.awaitStarted(settings.getAlias(), callSite, settings.getMaxWaitTime(), settings.getPollDelay());
     }
 
     public void handleTimeout(String message, boolean isConditionSatisfied) {
-        ConditionEvaluationListener<T> listener = settings.getConditionEvaluationListener();
-        if (listener != null) {
-            long elapsedTimeInMS = watch.getElapsedTimeInMS();
+        FlightRecorderEvents.awaitTimedOut(settings.getAlias(), callSite, watch.getElapsedTimeInMS(), isConditionSatisfied, message);
+        doWithListener(listener -> {
+            long elapsedTimeInNanos = watch.getElapsedTimeInNanos();
+            long elapsedTimeInMS = NANOSECONDS.toMillis(elapsedTimeInNanos);
             long remainingTimeInMS = getRemainingTimeInMS(elapsedTimeInMS, settings.getMaxWaitTime());
-            listener.onTimeout(new TimeoutEvent(message, elapsedTimeInMS, remainingTimeInMS,
-                    isConditionSatisfied, settings.getAlias()));
-        }
+            listener.onTimeout(new TimeoutEvent(message, elapsedTimeInMS, remainingTimeInMS, elapsedTimeInNanos,
+                    getRemainingTimeInNanos(elapsedTimeInNanos, settings.getMaxWaitTime()), isConditionSatisfied, settings.getAlias(),
+                    profiler == null ? null : profiler.snapshot(settings.getAlias()), callSite, awaitId));
+        });
+    }
+
+    /**
+     * @param pollCount The number of times the condition was evaluated
+     */
+    public void handleCompleted(int pollCount) {
+        doWithListener(listener -> {
+            long elapsedTimeInNanos = watch.getElapsedTimeInNanos();
+            long elapsedTimeInMS = NANOSECONDS.toMillis(elapsedTimeInNanos);
+            long remainingTimeInMS = getRemainingTimeInMS(elapsedTimeInMS, settings.getMaxWaitTime());
+            listener.onCompleted(new CompletedEvent(elapsedTimeInMS, remainingTimeInMS, elapsedTimeInNanos,
+                    getRemainingTimeInNanos(elapsedTimeInNanos, settings.getMaxWaitTime()), pollCount, settings.getAlias(),
+                    profiler == null ? null : profiler.snapshot(settings.getAlias()), callSite, awaitId));
+        });
     }
 
     public void handleIgnoredException(Throwable throwable) {
-        ConditionEvaluationListener<T> listener = settings.getConditionEvaluationListener();
-        if (listener != null) {
-            long elapsedTimeInMS = watch.getElapsedTimeInMS();
+        FlightRecorderEvents.exceptionIgnored(settings.getAlias(), callSite, throwable);
+        doWithListener(listener -> {
+            long elapsedTimeInNanos = watch.getElapsedTimeInNanos();
+            long elapsedTimeInMS = NANOSECONDS.toMillis(elapsedTimeInNanos);
             long remainingTimeInMS = getRemainingTimeInMS(elapsedTimeInMS, settings.getMaxWaitTime());
-            listener.exceptionIgnored(new IgnoredException(throwable, elapsedTimeInMS, remainingTimeInMS, settings.getAlias()));
-        }
+            listener.exceptionIgnored(new IgnoredException(throwable, elapsedTimeInMS, remainingTimeInMS, elapsedTimeInNanos,
+                    getRemainingTimeInNanos(elapsedTimeInNanos, settings.getMaxWaitTime()), settings.getAlias(), callSite, awaitId));
+        });
     }
 
     private static class StopWatch {
+        private final Ticker ticker;
         private long startTime;
 
+        StopWatch(Ticker ticker) {
+            this.ticker = ticker;
+        }
+
         public void start() {
-            this.startTime = System.nanoTime();
+            this.startTime = ticker.nanoTime();
         }
 
         long getElapsedTimeInMS() {
-            return NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            return NANOSECONDS.toMillis(getElapsedTimeInNanos());
+        }
+
+        long getElapsedTimeInNanos() {
+            return ticker.nanoTime() - startTime;
         }
     }
 }
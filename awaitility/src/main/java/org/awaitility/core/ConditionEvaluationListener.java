@@ -44,6 +44,15 @@ public interface ConditionEvaluationListener<T> {
      */
     default void onTimeout(TimeoutEvent timeoutEvent) {}
 
+    /**
+     * Handle the completedEvent, called once when the await statement completes because the condition was satisfied.
+     * Method is default to keep the ConditionEvaluationListener backward compatible.
+     *
+     * @param completedEvent the event containing some properties about the await statement that completed
+     * @since 4.3.1
+     */
+    default void onCompleted(CompletedEvent completedEvent) {}
+
     /**
      * Handle ignored exception that get thrown while condition evaluation.
      * Method is default to keep the ConditionEvaluationListener backward compatible.
@@ -15,10 +15,15 @@
  */
 package org.awaitility.core;
 
+import org.awaitility.clock.Sleeper;
+import org.awaitility.clock.Ticker;
+import org.awaitility.clock.VirtualClock;
 import org.awaitility.constraint.AtMostWaitConstraint;
+import org.awaitility.constraint.EvaluationBudgetWaitConstraint;
 import org.awaitility.constraint.WaitConstraint;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition;
 import org.awaitility.core.FailFastCondition.CallableFailFastCondition.FailFastAssertion;
+import org.awaitility.metrics.AwaitilityMetrics;
 import org.awaitility.pollinterval.FixedPollInterval;
 import org.awaitility.pollinterval.PollInterval;
 import org.hamcrest.Description;
@@ -26,6 +31,9 @@ import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -90,6 +98,41 @@ public class ConditionFactory {
      */
     private final FailFastCondition failFastCondition;
 
+    /**
+     * The max time to wait for a single condition evaluation, <code>null</code> if undefined.
+     */
+    private final Duration evaluationTimeout;
+
+    /**
+     * The max number of condition evaluations that may be in-flight at the same time, greater than 1 if evaluations are pipelined.
+     */
+    private final int maxInFlightEvaluations;
+
+    /**
+     * The metrics that the await statement reports to, <code>null</code> if undefined.
+     */
+    private final AwaitilityMetrics metrics;
+
+    /**
+     * The consumer of the profile of the await statement, <code>null</code> if profiling is disabled.
+     */
+    private final Consumer<AwaitProfile> profilingConsumer;
+
+    /**
+     * The threads whose uncaught exceptions should be caught, <code>null</code> means all threads.
+     */
+    private final Predicate<Thread> uncaughtExceptionScope;
+
+    /**
+     * The source of time of the await statement.
+     */
+    private final Ticker ticker;
+
+    /**
+     * Lets time pass between the condition evaluations.
+     */
+    private final Sleeper sleeper;
+
     /**
      * Instantiates a new condition factory.
      *
@@ -106,12 +149,50 @@ public class ConditionFactory {
     public ConditionFactory(final String alias, WaitConstraint timeoutConstraint, PollInterval pollInterval, Duration pollDelay,
                             boolean catchUncaughtExceptions, ExceptionIgnorer exceptionsIgnorer,
                             ConditionEvaluationListener conditionEvaluationListener, ExecutorLifecycle executorLifecycle, final FailFastCondition failFastCondition) {
+        this(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener,
+                executorLifecycle, failFastCondition, null, 1, null, null, null, Ticker.system(), Sleeper.system());
+    }
+
+    /**
+     * Instantiates a new condition factory.
+     *
+     * @param alias                       the alias
+     * @param timeoutConstraint           the timeout constraint
+     * @param pollInterval                the poll interval
+     * @param pollDelay                   The poll delay
+     * @param catchUncaughtExceptions     the catch uncaught exceptions
+     * @param exceptionsIgnorer           Determine which exceptions that should ignored
+     * @param conditionEvaluationListener Determine which exceptions that should ignored
+     * @param executorLifecycle           The executor service and the lifecycle of the executor service that'll be used to evaluate the condition during polling
+     * @param failFastCondition           If this condition if ever false, indicates our condition will never be true.
+     * @param evaluationTimeout           The max time to wait for a single condition evaluation, <code>null</code> if undefined.
+     * @param maxInFlightEvaluations      The max number of condition evaluations that may be in-flight at the same time, 1 means that evaluations are not pipelined.
+     * @param metrics                     The metrics that the await statement reports to, <code>null</code> if undefined.
+     * @param profilingConsumer           The consumer of the profile of the await statement, <code>null</code> if profiling is disabled.
+     * @param uncaughtExceptionScope      The threads whose uncaught exceptions should be caught, <code>null</code> means all threads.
+     * @param ticker                      The source of time of the await statement.
+     * @param sleeper                     Lets time pass between the condition evaluations.
+     */
+    public ConditionFactory(final String alias, WaitConstraint timeoutConstraint, PollInterval pollInterval, Duration pollDelay,
+                            boolean catchUncaughtExceptions, ExceptionIgnorer exceptionsIgnorer,
+                            ConditionEvaluationListener conditionEvaluationListener, ExecutorLifecycle executorLifecycle, final FailFastCondition failFastCondition,
+                            Duration evaluationTimeout, int maxInFlightEvaluations, AwaitilityMetrics metrics, Consumer<AwaitProfile> profilingConsumer,
+                            Predicate<Thread> uncaughtExceptionScope, Ticker ticker, Sleeper sleeper) {
         if (pollInterval == null) {
             throw new IllegalArgumentException("pollInterval cannot be null");
         }
+        if (ticker == null) {
+            throw new IllegalArgumentException("ticker cannot be null");
+        }
+        if (sleeper == null) {
+            throw new IllegalArgumentException("sleeper cannot be null");
+        }
         if (timeoutConstraint == null) {
             throw new IllegalArgumentException("timeout cannot be null");
         }
+        if (maxInFlightEvaluations < 1) {
+            throw new IllegalArgumentException("Max in-flight evaluations must be greater than 0");
+        }
 
         this.alias = alias;
         this.timeoutConstraint = timeoutConstraint;
@@ -122,6 +203,13 @@ public class ConditionFactory {
         this.exceptionsIgnorer = exceptionsIgnorer;
         this.executorLifecycle = executorLifecycle;
         this.failFastCondition = failFastCondition;
+        this.evaluationTimeout = evaluationTimeout;
+        this.maxInFlightEvaluations = maxInFlightEvaluations;
+        this.metrics = metrics;
+        this.profilingConsumer = profilingConsumer;
+        this.uncaughtExceptionScope = uncaughtExceptionScope;
+        this.ticker = ticker;
+        this.sleeper = sleeper;
     }
 
     /**
@@ -132,7 +220,7 @@ public class ConditionFactory {
      */
     public ConditionFactory conditionEvaluationListener(ConditionEvaluationListener conditionEvaluationListener) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -142,7 +230,7 @@ public class ConditionFactory {
      */
     public ConditionFactory logging() {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, new ConditionEvaluationLogger(), executorLifecycle, failFastCondition);
+                exceptionsIgnorer, new ConditionEvaluationLogger(), executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -152,7 +240,7 @@ public class ConditionFactory {
      */
     public ConditionFactory logging(Consumer<String> logPrinter) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, new ConditionEvaluationLogger(logPrinter), executorLifecycle, failFastCondition);
+                exceptionsIgnorer, new ConditionEvaluationLogger(logPrinter), executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -173,7 +261,7 @@ public class ConditionFactory {
      */
     public ConditionFactory atMost(Duration timeout) {
         return new ConditionFactory(alias, timeoutConstraint.withMaxWaitTime(timeout), pollInterval, pollDelay,
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -184,7 +272,7 @@ public class ConditionFactory {
      */
     public ConditionFactory during(Duration timeout) {
         return new ConditionFactory(alias, timeoutConstraint.withHoldPredicateTime(timeout), pollInterval, pollDelay,
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -198,6 +286,73 @@ public class ConditionFactory {
         return during(DurationFactory.of(timeout, unit));
     }
 
+    /**
+     * Evaluate the condition at most <code>maxEvaluations</code> times. If the condition is not fulfilled by then an
+     * {@link EvaluationBudgetExceededException} is thrown, even if the timeout has not yet been reached. This is useful
+     * if the condition is expensive or rate-limited.
+     *
+     * @param maxEvaluations the max number of condition evaluations
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory maxEvaluations(int maxEvaluations) {
+        return new ConditionFactory(alias, timeoutConstraint.withMaxEvaluations(maxEvaluations), pollInterval, pollDelay,
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Spend at most <code>maxEvaluationTime</code> (cumulative wall clock time) evaluating the condition. If the condition is not fulfilled
+     * by then an {@link EvaluationBudgetExceededException} is thrown. Note that the time spent between polls doesn't count.
+     *
+     * @param maxEvaluationTime the max cumulative condition evaluation time
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory maxEvaluationTime(Duration maxEvaluationTime) {
+        return new ConditionFactory(alias, timeoutConstraint.withMaxEvaluationTime(maxEvaluationTime), pollInterval, pollDelay,
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Spend at most <code>maxEvaluationTime</code> (cumulative wall clock time) evaluating the condition.
+     *
+     * @param maxEvaluationTime the max cumulative condition evaluation time
+     * @param unit              the unit
+     * @return the condition factory
+     * @see #maxEvaluationTime(Duration)
+     * @since 4.3.1
+     */
+    public ConditionFactory maxEvaluationTime(long maxEvaluationTime, TimeUnit unit) {
+        return maxEvaluationTime(DurationFactory.of(maxEvaluationTime, unit));
+    }
+
+    /**
+     * Spend at most <code>maxEvaluationCpuTime</code> (cumulative CPU time of the thread evaluating the condition) evaluating the condition.
+     * If the condition is not fulfilled by then an {@link EvaluationBudgetExceededException} is thrown. This budget is only enforced
+     * if the JVM supports measuring thread CPU time.
+     *
+     * @param maxEvaluationCpuTime the max cumulative condition evaluation CPU time
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory maxEvaluationCpuTime(Duration maxEvaluationCpuTime) {
+        return new ConditionFactory(alias, timeoutConstraint.withMaxEvaluationCpuTime(maxEvaluationCpuTime), pollInterval, pollDelay,
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Spend at most <code>maxEvaluationCpuTime</code> (cumulative CPU time of the thread evaluating the condition) evaluating the condition.
+     *
+     * @param maxEvaluationCpuTime the max cumulative condition evaluation CPU time
+     * @param unit                 the unit
+     * @return the condition factory
+     * @see #maxEvaluationCpuTime(Duration)
+     * @since 4.3.1
+     */
+    public ConditionFactory maxEvaluationCpuTime(long maxEvaluationCpuTime, TimeUnit unit) {
+        return maxEvaluationCpuTime(DurationFactory.of(maxEvaluationCpuTime, unit));
+    }
+
     /**
      * Set the alias
      *
@@ -207,7 +362,7 @@ public class ConditionFactory {
      */
     public ConditionFactory alias(String alias) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay,
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -218,7 +373,7 @@ public class ConditionFactory {
      */
     public ConditionFactory atLeast(Duration timeout) {
         return new ConditionFactory(alias, timeoutConstraint.withMinWaitTime(timeout), pollInterval, pollDelay,
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -264,8 +419,15 @@ public class ConditionFactory {
      * @return the condition factory
      */
     public ConditionFactory forever() {
-        return new ConditionFactory(alias, AtMostWaitConstraint.FOREVER, pollInterval, pollDelay,
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+        WaitConstraint foreverConstraint = AtMostWaitConstraint.FOREVER;
+        if (timeoutConstraint instanceof EvaluationBudgetWaitConstraint) {
+            // Keep the evaluation budget
+            foreverConstraint = foreverConstraint.withMaxEvaluations(timeoutConstraint.getMaxEvaluations())
+                    .withMaxEvaluationTime(timeoutConstraint.getMaxEvaluationTime())
+                    .withMaxEvaluationCpuTime(timeoutConstraint.getMaxEvaluationCpuTime());
+        }
+        return new ConditionFactory(alias, foreverConstraint, pollInterval, pollDelay,
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -284,7 +446,161 @@ public class ConditionFactory {
      */
     public ConditionFactory pollInterval(Duration pollInterval) {
         return new ConditionFactory(alias, timeoutConstraint, new FixedPollInterval(pollInterval), pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Report metrics, such as the time until the condition is fulfilled and the duration of each condition evaluation, of this await statement
+     * to the supplied {@link AwaitilityMetrics}. The await statement is identified by its alias or, if it has no alias, by its call site.
+     *
+     * @param metrics the metrics to report to
+     * @return the condition factory
+     * @see org.awaitility.Awaitility#setDefaultMetrics(AwaitilityMetrics)
+     * @since 4.3.1
+     */
+    public ConditionFactory metrics(AwaitilityMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Profile the condition evaluations of this await statement, i.e. measure the time spent in each {@link EvaluationPhase} of each
+     * evaluation, such as the executor handoff, the supplier, the matcher, the message generation, the condition evaluation listener and
+     * the time overslept between evaluations. This tells whether the time of a slow await statement is spent in the system under test or
+     * in Awaitility. A summary of the profile is printed to the console (using <code>System.out.println</code>) when the await statement
+     * completes. The profile is also available in the {@link TimeoutEvent} and it's reported to the {@link AwaitilityMetrics}.
+     *
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory profiling() {
+        return profiling(profile -> System.out.println(profile.getSummary()));
+    }
+
+    /**
+     * Profile the condition evaluations of this await statement, see {@link #profiling()}, and pass the profile to the supplied
+     * <code>profilingConsumer</code> when the await statement completes.
+     *
+     * @param profilingConsumer the consumer of the profile
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory profiling(Consumer<AwaitProfile> profilingConsumer) {
+        if (profilingConsumer == null) {
+            throw new IllegalArgumentException("Profiling consumer cannot be null");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Pipeline the evaluations of the condition. A new evaluation is launched every poll interval, without waiting for the previous evaluation
+     * to complete, as long as there are less than <code>maxInFlightEvaluations</code> evaluations in-flight. The first evaluation that fulfills
+     * the condition wins and the other in-flight evaluations are cancelled. This is useful for conditions whose evaluation takes longer than the
+     * desired detection latency, for example when calling a slow service:
+     * <pre>
+     * await().pollInterval(50, MILLISECONDS).pipelinedEvaluations(8).until(slowService::isReady);
+     * </pre>
+     * Without pipelining the time it takes to detect that the condition is fulfilled is at least the evaluation time plus the poll interval,
+     * with pipelining it's roughly the poll interval. Note that the condition is evaluated concurrently by several threads so it must be thread-safe.
+     * A {@link ConditionEvaluationListener} is called by the evaluating threads as well, but never by two threads at the same time.
+     * Unless a poll executor service or thread is specified Awaitility uses a thread pool with <code>maxInFlightEvaluations</code> threads.
+     * Pipelining has no effect when polling in the same thread as the test (see {@link #pollInSameThread()}).
+     *
+     * @param maxInFlightEvaluations the max number of condition evaluations that may be in-flight at the same time, 1 disables pipelining.
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory pipelinedEvaluations(int maxInFlightEvaluations) {
+        if (maxInFlightEvaluations < 1) {
+            throw new IllegalArgumentException("Max in-flight evaluations must be greater than 0");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Run the await statement on virtual time. Instead of sleeping, the poll delay and poll interval advance the virtual clock instantly,
+     * and the timeout, the minimum wait time and the hold predicate time (<code>during</code>) are measured on the virtual clock.
+     * If the system under test reads its time from the same clock (see {@link VirtualClock#asClock()}) tests with timeouts of several minutes run in milliseconds:
+     * <pre>
+     * VirtualClock clock = new VirtualClock();
+     * Cache cache = new Cache(clock.asClock(), Duration.ofMinutes(5));
+     * cache.put("key", "value");
+     *
+     * await().clock(clock).atMost(Duration.ofMinutes(10)).until(() -&gt; cache.get("key") == null);
+     * </pre>
+     *
+     * @param clock The virtual clock
+     * @return the condition factory
+     * @see #clock(Ticker, Sleeper)
+     * @since 4.3.1
+     */
+    public ConditionFactory clock(VirtualClock clock) {
+        return clock(clock, clock);
+    }
+
+    /**
+     * Use a custom source of time for the await statement. The <code>ticker</code> is used to measure the timeout, the minimum wait time and
+     * the hold predicate time and the <code>sleeper</code> lets time pass during the poll delay and between the condition evaluations.
+     * This allows Awaitility to run on the same fake clock as the system under test. Note that the evaluation timeout and the time to wait
+     * for a single condition evaluation to complete are always measured in real time, and that a custom clock cannot be combined with
+     * {@link #pipelinedEvaluations(int)}.
+     *
+     * @param ticker  The source of time
+     * @param sleeper Lets time pass between the condition evaluations
+     * @return the condition factory
+     * @see VirtualClock
+     * @since 4.3.1
+     */
+    public ConditionFactory clock(Ticker ticker, Sleeper sleeper) {
+        if (ticker == null) {
+            throw new IllegalArgumentException("Ticker cannot be null");
+        }
+        if (sleeper == null) {
+            throw new IllegalArgumentException("Sleeper cannot be null");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Wait at most <code>evaluationTimeout</code> for a single evaluation of the condition to complete. If an evaluation takes longer it's
+     * cancelled (the thread evaluating the condition is interrupted), treated as if the condition was not fulfilled and the condition is evaluated again
+     * after the poll interval. This prevents a single hanging evaluation from consuming the entire timeout.
+     * <p>
+     * If the evaluation doesn't respond to interruption, and Awaitility manages the poll executor service, the next evaluation is performed by a new thread.
+     * Note that the evaluation timeout has no effect when polling in the same thread as the test (see {@link #pollInSameThread()}).
+     * </p>
+     *
+     * @param evaluationTimeout the max time to wait for a single condition evaluation
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory evaluationTimeout(Duration evaluationTimeout) {
+        if (evaluationTimeout == null) {
+            throw new IllegalArgumentException("evaluationTimeout cannot be null");
+        } else if (evaluationTimeout.isZero() || evaluationTimeout.isNegative()) {
+            throw new IllegalArgumentException("evaluationTimeout must be greater than 0");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Wait at most <code>evaluationTimeout</code> for a single evaluation of the condition to complete.
+     *
+     * @param evaluationTimeout the max time to wait for a single condition evaluation
+     * @param unit              the unit
+     * @return the condition factory
+     * @see #evaluationTimeout(Duration)
+     * @since 4.3.1
+     */
+    public ConditionFactory evaluationTimeout(long evaluationTimeout, TimeUnit unit) {
+        return evaluationTimeout(DurationFactory.of(evaluationTimeout, unit));
     }
 
     /**
@@ -309,7 +625,7 @@ public class ConditionFactory {
      */
     public ConditionFactory pollDelay(long delay, TimeUnit unit) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, DurationFactory.of(delay, unit),
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -325,7 +641,7 @@ public class ConditionFactory {
             throw new IllegalArgumentException("pollDelay cannot be null");
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -358,12 +674,12 @@ public class ConditionFactory {
     public ConditionFactory pollInterval(long pollInterval, TimeUnit unit) {
         PollInterval fixedPollInterval = new FixedPollInterval(DurationFactory.of(pollInterval, unit));
         return new ConditionFactory(alias, timeoutConstraint, fixedPollInterval, definePollDelay(pollDelay, fixedPollInterval),
-                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                catchUncaughtExceptions, exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     public ConditionFactory pollInterval(PollInterval pollInterval) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, definePollDelay(pollDelay, pollInterval), catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -376,7 +692,48 @@ public class ConditionFactory {
      */
     public ConditionFactory catchUncaughtExceptions() {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, true, exceptionsIgnorer,
-                conditionEvaluationListener, executorLifecycle, failFastCondition);
+                conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, null, ticker, sleeper);
+    }
+
+    /**
+     * Instruct Awaitility to catch uncaught exceptions only from threads that belong to the supplied thread group (or any of its
+     * subgroups). This is useful when several await statements run concurrently, for example in parallel tests, and an exception thrown
+     * by a thread started by one test should not fail the await statements of the other tests.
+     *
+     * @param threadGroup The thread group whose uncaught exceptions should be caught
+     * @return the condition factory
+     */
+    public ConditionFactory catchUncaughtExceptionsFrom(final ThreadGroup threadGroup) {
+        if (threadGroup == null) {
+            throw new IllegalArgumentException("Thread group cannot be null");
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, true, exceptionsIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer,
+                thread -> threadGroup.parentOf(thread.getThreadGroup()), ticker, sleeper);
+    }
+
+    /**
+     * Instruct Awaitility to catch uncaught exceptions only from the supplied threads. This is useful when several await statements run
+     * concurrently, for example in parallel tests, and an exception thrown by a thread started by one test should not fail the await
+     * statements of the other tests.
+     *
+     * @param threads The threads whose uncaught exceptions should be caught
+     * @return the condition factory
+     */
+    public ConditionFactory catchUncaughtExceptionsFrom(final Thread... threads) {
+        if (threads == null || threads.length == 0) {
+            throw new IllegalArgumentException("You must specify at least one thread");
+        }
+        final Set<Thread> scope = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Thread thread : threads) {
+            if (thread == null) {
+                throw new IllegalArgumentException("Thread cannot be null");
+            }
+            scope.add(thread);
+        }
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, true, exceptionsIgnorer,
+                conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer,
+                scope::contains, ticker, sleeper);
     }
 
     /**
@@ -395,7 +752,7 @@ public class ConditionFactory {
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
                 new PredicateExceptionIgnorer(e -> exceptionType.isAssignableFrom(e.getClass())),
-                conditionEvaluationListener, executorLifecycle, failFastCondition);
+                conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -413,7 +770,7 @@ public class ConditionFactory {
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
                 new PredicateExceptionIgnorer(e -> e.getClass().equals(exceptionType)),
-                conditionEvaluationListener, executorLifecycle, failFastCondition);
+                conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -448,7 +805,7 @@ public class ConditionFactory {
      */
     public ConditionFactory ignoreExceptionsMatching(Matcher<? super Throwable> matcher) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                new HamcrestExceptionIgnorer(matcher), conditionEvaluationListener, executorLifecycle, failFastCondition);
+                new HamcrestExceptionIgnorer(matcher), conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -460,7 +817,7 @@ public class ConditionFactory {
      */
     public ConditionFactory ignoreExceptionsMatching(Predicate<? super Throwable> predicate) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                new PredicateExceptionIgnorer(predicate), conditionEvaluationListener, executorLifecycle, failFastCondition);
+                new PredicateExceptionIgnorer(predicate), conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -485,7 +842,7 @@ public class ConditionFactory {
      */
     public ConditionFactory await(String alias) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -536,7 +893,7 @@ public class ConditionFactory {
      */
     public ConditionFactory dontCatchUncaughtExceptions() {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, false,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -553,7 +910,7 @@ public class ConditionFactory {
             throw new IllegalArgumentException("Poll executor service cannot be an instance of " + ScheduledExecutorService.class.getName());
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, false,
-                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withoutCleanup(executorService), failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withoutCleanup(executorService), failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -566,7 +923,7 @@ public class ConditionFactory {
      */
     public ConditionFactory pollThread(final Function<Runnable, Thread> threadSupplier) {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, false,
-                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create(threadSupplier)), failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create(threadSupplier)), failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -587,7 +944,24 @@ public class ConditionFactory {
      */
     public ConditionFactory pollInSameThread() {
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, false,
-                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::sameThreadExecutorService), failFastCondition);
+                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::sameThreadExecutorService), failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
+    }
+
+    /**
+     * Instructs Awaitility to evaluate the condition in the {@link java.util.concurrent.ForkJoinPool} of the await statement, for example
+     * when it's used in a parallel stream or in <code>CompletableFuture.supplyAsync(..)</code>. If the await statement isn't running in a
+     * fork-join pool the condition is evaluated in the common pool. This avoids creating a new thread for each await statement.
+     * <p>
+     * Note that regardless of this setting, an await statement running in a fork-join pool always waits using
+     * {@link java.util.concurrent.ForkJoinPool#managedBlock(java.util.concurrent.ForkJoinPool.ManagedBlocker)} so that the pool
+     * can activate a spare worker instead of being starved by the waiting thread.
+     *
+     * @return the condition factory
+     * @since 4.3.1
+     */
+    public ConditionFactory pollInForkJoinPool() {
+        return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
+                exceptionsIgnorer, conditionEvaluationListener, ExecutorLifecycle.withNormalCleanupBehavior(InternalExecutorServiceFactory::forkJoinPoolExecutorService), failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -604,7 +978,7 @@ public class ConditionFactory {
             throw new IllegalArgumentException("failFastCondition cannot be null");
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new CallableFailFastCondition(null, failFastCondition));
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new CallableFailFastCondition(null, failFastCondition), evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -623,7 +997,7 @@ public class ConditionFactory {
         }
 
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new CallableFailFastCondition(failFastFailureReason, failFastCondition));
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new CallableFailFastCondition(failFastFailureReason, failFastCondition), evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -668,7 +1042,7 @@ public class ConditionFactory {
             throw new IllegalArgumentException("failFastAssertion cannot be null");
         }
         return new ConditionFactory(alias, timeoutConstraint, pollInterval, pollDelay, catchUncaughtExceptions,
-                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new FailFastAssertion(failFastFailureReason, failFastAssertion));
+                exceptionsIgnorer, conditionEvaluationListener, executorLifecycle, new FailFastAssertion(failFastFailureReason, failFastAssertion), evaluationTimeout, maxInFlightEvaluations, metrics, profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     /**
@@ -1129,6 +1503,17 @@ public class ConditionFactory {
         until(new CallableCondition(conditionEvaluator, generateConditionSettings()));
     }
 
+    /**
+     * Get the settings of an await statement created by this condition factory. This is intended for language integrations,
+     * such as the Kotlin coroutines support, that evaluate conditions without blocking a thread.
+     *
+     * @return The condition settings
+     * @since 4.3.1
+     */
+    public ConditionSettings getConditionSettings() {
+        return generateConditionSettings();
+    }
+
     private ConditionSettings generateConditionSettings() {
         Duration actualPollDelay = definePollDelay(pollDelay, pollInterval);
 
@@ -1145,15 +1530,20 @@ public class ConditionFactory {
                     formatAsString(timeout), formatAsString(actualPollDelay)));
         }
 
+        if (maxInFlightEvaluations > 1 && (ticker != Ticker.system() || sleeper != Sleeper.system())) {
+            throw new IllegalArgumentException("Pipelined evaluations cannot be combined with a custom clock");
+        }
+
         ExecutorLifecycle executorLifecycle;
         if (this.executorLifecycle == null) {
-            executorLifecycle = ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create((r, threadName) -> new Thread(Thread.currentThread().getThreadGroup(), r, threadName), alias));
+            executorLifecycle = ExecutorLifecycle.withNormalCleanupBehavior(() -> InternalExecutorServiceFactory.create((r, threadName) -> new Thread(Thread.currentThread().getThreadGroup(), r, threadName), alias, maxInFlightEvaluations));
         } else {
             executorLifecycle = this.executorLifecycle;
         }
 
-        return new ConditionSettings(alias, catchUncaughtExceptions, timeoutConstraint, pollInterval, actualPollDelay,
-                conditionEvaluationListener, exceptionsIgnorer, executorLifecycle, failFastCondition);
+        return new ConditionSettings(alias, catchUncaughtExceptions, timeoutConstraint, pollInterval.start(), actualPollDelay,
+                conditionEvaluationListener, exceptionsIgnorer, executorLifecycle, failFastCondition, evaluationTimeout, maxInFlightEvaluations, metrics,
+                profilingConsumer, uncaughtExceptionScope, ticker, sleeper);
     }
 
     private <T> T until(Condition<T> condition) {
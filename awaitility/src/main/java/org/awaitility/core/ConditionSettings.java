@@ -15,11 +15,16 @@
  */
 package org.awaitility.core;
 
+import org.awaitility.clock.Sleeper;
+import org.awaitility.clock.Ticker;
 import org.awaitility.constraint.WaitConstraint;
+import org.awaitility.metrics.AwaitilityMetrics;
 import org.awaitility.pollinterval.PollInterval;
 
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class ConditionSettings {
     private final String alias;
@@ -31,6 +36,13 @@ public class ConditionSettings {
     private final ConditionEvaluationListener conditionEvaluationListener;
     private final ExecutorLifecycle executorLifecycle;
     private final FailFastCondition failFastCondition;
+    private final Duration evaluationTimeout;
+    private final int maxInFlightEvaluations;
+    private final AwaitilityMetrics metrics;
+    private final Consumer<AwaitProfile> profilingConsumer;
+    private final Predicate<Thread> uncaughtExceptionScope;
+    private final Ticker ticker;
+    private final Sleeper sleeper;
 
     /**
      * <p>Constructor for ConditionSettings.</p>
@@ -43,10 +55,19 @@ public class ConditionSettings {
      * @param ignoreExceptions            a {@link ExceptionIgnorer} object.
      * @param executorLifecycle           Responsible for performing executor service cleanup after each condition evaluation round
      * @param failFastCondition           a Callable that if returns true, fails the test immediately
+     * @param evaluationTimeout           the max time to wait for a single condition evaluation, <code>null</code> if undefined
+     * @param maxInFlightEvaluations      the max number of condition evaluations that may be in-flight at the same time
+     * @param metrics                     the metrics that the await statement reports to, <code>null</code> if undefined
+     * @param profilingConsumer           the consumer of the profile of the await statement, <code>null</code> if profiling is disabled
+     * @param uncaughtExceptionScope      the threads whose uncaught exceptions should be caught, <code>null</code> means all threads
+     * @param ticker                      the source of time of the await statement
+     * @param sleeper                     lets time pass between the condition evaluations
      */
     ConditionSettings(String alias, boolean catchUncaughtExceptions, WaitConstraint waitConstraint,
                       PollInterval pollInterval, Duration pollDelay, ConditionEvaluationListener conditionEvaluationListener,
-                      ExceptionIgnorer ignoreExceptions, ExecutorLifecycle executorLifecycle, final FailFastCondition failFastCondition) {
+                      ExceptionIgnorer ignoreExceptions, ExecutorLifecycle executorLifecycle, final FailFastCondition failFastCondition,
+                      Duration evaluationTimeout, int maxInFlightEvaluations, AwaitilityMetrics metrics, Consumer<AwaitProfile> profilingConsumer,
+                      Predicate<Thread> uncaughtExceptionScope, Ticker ticker, Sleeper sleeper) {
         if (waitConstraint == null) {
             throw new IllegalArgumentException("You must specify a maximum waiting time (was null).");
         }
@@ -62,6 +83,13 @@ public class ConditionSettings {
         this.conditionEvaluationListener = conditionEvaluationListener;
         this.ignoreExceptions = ignoreExceptions;
         this.failFastCondition = failFastCondition;
+        this.evaluationTimeout = evaluationTimeout;
+        this.maxInFlightEvaluations = maxInFlightEvaluations;
+        this.metrics = metrics;
+        this.profilingConsumer = profilingConsumer;
+        this.uncaughtExceptionScope = uncaughtExceptionScope;
+        this.ticker = ticker;
+        this.sleeper = sleeper;
     }
 
     /**
@@ -100,6 +128,33 @@ public class ConditionSettings {
         return waitConstraint.getHoldPredicateTime();
     }
 
+    /**
+     * <p>Returning the max number of condition evaluations from field <code>waitConstraint</code>.</p>
+     *
+     * @return the max number of evaluations, {@link Integer#MAX_VALUE} if unlimited.
+     */
+    public int getMaxEvaluations() {
+        return waitConstraint.getMaxEvaluations();
+    }
+
+    /**
+     * <p>Returning the max cumulative condition evaluation time from field <code>waitConstraint</code>.</p>
+     *
+     * @return a {@link java.time.Duration} object.
+     */
+    public Duration getMaxEvaluationTime() {
+        return waitConstraint.getMaxEvaluationTime();
+    }
+
+    /**
+     * <p>Returning the max cumulative condition evaluation CPU time from field <code>waitConstraint</code>.</p>
+     *
+     * @return a {@link java.time.Duration} object.
+     */
+    public Duration getMaxEvaluationCpuTime() {
+        return waitConstraint.getMaxEvaluationCpuTime();
+    }
+
     /**
      * <p>Getter for the field <code>pollInterval</code>.</p>
      *
@@ -136,6 +191,14 @@ public class ConditionSettings {
         return catchUncaughtExceptions;
     }
 
+    /**
+     * @param thread The thread that threw an uncaught exception
+     * @return <code>true</code> if uncaught exceptions should be caught and <code>thread</code> is in the scope of the await statement
+     */
+    boolean shouldCatchUncaughtExceptionFrom(Thread thread) {
+        return catchUncaughtExceptions && (uncaughtExceptionScope == null || uncaughtExceptionScope.test(thread));
+    }
+
     /**
      * <p>Getter for the field <code>conditionResultLogger</code></p>
      *
@@ -165,4 +228,74 @@ public class ConditionSettings {
     public FailFastCondition getFailFastCondition() {
         return this.failFastCondition;
     }
+
+    /**
+     * @return the max time to wait for a single condition evaluation, <code>null</code> if undefined.
+     */
+    public Duration getEvaluationTimeout() {
+        return evaluationTimeout;
+    }
+
+    /**
+     * @return <code>true</code> if an evaluation timeout is defined.
+     */
+    public boolean hasEvaluationTimeout() {
+        return evaluationTimeout != null;
+    }
+
+    /**
+     * @return the max number of condition evaluations that may be in-flight at the same time.
+     */
+    public int getMaxInFlightEvaluations() {
+        return maxInFlightEvaluations;
+    }
+
+    /**
+     * @return <code>true</code> if a new condition evaluation may be launched before the previous evaluation has completed.
+     */
+    public boolean isPipelined() {
+        return maxInFlightEvaluations > 1;
+    }
+
+    /**
+     * @return the metrics that the await statement reports to, <code>null</code> if undefined.
+     */
+    public AwaitilityMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the consumer of the profile of the await statement, <code>null</code> if profiling is disabled.
+     */
+    public Consumer<AwaitProfile> getProfilingConsumer() {
+        return profilingConsumer;
+    }
+
+    /**
+     * @return <code>true</code> if the condition evaluations should be profiled.
+     */
+    public boolean isProfiling() {
+        return profilingConsumer != null;
+    }
+
+    /**
+     * @return the source of time of the await statement.
+     */
+    public Ticker getTicker() {
+        return ticker;
+    }
+
+    /**
+     * @return the sleeper that lets time pass between the condition evaluations.
+     */
+    public Sleeper getSleeper() {
+        return sleeper;
+    }
+
+    /**
+     * @return <code>true</code> if the await statement runs on a custom clock instead of the system clock.
+     */
+    boolean hasCustomClock() {
+        return ticker != Ticker.system() || sleeper != Sleeper.system();
+    }
 }
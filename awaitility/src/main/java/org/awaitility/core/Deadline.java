@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.clock.Ticker;
+
+import java.time.Duration;
+
+import static org.awaitility.core.ForeverDuration.isForever;
+
+/**
+ * A point in time that await statements started in the same context must complete by. A deadline is bound to the current thread while an
+ * await statement is running (and while its condition is evaluated) or while an {@link AwaitBudget} is bound. Await statements started
+ * while a deadline is bound wait at most until the deadline, even if their own timeout is longer. Deadlines nest, the remaining time of a
+ * deadline never exceeds the remaining time of the deadline that was bound when it was created.
+ * <p>
+ * A deadline is ignored once it's released, i.e. once its await statement has completed or its budget has been unbound, and the deadline of an
+ * await statement is also ignored once it has expired. Both can happen in a condition evaluation that is still running after its await
+ * statement has given up on it.
+ */
+final class Deadline {
+
+    // Not inheritable since a thread that is created while a deadline is bound, e.g. by a thread pool, typically outlives the deadline.
+    // The deadline of an await statement is bound to the threads evaluating its condition explicitly.
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+    private final Ticker ticker;
+    private final long deadlineNanos;
+    private final String description;
+    private final boolean ignoredOnceExpired;
+    private final Deadline parent;
+    private volatile boolean released;
+
+    private Deadline(Ticker ticker, long deadlineNanos, String description, boolean ignoredOnceExpired, Deadline parent) {
+        this.ticker = ticker;
+        this.deadlineNanos = deadlineNanos;
+        this.description = description;
+        this.ignoredOnceExpired = ignoredOnceExpired;
+        this.parent = parent;
+    }
+
+    /**
+     * Create a new deadline that expires <code>timeout</code> from now, or at the deadline bound to the current thread if that expires earlier.
+     *
+     * @param ticker      The source of time
+     * @param timeout     The time until the deadline, {@link ForeverDuration} if the deadline never expires
+     * @param description Describes the deadline in timeout messages, e.g. "the await budget of 2 minutes"
+     * @param ignoredOnceExpired <code>true</code> if await statements started after the deadline has expired should ignore it, <code>false</code>
+     *                           if they should time out immediately
+     * @return The deadline
+     */
+    static Deadline after(Ticker ticker, Duration timeout, String description, boolean ignoredOnceExpired) {
+        final long deadlineNanos;
+        if (isForever(timeout)) {
+            deadlineNanos = Long.MAX_VALUE;
+        } else {
+            deadlineNanos = saturatedAdd(ticker.nanoTime(), saturatedToNanos(timeout));
+        }
+        return new Deadline(ticker, deadlineNanos, description, ignoredOnceExpired, current());
+    }
+
+    /**
+     * @param parent The deadline that this deadline should be nested in, <code>null</code> if none
+     * @return A deadline that expires at the same time as this deadline, or when <code>parent</code> expires if it expires earlier
+     */
+    Deadline nestedIn(Deadline parent) {
+        return new Deadline(ticker, deadlineNanos, description, ignoredOnceExpired, parent);
+    }
+
+    /**
+     * @return The deadline bound to the current thread, or the deadline it's nested in if it's ignored. <code>null</code> if no deadline is bound.
+     */
+    static Deadline current() {
+        Deadline deadline = current.get();
+        while (deadline != null && deadline.isIgnored()) {
+            deadline = deadline.parent;
+        }
+        return deadline;
+    }
+
+    /**
+     * Release the deadline, await statements started after it has been released ignore it even if it's still bound to their thread.
+     */
+    void release() {
+        released = true;
+    }
+
+    /**
+     * Bind this deadline to the current thread.
+     *
+     * @return The deadline that was previously bound to the current thread, pass it to {@link #restore(Deadline)} to unbind this deadline
+     */
+    Deadline bind() {
+        final Deadline previous = current.get();
+        current.set(this);
+        return previous;
+    }
+
+    /**
+     * Bind <code>previous</code> to the current thread again.
+     *
+     * @param previous The deadline returned by {@link #bind()}
+     */
+    static void restore(Deadline previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * @return The time that remains until this deadline, or the deadline it's nested in, expires. {@link ForeverDuration} if it never expires.
+     */
+    Duration remaining() {
+        return limitingDeadline().ownRemaining();
+    }
+
+    /**
+     * @return A description of the deadline, or the deadline it's nested in, that expires first.
+     */
+    String describe() {
+        return limitingDeadline().description;
+    }
+
+    private Deadline limitingDeadline() {
+        Deadline limiting = this;
+        for (Deadline deadline = parent; deadline != null; deadline = deadline.parent) {
+            if (!deadline.isIgnored() && deadline.ownRemaining().compareTo(limiting.ownRemaining()) < 0) {
+                limiting = deadline;
+            }
+        }
+        return limiting;
+    }
+
+    private boolean isIgnored() {
+        return released || (ignoredOnceExpired && ownRemaining().isZero());
+    }
+
+    private Duration ownRemaining() {
+        if (deadlineNanos == Long.MAX_VALUE) {
+            return ForeverDuration.FOREVER;
+        }
+        return Duration.ofNanos(Math.max(0L, deadlineNanos - ticker.nanoTime()));
+    }
+
+    private static long saturatedAdd(long nanos, long moreNanos) {
+        final long sum = nanos + moreNanos;
+        // Overflow if both arguments have the opposite sign of the result
+        return ((nanos ^ sum) & (moreNanos ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedToNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException tooBig) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -32,8 +32,13 @@ public class EvaluatedCondition<T> {
     private final long elapsedTimeInMS;
     private final Duration pollInterval;
     private final long remainingTimeInMS;
+    private final long elapsedTimeInNanos;
+    private final long remainingTimeInNanos;
+    private final long evaluationDurationInNanos;
     private final boolean conditionIsFulfilled;
     private final String alias;
+    private final String callSite;
+    private final long awaitId;
 
     /**
      * @param description           A descriptive match message or mismatch message of the matcher. If <code>isConditionSatisfied</code> is <code>true</code> then it
@@ -42,18 +47,28 @@ public class EvaluatedCondition<T> {
      * @param currentConditionValue The current value of the condition.
      * @param elapsedTimeInMS       elapsed time in milliseconds.
      * @param remainingTimeInMS     remaining time to wait in milliseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param elapsedTimeInNanos    elapsed time in nanoseconds.
+     * @param remainingTimeInNanos  remaining time to wait in nanoseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param evaluationDurationInNanos The time it took to evaluate the condition in nanoseconds.
      * @param isConditionSatisfied  <code>true</code> if the condition is satisfied (i.e. hamcrest matcher matches the value), <code>false</code> otherwise (i.e. an intermediate value).
+     * @param callSite              The call site of the await statement, <code>null</code> if unknown.
+     * @param awaitId               The id of the await statement.
      */
     EvaluatedCondition(String description, Matcher<? super T> matcher, T currentConditionValue, long elapsedTimeInMS, long remainingTimeInMS,
-                       boolean isConditionSatisfied, String alias, Duration pollInterval) {
+                       long elapsedTimeInNanos, long remainingTimeInNanos, long evaluationDurationInNanos, boolean isConditionSatisfied, String alias, Duration pollInterval, String callSite, long awaitId) {
         this.description = description;
         this.matcher = matcher;
         this.currentConditionValue = currentConditionValue;
         this.elapsedTimeInMS = elapsedTimeInMS;
         this.remainingTimeInMS = remainingTimeInMS;
+        this.elapsedTimeInNanos = elapsedTimeInNanos;
+        this.remainingTimeInNanos = remainingTimeInNanos;
+        this.evaluationDurationInNanos = evaluationDurationInNanos;
         this.conditionIsFulfilled = isConditionSatisfied;
         this.alias = alias;
         this.pollInterval = pollInterval;
+        this.callSite = callSite;
+        this.awaitId = awaitId;
     }
 
     /**
@@ -99,6 +114,30 @@ public class EvaluatedCondition<T> {
         return remainingTimeInMS;
     }
 
+    /**
+     * @return Elapsed time in nanoseconds.
+     * @since 4.3.1
+     */
+    public long getElapsedTimeInNanos() {
+        return elapsedTimeInNanos;
+    }
+
+    /**
+     * @return Remaining time to wait in nanoseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     * @since 4.3.1
+     */
+    public long getRemainingTimeInNanos() {
+        return remainingTimeInNanos;
+    }
+
+    /**
+     * @return The time it took to evaluate the condition (i.e. to get the value and match it) in nanoseconds.
+     * @since 4.3.1
+     */
+    public long getEvaluationDurationInNanos() {
+        return evaluationDurationInNanos;
+    }
+
     /**
      * @return <code>true</code> if the condition doesn't have a timeout, <code>false</code> otherwise.
      */
@@ -135,4 +174,21 @@ public class EvaluatedCondition<T> {
     public Duration getPollInterval() {
         return pollInterval;
     }
+
+    /**
+     * @return The call site of the await statement (<code>class.method(file:line)</code>), <code>null</code> if it's unknown
+     * @since 4.3.1
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return An id that is unique for each await statement run in this JVM, it tells the events of concurrent await statements apart.
+     * <code>0</code> if it's unknown.
+     * @since 4.3.1
+     */
+    public long getAwaitId() {
+        return awaitId;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.awaitility.core;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a condition was not fulfilled before the evaluation budget of the await statement was consumed.
+ *
+ * @see ConditionFactory#maxEvaluations(int)
+ * @see ConditionFactory#maxEvaluationTime(Duration)
+ * @see ConditionFactory#maxEvaluationCpuTime(Duration)
+ * @since 4.3.1
+ */
+public class EvaluationBudgetExceededException extends ConditionTimeoutException {
+
+    private final int evaluations;
+    private final Duration evaluationTime;
+    private final Duration evaluationCpuTime;
+
+    /**
+     * @param message           A description of why the evaluation budget was exceeded.
+     * @param evaluations       The number of times the condition was evaluated
+     * @param evaluationTime    The cumulative wall clock time spent evaluating the condition
+     * @param evaluationCpuTime The cumulative CPU time spent evaluating the condition, or <code>null</code> if it was not measured
+     */
+    public EvaluationBudgetExceededException(String message, int evaluations, Duration evaluationTime, Duration evaluationCpuTime) {
+        super(message);
+        this.evaluations = evaluations;
+        this.evaluationTime = evaluationTime;
+        this.evaluationCpuTime = evaluationCpuTime;
+    }
+
+    /**
+     * @return The number of times the condition was evaluated
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return The cumulative wall clock time spent evaluating the condition
+     */
+    public Duration getEvaluationTime() {
+        return evaluationTime;
+    }
+
+    /**
+     * @return The cumulative CPU time spent evaluating the condition, or <code>null</code> if no CPU time budget was defined (or if the JVM doesn't support measuring thread CPU time)
+     */
+    public Duration getEvaluationCpuTime() {
+        return evaluationCpuTime;
+    }
+}
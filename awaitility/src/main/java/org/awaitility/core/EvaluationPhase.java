@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+/**
+ * The phases of a condition evaluation (poll) that are measured when profiling is enabled, see {@link ConditionFactory#profiling()}.
+ *
+ * @since 4.3.1
+ */
+public enum EvaluationPhase {
+    /**
+     * The time from when the evaluation was submitted to the executor until it started to execute
+     */
+    EXECUTOR_HANDOFF("executor handoff", false),
+    /**
+     * The time spent in the supplier (or callable) of the condition
+     */
+    SUPPLIER("supplier", true),
+    /**
+     * The time spent in the Hamcrest matcher, predicate or assertion of the condition
+     */
+    MATCHER("matcher/assertion", true),
+    /**
+     * The time spent generating the match or mismatch messages
+     */
+    MESSAGE_GENERATION("message generation", false),
+    /**
+     * The time spent in the condition evaluation listener
+     */
+    LISTENER("listener", false),
+    /**
+     * The time slept in addition to the poll delay and poll intervals
+     */
+    OVERSLEEP("oversleep", false);
+
+    private final String description;
+    private final boolean conditionCode;
+
+    EvaluationPhase(String description, boolean conditionCode) {
+        this.description = description;
+        this.conditionCode = conditionCode;
+    }
+
+    /**
+     * @return A human readable description of the phase
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return <code>true</code> if the time is spent in the code of the condition (i.e. in the system under test and the test),
+     * <code>false</code> if it's spent by Awaitility.
+     */
+    public boolean isConditionCode() {
+        return conditionCode;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.time.Duration;
+
+/**
+ * Emits JDK Flight Recorder events for the lifecycle of await statements. JFR is not available in Java 8 so this implementation does
+ * nothing. When running on Java 11 or later it's replaced by the implementation in <code>META-INF/versions/11</code> of the
+ * (multi-release) Awaitility jar.
+ */
+final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * @return <code>true</code> if any of the Awaitility events are enabled in a running recording
+     */
+    static boolean isEnabled() {
+        return false;
+    }
+
+    static void awaitStarted(String alias, String callSite, Duration maxWaitTime, Duration pollDelay) {
+    }
+
+    /**
+     * @return A handle to pass to {@link #endConditionEvaluation(Object, String, String, boolean, Duration)} or <code>null</code> if
+     * the event is disabled.
+     */
+    static Object beginConditionEvaluation() {
+        return null;
+    }
+
+    static void endConditionEvaluation(Object handle, String alias, String callSite, boolean satisfied, Duration pollInterval) {
+    }
+
+    static void exceptionIgnored(String alias, String callSite, Throwable throwable) {
+    }
+
+    static void awaitTimedOut(String alias, String callSite, long elapsedTimeInMS, boolean conditionSatisfied, String message) {
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor service that runs its tasks in a {@link ForkJoinPool} without taking ownership of the pool, shutting down
+ * the executor service only affects the tasks submitted to it. The pool is the one of the fork-join task that creates the
+ * executor service or, if it's not created from a fork-join task, the common pool.
+ * <p>
+ * Tasks submitted with <code>submit</code> are wrapped in a {@link java.util.concurrent.FutureTask} (and not in a {@link ForkJoinTask})
+ * so that a thread waiting for the result doesn't start executing other tasks of the pool and cancelling the task interrupts the
+ * thread that runs it. Like {@link SameThreadExecutorService}, <code>shutdownNow</code> doesn't attempt to stop the running tasks
+ * and always returns an empty list.
+ */
+class ForkJoinPoolExecutorService extends AbstractExecutorService {
+
+    private final ForkJoinPool pool;
+    private int runningTasks;
+    private boolean shutdown;
+
+    ForkJoinPoolExecutorService() {
+        final ForkJoinPool currentPool = ForkJoinTask.getPool();
+        this.pool = currentPool == null ? ForkJoinPool.commonPool() : currentPool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor already shutdown");
+            }
+            runningTasks++;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    taskCompleted();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            taskCompleted();
+            throw e;
+        }
+    }
+
+    private synchronized void taskCompleted() {
+        runningTasks--;
+        if (runningTasks == 0) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && runningTasks == 0;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + remainingNanos;
+        while (!isTerminated()) {
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        return true;
+    }
+}
@@ -1,16 +1,32 @@
 package org.awaitility.core;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 public class IgnoredException {
     private final Throwable throwable;
     private final long elapsedTimeInMS;
     private final long remainingTimeInMS;
+    private final long elapsedTimeInNanos;
+    private final long remainingTimeInNanos;
     private final String alias;
+    private final String callSite;
+    private final long awaitId;
 
     public IgnoredException(Throwable throwable, long elapsedTimeInMS, long remainingTimeInMS, String alias) {
+        this(throwable, elapsedTimeInMS, remainingTimeInMS, MILLISECONDS.toNanos(elapsedTimeInMS),
+                remainingTimeInMS == Long.MAX_VALUE ? Long.MAX_VALUE : MILLISECONDS.toNanos(remainingTimeInMS), alias, null, 0L);
+    }
+
+    public IgnoredException(Throwable throwable, long elapsedTimeInMS, long remainingTimeInMS, long elapsedTimeInNanos, long remainingTimeInNanos,
+                            String alias, String callSite, long awaitId) {
         this.throwable = throwable;
         this.elapsedTimeInMS = elapsedTimeInMS;
         this.remainingTimeInMS = remainingTimeInMS;
+        this.elapsedTimeInNanos = elapsedTimeInNanos;
+        this.remainingTimeInNanos = remainingTimeInNanos;
         this.alias = alias;
+        this.callSite = callSite;
+        this.awaitId = awaitId;
     }
 
     public Throwable getThrowable() {
@@ -25,7 +41,40 @@ public class IgnoredException {
         return remainingTimeInMS;
     }
 
+    /**
+     * @return Elapsed time in nanoseconds.
+     * @since 4.3.1
+     */
+    public long getElapsedTimeInNanos() {
+        return elapsedTimeInNanos;
+    }
+
+    /**
+     * @return Remaining time to wait in nanoseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     * @since 4.3.1
+     */
+    public long getRemainingTimeInNanos() {
+        return remainingTimeInNanos;
+    }
+
     public String getAlias() {
         return alias;
     }
+
+    /**
+     * @return The call site of the await statement (<code>class.method(file:line)</code>), <code>null</code> if it's unknown
+     * @since 4.3.1
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return An id that is unique for each await statement run in this JVM, it tells the events of concurrent await statements apart.
+     * <code>0</code> if it's unknown.
+     * @since 4.3.1
+     */
+    public long getAwaitId() {
+        return awaitId;
+    }
 }
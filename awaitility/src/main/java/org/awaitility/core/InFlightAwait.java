@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.management.AwaitInfo;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Tracks an await statement that is currently blocking. Instances are created by {@link AwaitRegistry#awaitStarted(String, Supplier, Duration, Duration, Supplier)}
+ * and updated by the thread running the await statement. The mismatch message is computed lazily by that thread, only after an evaluation that
+ * follows a query of the registry, so that await statements don't pay for it unless someone asks and querying the registry (for example from
+ * a JMX thread) never runs user code.
+ */
+final class InFlightAwait {
+
+    enum Outcome {
+        FAILED, SATISFIED, TIMED_OUT
+    }
+
+    private final AwaitRegistry registry;
+    private final String alias;
+    private final Supplier<String> callSite;
+    private final Thread thread;
+    private final long startTime;
+    private final long startNanos;
+    private final Duration maxWaitTime;
+    private final Supplier<String> mismatchMessage;
+
+    private volatile int pollCount;
+    private volatile Duration pollInterval;
+    private volatile String lastMismatchMessage;
+    private volatile boolean mismatchMessageRequested;
+    private Outcome outcome = Outcome.FAILED;
+
+    InFlightAwait(AwaitRegistry registry, String alias, Supplier<String> callSite, Duration maxWaitTime, Duration pollInterval, Supplier<String> mismatchMessage) {
+        this.registry = registry;
+        this.alias = alias;
+        this.callSite = callSite;
+        this.thread = Thread.currentThread();
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.maxWaitTime = maxWaitTime;
+        this.pollInterval = pollInterval;
+        this.mismatchMessage = mismatchMessage;
+    }
+
+    /**
+     * Called after each evaluation of the condition by the thread running the await statement.
+     *
+     * @param pollCount    The number of times the condition has been evaluated
+     * @param pollInterval The current poll interval
+     * @param satisfied    <code>true</code> if the condition was satisfied by this evaluation
+     */
+    void conditionEvaluated(int pollCount, Duration pollInterval, boolean satisfied) {
+        if (!satisfied && mismatchMessageRequested) {
+            mismatchMessageRequested = false;
+            lastMismatchMessage = describeMismatch();
+        }
+        this.pollCount = pollCount;
+        this.pollInterval = pollInterval;
+        registry.conditionEvaluated();
+    }
+
+    void exceptionIgnored() {
+        registry.exceptionIgnored();
+    }
+
+    void satisfied() {
+        outcome = Outcome.SATISFIED;
+    }
+
+    void timedOut() {
+        outcome = Outcome.TIMED_OUT;
+    }
+
+    Outcome getOutcome() {
+        return outcome;
+    }
+
+    long getStartTime() {
+        return startTime;
+    }
+
+    AwaitInfo snapshot() {
+        final long elapsedTimeInMS = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        final long remainingTimeInMS = maxWaitTime == null || ChronoUnit.FOREVER.getDuration().equals(maxWaitTime) ? Long.MAX_VALUE : maxWaitTime.toMillis() - elapsedTimeInMS;
+        final int pollCount = this.pollCount;
+        final Duration pollInterval = this.pollInterval;
+        final String lastMismatchMessage = this.lastMismatchMessage;
+        // Ask the thread running the await statement to describe the mismatch again so that the next query gets a fresh message
+        mismatchMessageRequested = true;
+        return new AwaitInfo(alias, callSite.get(), thread.getName(), thread.getId(), startTime, elapsedTimeInMS, remainingTimeInMS, pollCount,
+                pollInterval == null ? 0L : pollInterval.toMillis(), lastMismatchMessage);
+    }
+
+    private String describeMismatch() {
+        try {
+            return mismatchMessage.get();
+        } catch (Throwable e) {
+            return "Failed to describe the mismatch: " + e;
+        }
+    }
+}
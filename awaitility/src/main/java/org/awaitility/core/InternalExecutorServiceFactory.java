@@ -2,6 +2,7 @@ package org.awaitility.core;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -17,6 +18,13 @@ public class InternalExecutorServiceFactory {
         return new SameThreadExecutorService();
     }
 
+    /**
+     * @return A executor service that executes tasks in the fork-join pool of the caller, or the common pool if the caller isn't running in a fork-join pool
+     */
+    public static ExecutorService forkJoinPoolExecutorService() {
+        return new ForkJoinPoolExecutorService();
+    }
+
     /**
      * Creates an executor service that creates thread's based on the <code>thread supplier</code>
      * @param threadSupplier The thread supplier
@@ -37,13 +45,26 @@ public class InternalExecutorServiceFactory {
      * @return An executor service that will use the thread created by the <code>threadSupplier</code> when polling
      */
     public static ExecutorService create(final BiFunction<Runnable, String, Thread> threadSupplier, final String alias) {
+        return create(threadSupplier, alias, 1);
+    }
+
+    /**
+     * Creates an executor services with <code>numberOfThreads</code> threads that are created based on the <code>thread supplier</code>.
+     * The first argument to the <code>threadSupplier</code> is the Runnable (the condition that will be evaluated).
+     * The second argument is the default thread name generated by Awaitility.
+     * @param threadSupplier The thread supplier
+     * @param numberOfThreads The number of threads, greater than 1 if condition evaluations are pipelined
+     * @return An executor service that will use the threads created by the <code>threadSupplier</code> when polling
+     */
+    public static ExecutorService create(final BiFunction<Runnable, String, Thread> threadSupplier, final String alias, int numberOfThreads) {
         if (threadSupplier == null) {
             throw new IllegalArgumentException("Condition evaluation thread supplier cannot be null");
         }
-        return Executors.newSingleThreadExecutor(r -> {
+        final ThreadFactory threadFactory = r -> {
             final String threadName = generateDefaultThreadName(alias);
             return threadSupplier.apply(r, threadName);
-        });
+        };
+        return numberOfThreads == 1 ? Executors.newSingleThreadExecutor(threadFactory) : Executors.newFixedThreadPool(numberOfThreads, threadFactory);
     }
 
     private static String generateDefaultThreadName(String alias) {
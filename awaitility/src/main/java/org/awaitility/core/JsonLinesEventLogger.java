@@ -0,0 +1,387 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link ConditionEvaluationListener} that writes every event as a JSON object on a separate line (JSON Lines) to a file, so that the
+ * await statements of many builds can be analyzed by tools. For example:
+ * <pre>
+ * Awaitility.setDefaultConditionEvaluationListener(jsonLinesEventLogger(Paths.get("target/awaitility-events.jsonl")));
+ * </pre>
+ * Each line has an <code>event</code> property that is one of <code>start</code>, <code>evaluation</code>, <code>ignoredException</code>,
+ * <code>timeout</code> or <code>completed</code> (written once when the condition was satisfied) as well as the alias, the call site and
+ * the id (<code>awaitId</code>, unique per await statement in the JVM) of the await statement, the name of the thread, the wall clock time
+ * (<code>epochMillis</code>), the value of <code>System.nanoTime()</code> (<code>nanoTime</code>) and the elapsed and remaining time of the
+ * await statement in milliseconds and nanoseconds. The remaining time is <code>null</code> if the await statement waits forever. Evaluation
+ * lines also contain the duration of the evaluation in nanoseconds (<code>evaluationNanos</code>) and completed lines the number of
+ * evaluations (<code>pollCount</code>).
+ * <p>
+ * The lines are formatted on the thread that emits the event and are then handed over to a dedicated writer thread that writes them in
+ * batches using a {@link FileChannel}. The writer thread sleeps until there are lines to write. If the writer thread cannot keep up, events are dropped rather than delaying the condition
+ * evaluations (see {@link #getDroppedEvents()}). When the file has grown beyond the max file size it's renamed to <code>file.1</code>
+ * (<code>file.1</code> is renamed to <code>file.2</code> and so on, up to the max number of backup files) and a new file is started. Events
+ * that have not yet been written are written when the logger is closed or when the JVM exits.
+ * </p>
+ *
+ * @since 4.3.1
+ */
+public class JsonLinesEventLogger implements ConditionEvaluationListener<Object>, Closeable {
+
+    /**
+     * The default max size of a file before it's rotated
+     */
+    public static final long DEFAULT_MAX_FILE_SIZE_IN_BYTES = 10L * 1024L * 1024L;
+
+    /**
+     * The default number of rotated files to keep
+     */
+    public static final int DEFAULT_MAX_BACKUP_FILES = 5;
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // The loggers that have not been closed, they're closed by a single shutdown hook
+    private static final Set<JsonLinesEventLogger> openLoggers = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+
+    private final Path file;
+    private final long maxFileSizeInBytes;
+    private final int maxBackupFiles;
+    private final BoundedRingBuffer<String> lines = new BoundedRingBuffer<>(BUFFER_CAPACITY);
+    private final LongAdder droppedEvents = new LongAdder();
+    private final Thread writer;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private volatile IOException writeFailure;
+
+    /**
+     * Create a new instance that writes to <code>file</code> using the {@link #DEFAULT_MAX_FILE_SIZE_IN_BYTES} and {@link #DEFAULT_MAX_BACKUP_FILES}.
+     *
+     * @param file The file to write the events to, events are appended if it already exists
+     */
+    public JsonLinesEventLogger(Path file) {
+        this(file, DEFAULT_MAX_FILE_SIZE_IN_BYTES, DEFAULT_MAX_BACKUP_FILES);
+    }
+
+    /**
+     * Create a new instance that writes to <code>file</code>.
+     *
+     * @param file               The file to write the events to, events are appended if it already exists
+     * @param maxFileSizeInBytes The size after which the file is rotated
+     * @param maxBackupFiles     The number of rotated files to keep, <code>0</code> means that the file is truncated when rotated
+     */
+    public JsonLinesEventLogger(Path file, long maxFileSizeInBytes, int maxBackupFiles) {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (maxFileSizeInBytes <= 0) {
+            throw new IllegalArgumentException("Max file size must be greater than 0");
+        }
+        if (maxBackupFiles < 0) {
+            throw new IllegalArgumentException("Max backup files must be greater than or equal to 0");
+        }
+        this.file = file;
+        this.maxFileSizeInBytes = maxFileSizeInBytes;
+        this.maxBackupFiles = maxBackupFiles;
+        final FileChannel channel = open(file);
+        this.writer = new Thread(() -> writeLines(channel), "awaitility-event-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        openLoggers.add(this);
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> openLoggers.forEach(JsonLinesEventLogger::stopWriter), "awaitility-event-log-shutdown"));
+        }
+    }
+
+    /**
+     * Syntactic sugar for <code>new JsonLinesEventLogger(file)</code>
+     *
+     * @param file The file to write the events to, events are appended if it already exists
+     * @return A new instance of {@link JsonLinesEventLogger}
+     */
+    public static JsonLinesEventLogger jsonLinesEventLogger(Path file) {
+        return new JsonLinesEventLogger(file);
+    }
+
+    @Override
+    public void beforeEvaluation(StartEvaluationEvent<Object> startEvaluationEvent) {
+        StringBuilder line = newLine("start", startEvaluationEvent.getAlias(), startEvaluationEvent.getCallSite(), startEvaluationEvent.getAwaitId(),
+                startEvaluationEvent.getElapsedTimeInMS(), startEvaluationEvent.getRemainingTimeInMS(),
+                startEvaluationEvent.getElapsedTimeInNanos(), startEvaluationEvent.getRemainingTimeInNanos());
+        appendProperty(line, "description", startEvaluationEvent.getDescription());
+        enqueue(line);
+    }
+
+    @Override
+    public void conditionEvaluated(EvaluatedCondition<Object> condition) {
+        StringBuilder line = newLine("evaluation", condition.getAlias(), condition.getCallSite(), condition.getAwaitId(),
+                condition.getElapsedTimeInMS(), condition.getRemainingTimeInMS(), condition.getElapsedTimeInNanos(), condition.getRemainingTimeInNanos());
+        appendProperty(line, "satisfied", condition.isSatisfied());
+        appendProperty(line, "evaluationNanos", condition.getEvaluationDurationInNanos());
+        appendProperty(line, "pollIntervalNanos", condition.getPollInterval() == null ? null : condition.getPollInterval().toNanos());
+        appendProperty(line, "description", condition.getDescription());
+        enqueue(line);
+    }
+
+    @Override
+    public void exceptionIgnored(IgnoredException ignoredException) {
+        StringBuilder line = newLine("ignoredException", ignoredException.getAlias(), ignoredException.getCallSite(), ignoredException.getAwaitId(),
+                ignoredException.getElapsedTimeInMS(), ignoredException.getRemainingTimeInMS(),
+                ignoredException.getElapsedTimeInNanos(), ignoredException.getRemainingTimeInNanos());
+        Throwable throwable = ignoredException.getThrowable();
+        appendProperty(line, "exception", throwable == null ? null : throwable.getClass().getName());
+        appendProperty(line, "message", throwable == null ? null : throwable.getMessage());
+        enqueue(line);
+    }
+
+    @Override
+    public void onTimeout(TimeoutEvent timeoutEvent) {
+        StringBuilder line = newLine("timeout", timeoutEvent.getAlias(), timeoutEvent.getCallSite(), timeoutEvent.getAwaitId(),
+                timeoutEvent.getElapsedTimeInMS(), timeoutEvent.getRemainingTimeInMS(),
+                timeoutEvent.getElapsedTimeInNanos(), timeoutEvent.getRemainingTimeInNanos());
+        appendProperty(line, "conditionSatisfied", timeoutEvent.isConditionIsFulfilled());
+        appendProperty(line, "description", timeoutEvent.getDescription());
+        enqueue(line);
+    }
+
+    @Override
+    public void onCompleted(CompletedEvent completedEvent) {
+        StringBuilder line = newLine("completed", completedEvent.getAlias(), completedEvent.getCallSite(), completedEvent.getAwaitId(),
+                completedEvent.getElapsedTimeInMS(), completedEvent.getRemainingTimeInMS(),
+                completedEvent.getElapsedTimeInNanos(), completedEvent.getRemainingTimeInNanos());
+        appendProperty(line, "pollCount", completedEvent.getPollCount());
+        enqueue(line);
+    }
+
+    /**
+     * @return The number of events that have been dropped because the writer thread could not keep up or because the logger was closed
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Write the events that have not yet been written and close the file. Events emitted after the logger has been closed are dropped.
+     *
+     * @throws IOException If the events could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        stopWriter();
+        openLoggers.remove(this);
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+
+    private void stopWriter() {
+        closed = true;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(StringBuilder line) {
+        line.append("}\n");
+        if (closed || !lines.offer(line.toString())) {
+            droppedEvents.increment();
+        } else if (writerParked) {
+            writerParked = false;
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLines(FileChannel initialChannel) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        FileChannel channel = initialChannel;
+        try {
+            while (true) {
+                // Read closed before draining so that no line that was added before closing is lost
+                final boolean stopping = closed;
+                String line;
+                while ((line = lines.poll()) != null) {
+                    final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                    if (bytes.length > buffer.remaining()) {
+                        channel = flush(channel, buffer);
+                    }
+                    if (bytes.length > buffer.capacity()) {
+                        channel = writeFully(channel, ByteBuffer.wrap(bytes));
+                    } else {
+                        buffer.put(bytes);
+                    }
+                }
+                channel = flush(channel, buffer);
+                if (stopping) {
+                    return;
+                }
+                // Announce that the writer parks before checking for lines so that a line added concurrently either is seen here or unparks it
+                writerParked = true;
+                if (lines.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+                writerParked = false;
+            }
+        } catch (IOException e) {
+            writeFailure = e;
+            closed = true;
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (writeFailure == null) {
+                    writeFailure = e;
+                }
+            }
+        }
+    }
+
+    private FileChannel flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        if (buffer.position() == 0) {
+            return channel;
+        }
+        buffer.flip();
+        final FileChannel channelToUse = writeFully(channel, buffer);
+        buffer.clear();
+        return channelToUse;
+    }
+
+    private FileChannel writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        return channel.size() >= maxFileSizeInBytes ? rotate(channel) : channel;
+    }
+
+    private FileChannel rotate(FileChannel channel) throws IOException {
+        channel.close();
+        if (maxBackupFiles == 0) {
+            Files.delete(file);
+        } else {
+            for (int i = maxBackupFiles - 1; i >= 1; i--) {
+                Path backup = backupFile(i);
+                if (Files.exists(backup)) {
+                    Files.move(backup, backupFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, backupFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return open(file);
+    }
+
+    private Path backupFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static FileChannel open(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + file, e);
+        }
+    }
+
+    private static StringBuilder newLine(String event, String alias, String callSite, long awaitId, long elapsedTimeInMS, long remainingTimeInMS,
+                                         long elapsedTimeInNanos, long remainingTimeInNanos) {
+        StringBuilder line = new StringBuilder(256).append('{');
+        appendProperty(line, "event", event);
+        appendProperty(line, "alias", alias);
+        appendProperty(line, "callSite", callSite);
+        appendProperty(line, "awaitId", awaitId);
+        appendProperty(line, "thread", Thread.currentThread().getName());
+        appendProperty(line, "epochMillis", System.currentTimeMillis());
+        appendProperty(line, "nanoTime", System.nanoTime());
+        appendProperty(line, "elapsedMs", elapsedTimeInMS);
+        appendProperty(line, "remainingMs", remainingTimeInMS == Long.MAX_VALUE ? null : remainingTimeInMS);
+        appendProperty(line, "elapsedNanos", elapsedTimeInNanos);
+        appendProperty(line, "remainingNanos", remainingTimeInNanos == Long.MAX_VALUE ? null : remainingTimeInNanos);
+        return line;
+    }
+
+    private static void appendProperty(StringBuilder line, String name, Object value) {
+        if (line.length() > 1) {
+            line.append(',');
+        }
+        line.append('"').append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            line.append(value);
+        } else {
+            appendString(line, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+}
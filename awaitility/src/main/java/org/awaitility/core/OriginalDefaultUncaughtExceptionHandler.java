@@ -1,5 +1,11 @@
 package org.awaitility.core;
 
+/**
+ * @deprecated Awaitility no longer replaces the default uncaught exception handler for each await statement so the original handler
+ * doesn't need to be remembered. Uncaught exceptions are instead dispatched to the running await statements by a single handler that
+ * delegates to the original default handler.
+ */
+@Deprecated
 public class OriginalDefaultUncaughtExceptionHandler {
 
     // null unless explicitly set
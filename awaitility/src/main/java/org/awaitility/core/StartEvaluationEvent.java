@@ -23,21 +23,33 @@ public class StartEvaluationEvent<T> {
     private final Matcher<? super T> matcher;
     private final long elapsedTimeInMS;
     private final long remainingTimeInMS;
+    private final long elapsedTimeInNanos;
+    private final long remainingTimeInNanos;
     private final String alias;
+    private final String callSite;
+    private final long awaitId;
 
     /**
      * @param description           description message of the event
      * @param matcher               The Hamcrest matcher used in the condition
      * @param elapsedTimeInMS       elapsed time in milliseconds.
      * @param remainingTimeInMS     remaining time to wait in milliseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param elapsedTimeInNanos    elapsed time in nanoseconds.
+     * @param remainingTimeInNanos  remaining time to wait in nanoseconds; <code>Long.MAX_VALUE</code>, if no timeout defined, i.e., running forever.
+     * @param callSite              The call site of the await statement, <code>null</code> if unknown.
+     * @param awaitId               The id of the await statement.
      */
     StartEvaluationEvent(String description, Matcher<? super T> matcher, long elapsedTimeInMS, long remainingTimeInMS,
-                         String alias) {
+                         long elapsedTimeInNanos, long remainingTimeInNanos, String alias, String callSite, long awaitId) {
         this.description = description;
         this.matcher = matcher;
         this.elapsedTimeInMS = elapsedTimeInMS;
         this.remainingTimeInMS = remainingTimeInMS;
+        this.elapsedTimeInNanos = elapsedTimeInNanos;
+        this.remainingTimeInNanos = remainingTimeInNanos;
         this.alias = alias;
+        this.callSite = callSite;
+        this.awaitId = awaitId;
     }
 
     public String getDescription() {
@@ -56,7 +68,40 @@ public class StartEvaluationEvent<T> {
         return remainingTimeInMS;
     }
 
+    /**
+     * @return Elapsed time in nanoseconds.
+     * @since 4.3.1
+     */
+    public long getElapsedTimeInNanos() {
+        return elapsedTimeInNanos;
+    }
+
+    /**
+     * @return Remaining time to wait in nanoseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     * @since 4.3.1
+     */
+    public long getRemainingTimeInNanos() {
+        return remainingTimeInNanos;
+    }
+
     public String getAlias() {
         return alias;
     }
+
+    /**
+     * @return The call site of the await statement (<code>class.method(file:line)</code>), <code>null</code> if it's unknown
+     * @since 4.3.1
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return An id that is unique for each await statement run in this JVM, it tells the events of concurrent await statements apart.
+     * <code>0</code> if it's unknown.
+     * @since 4.3.1
+     */
+    public long getAwaitId() {
+        return awaitId;
+    }
 }
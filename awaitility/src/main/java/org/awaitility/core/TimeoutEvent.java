@@ -16,20 +16,42 @@
 
 package org.awaitility.core;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 public class TimeoutEvent {
 
     private final String description;
     private final long elapsedTimeInMS;
     private final long remainingTimeInMS;
+    private final long elapsedTimeInNanos;
+    private final long remainingTimeInNanos;
     private final boolean conditionIsFulfilled;
     private final String alias;
+    private final AwaitProfile profile;
+    private final String callSite;
+    private final long awaitId;
 
     public TimeoutEvent(String description, long elapsedTimeInMS, long remainingTimeInMS, boolean conditionIsFulfilled, String alias) {
+        this(description, elapsedTimeInMS, remainingTimeInMS, conditionIsFulfilled, alias, null);
+    }
+
+    public TimeoutEvent(String description, long elapsedTimeInMS, long remainingTimeInMS, boolean conditionIsFulfilled, String alias, AwaitProfile profile) {
+        this(description, elapsedTimeInMS, remainingTimeInMS, MILLISECONDS.toNanos(elapsedTimeInMS),
+                remainingTimeInMS == Long.MAX_VALUE ? Long.MAX_VALUE : MILLISECONDS.toNanos(remainingTimeInMS), conditionIsFulfilled, alias, profile, null, 0L);
+    }
+
+    public TimeoutEvent(String description, long elapsedTimeInMS, long remainingTimeInMS, long elapsedTimeInNanos, long remainingTimeInNanos,
+                        boolean conditionIsFulfilled, String alias, AwaitProfile profile, String callSite, long awaitId) {
         this.description = description;
         this.elapsedTimeInMS = elapsedTimeInMS;
         this.remainingTimeInMS = remainingTimeInMS;
+        this.elapsedTimeInNanos = elapsedTimeInNanos;
+        this.remainingTimeInNanos = remainingTimeInNanos;
         this.conditionIsFulfilled = conditionIsFulfilled;
         this.alias = alias;
+        this.profile = profile;
+        this.callSite = callSite;
+        this.awaitId = awaitId;
     }
 
     public String getDescription() {
@@ -44,6 +66,22 @@ public class TimeoutEvent {
         return remainingTimeInMS;
     }
 
+    /**
+     * @return Elapsed time in nanoseconds.
+     * @since 4.3.1
+     */
+    public long getElapsedTimeInNanos() {
+        return elapsedTimeInNanos;
+    }
+
+    /**
+     * @return Remaining time to wait in nanoseconds or <code>Long.MAX_VALUE</code> if no timeout defined, i.e., running forever.
+     * @since 4.3.1
+     */
+    public long getRemainingTimeInNanos() {
+        return remainingTimeInNanos;
+    }
+
     public boolean isConditionIsFulfilled() {
         return conditionIsFulfilled;
     }
@@ -51,4 +89,30 @@ public class TimeoutEvent {
     public String getAlias() {
         return alias;
     }
+
+    /**
+     * @return The time spent in each phase of the condition evaluations or <code>null</code> if profiling is not enabled.
+     * @see ConditionFactory#profiling()
+     * @since 4.3.1
+     */
+    public AwaitProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return The call site of the await statement (<code>class.method(file:line)</code>), <code>null</code> if it's unknown
+     * @since 4.3.1
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return An id that is unique for each await statement run in this JVM, it tells the events of concurrent await statements apart.
+     * <code>0</code> if it's unknown.
+     * @since 4.3.1
+     */
+    public long getAwaitId() {
+        return awaitId;
+    }
 }
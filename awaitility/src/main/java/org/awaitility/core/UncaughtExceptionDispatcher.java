@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JVM-wide default {@link UncaughtExceptionHandler} that dispatches uncaught exceptions to the await statements that are currently
+ * running and that catch uncaught exceptions from the thread that threw the exception. The dispatcher is installed as the default uncaught
+ * exception handler, once, when the first such await statement starts and it's then left installed so that starting and completing an await
+ * statement only adds and removes it from a concurrent set. The replaced default handler is restored by {@link #reset()} (which
+ * {@link org.awaitility.Awaitility#reset()} calls). If someone replaces the dispatcher, it's installed again in front of the new handler
+ * by the next await statement that catches uncaught exceptions.
+ * <p>
+ * Uncaught exceptions that are not caught by any await statement are delegated to the default handler that was replaced by the dispatcher,
+ * or printed to <code>System.err</code> just like the JVM does if there was no such handler. Exceptions that are caught by an await statement
+ * fail that await statement and are not delegated.
+ * <p>
+ * An await statement that never completes, for example because the test that started it was stopped by a timeout, stays registered
+ * until {@link #reset()} is called.
+ * <p>
+ * This class is only public so that it can be reset by {@link org.awaitility.Awaitility}, it's not meant to be used directly.
+ */
+public final class UncaughtExceptionDispatcher implements UncaughtExceptionHandler {
+
+    private static final UncaughtExceptionDispatcher INSTANCE = new UncaughtExceptionDispatcher();
+
+    /**
+     * An await statement that uncaught exceptions can be dispatched to
+     */
+    interface Catcher extends UncaughtExceptionHandler {
+
+        /**
+         * @param thread The thread that threw an uncaught exception
+         * @return <code>true</code> if uncaught exceptions thrown by <code>thread</code> should fail this await statement
+         */
+        boolean catchesUncaughtExceptionsFrom(Thread thread);
+    }
+
+    private final Set<Catcher> activeAwaiters = ConcurrentHashMap.newKeySet();
+    private volatile UncaughtExceptionHandler delegate;
+
+    private UncaughtExceptionDispatcher() {
+    }
+
+    static UncaughtExceptionDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Forget all await statements that are registered, even those that never completed, and restore the default uncaught exception
+     * handler that was replaced by the dispatcher.
+     */
+    public static void reset() {
+        INSTANCE.uninstall();
+    }
+
+    /**
+     * Start dispatching uncaught exceptions to <code>awaiter</code>
+     *
+     * @param awaiter The await statement that has started
+     */
+    void register(Catcher awaiter) {
+        // Only the first await statement (or the first one after someone replaced the dispatcher) changes the default handler
+        if (Thread.getDefaultUncaughtExceptionHandler() != this) {
+            install();
+        }
+        activeAwaiters.add(awaiter);
+    }
+
+    /**
+     * Stop dispatching uncaught exceptions to <code>awaiter</code>
+     *
+     * @param awaiter The await statement that has completed
+     */
+    void unregister(Catcher awaiter) {
+        activeAwaiters.remove(awaiter);
+    }
+
+    private synchronized void install() {
+        final UncaughtExceptionHandler currentHandler = Thread.getDefaultUncaughtExceptionHandler();
+        if (currentHandler != this) {
+            delegate = currentHandler;
+            Thread.setDefaultUncaughtExceptionHandler(this);
+        }
+    }
+
+    private synchronized void uninstall() {
+        activeAwaiters.clear();
+        // Leave the default handler alone if someone has replaced the dispatcher
+        if (Thread.getDefaultUncaughtExceptionHandler() == this) {
+            Thread.setDefaultUncaughtExceptionHandler(delegate);
+        }
+        delegate = null;
+    }
+
+    @Override
+    public void uncaughtException(Thread thread, Throwable throwable) {
+        boolean caught = false;
+        for (Catcher awaiter : activeAwaiters) {
+            if (awaiter.catchesUncaughtExceptionsFrom(thread)) {
+                awaiter.uncaughtException(thread, throwable);
+                caught = true;
+            }
+        }
+        if (caught) {
+            return;
+        }
+        final UncaughtExceptionHandler handler = delegate;
+        if (handler != null) {
+            handler.uncaughtException(thread, throwable);
+        } else if (!(throwable instanceof ThreadDeath)) {
+            // Same as java.lang.ThreadGroup#uncaughtException which cannot be used since it would call this handler again
+            System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+            throwable.printStackTrace(System.err);
+        }
+    }
+}
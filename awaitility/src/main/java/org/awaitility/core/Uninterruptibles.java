@@ -21,6 +21,10 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 /**
  * These code snippets are copied from the Guava library (e.g. <a href="https://github.com/google/guava/blob/bf9e8fa954bd76fd6642445fa644c729f91f30f2/guava/src/com/google/common/util/concurrent/Uninterruptibles.java#L382-L402">Uninterruptibles#sleepUninterruptibly</a>)
  * to solve <a href="https://github.com/awaitility/awaitility/issues/134">issue 134</a>.
+ * <p>
+ * When called from a {@link ForkJoinPool} worker thread (for example when an await statement is used in a parallel stream or in
+ * <code>CompletableFuture.supplyAsync</code>) the blocking calls are made through {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}
+ * so that the pool can activate a spare worker while the caller is blocked, instead of starving (or deadlocking) the pool.
  */
 class Uninterruptibles {
 
@@ -31,8 +35,12 @@ class Uninterruptibles {
             long end = System.nanoTime() + remainingNanos;
             while (true) {
                 try {
+                    final long sleepNanos = remainingNanos;
                     // TimeUnit.sleep() treats negative timeouts just like zero.
-                    NANOSECONDS.sleep(remainingNanos);
+                    block(() -> {
+                        NANOSECONDS.sleep(sleepNanos);
+                        return null;
+                    });
                     return;
                 } catch (InterruptedException e) {
                     interrupted = true;
@@ -57,7 +65,7 @@ class Uninterruptibles {
         try {
             while (true) {
                 try {
-                    return future.get();
+                    return block(future::get);
                 } catch (InterruptedException e) {
                     interrupted = true;
                 }
@@ -97,8 +105,39 @@ class Uninterruptibles {
 
             while (true) {
                 try {
+                    final long getNanos = remainingNanos;
                     // Future treats negative timeouts just like zero.
-                    return future.get(remainingNanos, NANOSECONDS);
+                    return block(() -> future.get(getNanos, NANOSECONDS));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    remainingNanos = end - System.nanoTime();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Invokes {@code completionService.}{@link CompletionService#poll(long, TimeUnit) poll(timeout, unit)} uninterruptibly.
+     * A timeout of {@link Long#MAX_VALUE} nanoseconds waits until a task has completed.
+     * Note that this method is not covered by the Guava license
+     *
+     * @return The future of the completed task or <code>null</code> if the wait timed out
+     */
+    static <V> Future<V> pollUninterruptibly(CompletionService<V> completionService, long timeout, TimeUnit unit) {
+        boolean interrupted = false;
+        try {
+            long remainingNanos = unit.toNanos(timeout);
+            final boolean waitForever = remainingNanos == Long.MAX_VALUE;
+            long end = System.nanoTime() + remainingNanos;
+
+            while (true) {
+                try {
+                    final long pollNanos = remainingNanos;
+                    return block(() -> waitForever ? completionService.take() : completionService.poll(pollNanos, NANOSECONDS));
                 } catch (InterruptedException e) {
                     interrupted = true;
                     remainingNanos = end - System.nanoTime();
@@ -145,6 +184,60 @@ class Uninterruptibles {
         }
     }
 
+    /**
+     * Invokes the blocking call, through {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)} if the current thread is a
+     * worker of a fork-join pool. Exceptions other than {@link InterruptedException} thrown by the blocking call are rethrown as is,
+     * it's up to the caller to declare them. Note that this method is not covered by the Guava license
+     */
+    private static <V> V block(BlockingCall<V> blockingCall) throws InterruptedException {
+        try {
+            if (!ForkJoinTask.inForkJoinPool()) {
+                return blockingCall.call();
+            }
+            final ManagedBlockingCall<V> blocker = new ManagedBlockingCall<>(blockingCall);
+            ForkJoinPool.managedBlock(blocker);
+            return blocker.result;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            return CheckedExceptionRethrower.safeRethrow(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingCall<V> {
+        V call() throws Exception;
+    }
+
+    private static class ManagedBlockingCall<V> implements ForkJoinPool.ManagedBlocker {
+        private final BlockingCall<V> blockingCall;
+        private boolean done;
+        private V result;
+
+        private ManagedBlockingCall(BlockingCall<V> blockingCall) {
+            this.blockingCall = blockingCall;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            try {
+                result = blockingCall.call();
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                CheckedExceptionRethrower.safeRethrow(e);
+            } finally {
+                done = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
     /**
      * Returns the number of nanoseconds of the given duration without throwing or overflowing.
      *
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.management;
+
+/**
+ * A snapshot of an await statement that is currently blocking.
+ *
+ * @since 4.3.1
+ */
+public class AwaitInfo {
+
+    private final String alias;
+    private final String callSite;
+    private final String threadName;
+    private final long threadId;
+    private final long startTime;
+    private final long elapsedTimeInMS;
+    private final long remainingTimeInMS;
+    private final int pollCount;
+    private final long pollIntervalInMS;
+    private final String lastMismatchMessage;
+
+    /**
+     * Create a new snapshot, Awaitility creates these when the {@link org.awaitility.core.AwaitRegistry} is queried.
+     */
+    public AwaitInfo(String alias, String callSite, String threadName, long threadId, long startTime, long elapsedTimeInMS, long remainingTimeInMS,
+                     int pollCount, long pollIntervalInMS, String lastMismatchMessage) {
+        this.alias = alias;
+        this.callSite = callSite;
+        this.threadName = threadName;
+        this.threadId = threadId;
+        this.startTime = startTime;
+        this.elapsedTimeInMS = elapsedTimeInMS;
+        this.remainingTimeInMS = remainingTimeInMS;
+        this.pollCount = pollCount;
+        this.pollIntervalInMS = pollIntervalInMS;
+        this.lastMismatchMessage = lastMismatchMessage;
+    }
+
+    /**
+     * @return The alias of the await statement or <code>null</code> if it doesn't have an alias
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return The call site of the await statement formatted as <code>ClassName.methodName(FileName.java:line)</code>
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return The name of the thread that is blocked by the await statement
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * @return The id of the thread that is blocked by the await statement
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * @return The time the await statement started, in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return The time elapsed since the await statement started
+     */
+    public long getElapsedTimeInMS() {
+        return elapsedTimeInMS;
+    }
+
+    /**
+     * @return The time remaining until the await statement times out or {@link Long#MAX_VALUE} if it waits forever
+     */
+    public long getRemainingTimeInMS() {
+        return remainingTimeInMS;
+    }
+
+    /**
+     * @return The number of times the condition has been evaluated
+     */
+    public int getPollCount() {
+        return pollCount;
+    }
+
+    /**
+     * @return The current poll interval
+     */
+    public long getPollIntervalInMS() {
+        return pollIntervalInMS;
+    }
+
+    /**
+     * @return The message describing why the condition was not fulfilled the last time it was evaluated or <code>null</code> if it has
+     * not been evaluated yet
+     */
+    public String getLastMismatchMessage() {
+        return lastMismatchMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "AwaitInfo{" +
+                "alias='" + alias + '\'' +
+                ", callSite='" + callSite + '\'' +
+                ", threadName='" + threadName + '\'' +
+                ", threadId=" + threadId +
+                ", startTime=" + startTime +
+                ", elapsedTimeInMS=" + elapsedTimeInMS +
+                ", remainingTimeInMS=" + remainingTimeInMS +
+                ", pollCount=" + pollCount +
+                ", pollIntervalInMS=" + pollIntervalInMS +
+                ", lastMismatchMessage='" + lastMismatchMessage + '\'' +
+                '}';
+    }
+}
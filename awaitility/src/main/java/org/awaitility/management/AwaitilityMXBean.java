@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.management;
+
+import java.util.List;
+
+/**
+ * Management interface that lists the await statements that are currently blocking and keeps aggregate counters for all await statements
+ * that have been executed in the JVM. Register it in the platform MBean server using {@link org.awaitility.core.AwaitRegistry#registerMXBean()}, it's then
+ * available under the object name <code>org.awaitility:type=Awaitility</code>.
+ *
+ * @since 4.3.1
+ */
+public interface AwaitilityMXBean {
+
+    /**
+     * @return A snapshot of the await statements that are currently blocking
+     */
+    List<AwaitInfo> getInFlightAwaits();
+
+    /**
+     * @return The number of await statements that are currently blocking
+     */
+    int getInFlightAwaitCount();
+
+    /**
+     * @return The number of await statements that have been started
+     */
+    long getStartedAwaitCount();
+
+    /**
+     * @return The number of await statements whose condition was fulfilled
+     */
+    long getSatisfiedAwaitCount();
+
+    /**
+     * @return The number of await statements that timed out (including those that exceeded their evaluation budget)
+     */
+    long getTimedOutAwaitCount();
+
+    /**
+     * @return The number of await statements that failed for other reasons, for example because the condition threw an exception
+     */
+    long getFailedAwaitCount();
+
+    /**
+     * @return The number of condition evaluations
+     */
+    long getConditionEvaluationCount();
+
+    /**
+     * @return The number of exceptions that were ignored while evaluating conditions
+     */
+    long getIgnoredExceptionCount();
+
+    /**
+     * @return A human readable description of the await statements that are currently blocking
+     */
+    String dumpInFlightAwaits();
+
+    /**
+     * Reset the aggregate counters. Await statements that are currently blocking are not affected.
+     */
+    void resetCounters();
+}
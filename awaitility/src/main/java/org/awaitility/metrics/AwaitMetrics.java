@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.awaitility.core.AwaitProfile;
+import org.awaitility.core.EvaluationPhase;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics aggregated by {@link DefaultAwaitilityMetrics} for await statements with the same name (alias or call site).
+ * All durations are in nanoseconds.
+ *
+ * @since 4.3.1
+ */
+public class AwaitMetrics {
+
+    private final String name;
+    private final LongAdder satisfiedAwaits = new LongAdder();
+    private final LongAdder timedOutAwaits = new LongAdder();
+    private final LongAdder timedOutWaitNanos = new LongAdder();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder ignoredExceptions = new LongAdder();
+    private final LogBucketHistogram timeToSatisfaction = new LogBucketHistogram();
+    private final LogBucketHistogram evaluationDuration = new LogBucketHistogram();
+    private final LongAdder[] phaseNanos = new LongAdder[EvaluationPhase.values().length];
+
+    AwaitMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+    }
+
+    void awaitSatisfied(long timeToSatisfactionNanos, int pollCount) {
+        satisfiedAwaits.increment();
+        polls.add(pollCount);
+        timeToSatisfaction.record(timeToSatisfactionNanos);
+    }
+
+    void awaitTimedOut(long elapsedNanos, int pollCount) {
+        timedOutAwaits.increment();
+        timedOutWaitNanos.add(elapsedNanos);
+        polls.add(pollCount);
+    }
+
+    void conditionEvaluated(long evaluationDurationNanos) {
+        evaluationDuration.record(evaluationDurationNanos);
+    }
+
+    void exceptionIgnored() {
+        ignoredExceptions.increment();
+    }
+
+    void awaitProfiled(AwaitProfile profile) {
+        for (EvaluationPhase phase : EvaluationPhase.values()) {
+            phaseNanos[phase.ordinal()].add(profile.getTotalTime(phase).toNanos());
+        }
+    }
+
+    /**
+     * @return The alias or call site of the await statements
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of await statements whose condition was fulfilled
+     */
+    public long getSatisfiedAwaits() {
+        return satisfiedAwaits.sum();
+    }
+
+    /**
+     * @return The number of await statements that timed out
+     */
+    public long getTimedOutAwaits() {
+        return timedOutAwaits.sum();
+    }
+
+    /**
+     * @return The total time (in nanoseconds) spent waiting in await statements that timed out
+     */
+    public long getTimedOutWaitNanos() {
+        return timedOutWaitNanos.sum();
+    }
+
+    /**
+     * @return The total number of condition evaluations of the completed await statements
+     */
+    public long getPolls() {
+        return polls.sum();
+    }
+
+    /**
+     * @return The number of exceptions that were ignored
+     */
+    public long getIgnoredExceptions() {
+        return ignoredExceptions.sum();
+    }
+
+    /**
+     * @return The histogram of the time (in nanoseconds) until the condition was fulfilled
+     */
+    public LogBucketHistogram getTimeToSatisfaction() {
+        return timeToSatisfaction;
+    }
+
+    /**
+     * @return The histogram of the time (in nanoseconds) it took to evaluate the condition
+     */
+    public LogBucketHistogram getEvaluationDuration() {
+        return evaluationDuration;
+    }
+
+    /**
+     * @param phase The phase of the condition evaluations
+     * @return The total time (in nanoseconds) spent in <code>phase</code> by the profiled await statements
+     */
+    public long getPhaseNanos(EvaluationPhase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * @return <code>true</code> if any of the await statements have been profiled
+     */
+    public boolean isProfiled() {
+        for (LongAdder nanos : phaseNanos) {
+            if (nanos.sum() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.awaitility.core.AwaitProfile;
+
+import java.time.Duration;
+
+/**
+ * A service provider interface that is notified about await statements and condition evaluations in order to aggregate metrics.
+ * Unlike a {@link org.awaitility.core.ConditionEvaluationListener} it's called for all kinds of conditions and it's not given any
+ * details about the condition other than its name (which is {@code null} for await statements without an alias if
+ * {@link #usesName()} returns {@code false}). Implementations must be thread-safe and should be cheap since they are called
+ * from the polling threads. Register an implementation for all await statements using
+ * {@link org.awaitility.Awaitility#setDefaultMetrics(AwaitilityMetrics)} or for a single await statement using
+ * {@link org.awaitility.core.ConditionFactory#metrics(AwaitilityMetrics)}. See {@link DefaultAwaitilityMetrics} for the default implementation.
+ *
+ * @since 4.3.1
+ */
+public interface AwaitilityMetrics {
+
+    /**
+     * Called when an await statement completes because the condition was fulfilled.
+     *
+     * @param name               The alias of the await statement or, if it has no alias, its call site
+     * @param timeToSatisfaction The time from the start of the await statement until the condition was fulfilled
+     * @param pollCount          The number of times the condition was evaluated
+     */
+    void awaitSatisfied(String name, Duration timeToSatisfaction, int pollCount);
+
+    /**
+     * Called when an await statement times out (including when its evaluation budget is exceeded).
+     *
+     * @param name      The alias of the await statement or, if it has no alias, its call site
+     * @param elapsed   The time from the start of the await statement until it timed out
+     * @param pollCount The number of times the condition was evaluated
+     */
+    void awaitTimedOut(String name, Duration elapsed, int pollCount);
+
+    /**
+     * Called after each evaluation of the condition.
+     *
+     * @param name               The alias of the await statement or, if it has no alias, its call site
+     * @param evaluationDuration The time it took to evaluate the condition in nanoseconds
+     */
+    void conditionEvaluated(String name, long evaluationDuration);
+
+    /**
+     * Called when an exception thrown while evaluating the condition is ignored.
+     *
+     * @param name The alias of the await statement or, if it has no alias, its call site
+     *             (or {@code null} if {@link #usesName()} returns {@code false})
+     */
+    void exceptionIgnored(String name);
+
+    /**
+     * Called when an await statement that is profiled completes, see {@link org.awaitility.core.ConditionFactory#profiling()}.
+     * Does nothing by default.
+     *
+     * @param name    The alias of the await statement or, if it has no alias, its call site
+     * @param profile The time spent in each phase of the condition evaluations
+     */
+    default void awaitProfiled(String name, AwaitProfile profile) {
+    }
+
+    /**
+     * Whether this implementation uses the name passed to the other methods. Resolving the call site of an await statement that
+     * has no alias requires walking the stack, so implementations that don't aggregate by name should return {@code false} in
+     * which case the name of an await statement without an alias is {@code null}. Returns {@code true} by default.
+     *
+     * @return {@code true} if the name of the await statement should be resolved, {@code false} otherwise
+     */
+    default boolean usesName() {
+        return true;
+    }
+}
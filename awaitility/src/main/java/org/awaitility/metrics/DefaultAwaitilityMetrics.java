@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.awaitility.core.AwaitProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * The default, lock-free, implementation of {@link AwaitilityMetrics} that aggregates the metrics in memory per name (alias or call site)
+ * of the await statements. For example:
+ * <pre>
+ * DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create().exportOnExit(Paths.get("target/awaitility-metrics.prom"));
+ * Awaitility.setDefaultMetrics(metrics);
+ * </pre>
+ * writes the metrics of all await statements in Prometheus text format to <code>target/awaitility-metrics.prom</code> when the JVM exits.
+ *
+ * @since 4.3.1
+ */
+public class DefaultAwaitilityMetrics implements AwaitilityMetrics {
+
+    private final ConcurrentMap<String, AwaitMetrics> metricsByName = new ConcurrentHashMap<>();
+    // The files to export to on exit mapped to their error handlers, guarded by itself
+    private final Map<Path, Consumer<IOException>> exportTargets = new LinkedHashMap<>();
+    private boolean shutdownHookRegistered;
+
+    /**
+     * @return A new instance of {@link DefaultAwaitilityMetrics}
+     */
+    public static DefaultAwaitilityMetrics create() {
+        return new DefaultAwaitilityMetrics();
+    }
+
+    @Override
+    public void awaitSatisfied(String name, Duration timeToSatisfaction, int pollCount) {
+        metricsFor(name).awaitSatisfied(timeToSatisfaction.toNanos(), pollCount);
+    }
+
+    @Override
+    public void awaitTimedOut(String name, Duration elapsed, int pollCount) {
+        metricsFor(name).awaitTimedOut(elapsed.toNanos(), pollCount);
+    }
+
+    @Override
+    public void conditionEvaluated(String name, long evaluationDuration) {
+        metricsFor(name).conditionEvaluated(evaluationDuration);
+    }
+
+    @Override
+    public void exceptionIgnored(String name) {
+        metricsFor(name).exceptionIgnored();
+    }
+
+    @Override
+    public void awaitProfiled(String name, AwaitProfile profile) {
+        metricsFor(name).awaitProfiled(profile);
+    }
+
+    /**
+     * @param name The alias or call site of the await statements
+     * @return The metrics of the await statements with the given name, or <code>null</code> if no such await statement has been recorded
+     */
+    public AwaitMetrics getMetrics(String name) {
+        return metricsByName.get(name);
+    }
+
+    /**
+     * @return The metrics of all await statements that have been recorded
+     */
+    public Collection<AwaitMetrics> getAllMetrics() {
+        return Collections.unmodifiableCollection(metricsByName.values());
+    }
+
+    /**
+     * Forget all recorded metrics
+     */
+    public void clear() {
+        metricsByName.clear();
+    }
+
+    /**
+     * Write the metrics in Prometheus text format to <code>file</code> when the JVM exits. If the metrics cannot be written an
+     * {@link UncheckedIOException} is thrown by the shutdown hook, which is passed to its uncaught exception handler.
+     *
+     * @param file The file to write the metrics to
+     * @return This instance
+     */
+    public DefaultAwaitilityMetrics exportOnExit(final Path file) {
+        return exportOnExit(file, e -> {
+            throw new UncheckedIOException("Failed to export Awaitility metrics to " + file, e);
+        });
+    }
+
+    /**
+     * Write the metrics in Prometheus text format to <code>file</code> when the JVM exits. A single shutdown hook is registered per instance,
+     * it writes to every file passed to this method. Calling it again for the same file does nothing, the first error handler is kept.
+     *
+     * @param file         The file to write the metrics to
+     * @param errorHandler Called by the shutdown hook if the metrics cannot be written
+     * @return This instance
+     */
+    public DefaultAwaitilityMetrics exportOnExit(final Path file, final Consumer<IOException> errorHandler) {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        } else if (errorHandler == null) {
+            throw new IllegalArgumentException("Error handler cannot be null");
+        }
+        synchronized (exportTargets) {
+            exportTargets.putIfAbsent(file.toAbsolutePath().normalize(), errorHandler);
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::exportToTargets, "awaitility-metrics-exporter"));
+                shutdownHookRegistered = true;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return The files that the metrics are written to when the JVM exits
+     */
+    Set<Path> getExportTargets() {
+        synchronized (exportTargets) {
+            return new LinkedHashSet<>(exportTargets.keySet());
+        }
+    }
+
+    private void exportToTargets() {
+        final Map<Path, Consumer<IOException>> targets;
+        synchronized (exportTargets) {
+            targets = new LinkedHashMap<>(exportTargets);
+        }
+        for (Map.Entry<Path, Consumer<IOException>> target : targets.entrySet()) {
+            try {
+                PrometheusTextExporter.writeTo(this, target.getKey());
+            } catch (IOException e) {
+                target.getValue().accept(e);
+            }
+        }
+    }
+
+    private AwaitMetrics metricsFor(String name) {
+        final String nonNullName = name == null ? "unknown" : name;
+        AwaitMetrics metrics = metricsByName.get(nonNullName);
+        if (metrics == null) {
+            metrics = metricsByName.computeIfAbsent(nonNullName, AwaitMetrics::new);
+        }
+        return metrics;
+    }
+}
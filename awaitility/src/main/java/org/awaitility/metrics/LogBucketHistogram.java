@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative <code>long</code> values (such as durations in nanoseconds) with logarithmic buckets. Each power of
+ * two is divided into {@value #SUB_BUCKETS} linear sub-buckets so the relative error of a recorded value is at most 25%, regardless of its
+ * magnitude. Each bucket is a {@link LongAdder} which makes recording cheap under contention.
+ *
+ * @since 4.3.1
+ */
+public class LogBucketHistogram {
+
+    static final int SUB_BUCKETS = 4;
+    private static final int SUB_BUCKET_BITS = 2;
+    // Values less than SUB_BUCKETS have their own bucket, then there are SUB_BUCKETS buckets for each power of two from 2^SUB_BUCKET_BITS to 2^62
+    static final int NUMBER_OF_BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    public LogBucketHistogram() {
+        buckets = new LongAdder[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+        sum = new LongAdder();
+        max = new AtomicLong();
+    }
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     *
+     * @param value The value to record
+     */
+    public void record(long value) {
+        final long nonNegativeValue = Math.max(0L, value);
+        buckets[bucketIndex(nonNegativeValue)].increment();
+        sum.add(nonNegativeValue);
+        long currentMax;
+        while (nonNegativeValue > (currentMax = max.get()) && !max.compareAndSet(currentMax, nonNegativeValue)) {
+            // Retry until the max is updated or another thread has recorded a greater value
+        }
+    }
+
+    /**
+     * @return The number of recorded values
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return The sum of all recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return The greatest recorded value, or 0 if no values have been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100
+     * @return An upper bound of the value at the given percentile (at most 25% greater than the actual value), or 0 if no values have been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        final long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0d * total));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return A snapshot of the number of values recorded in each bucket. Bucket <code>i</code> holds values from
+     * {@link #bucketLowerBound(int)} to {@link #bucketUpperBound(int)}, both inclusive.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucketIndex The index of the bucket
+     * @return The smallest value in the bucket
+     */
+    public static long bucketLowerBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKETS) {
+            return bucketIndex;
+        }
+        final int shift = (bucketIndex - SUB_BUCKETS) / SUB_BUCKETS;
+        final int subBucket = (bucketIndex - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    /**
+     * @param bucketIndex The index of the bucket
+     * @return The greatest value in the bucket, {@link Long#MAX_VALUE} for the last bucket
+     */
+    public static long bucketUpperBound(int bucketIndex) {
+        return bucketIndex == NUMBER_OF_BUCKETS - 1 ? Long.MAX_VALUE : bucketLowerBound(bucketIndex + 1) - 1;
+    }
+}
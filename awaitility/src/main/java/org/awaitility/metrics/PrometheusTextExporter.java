@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.awaitility.core.EvaluationPhase;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Exports the metrics of a {@link DefaultAwaitilityMetrics} in the
+ * <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus text format</a>. Each await statement is identified
+ * by the <code>await</code> label. Durations are exported in seconds and only histogram buckets with recorded values are exported.
+ *
+ * @since 4.3.1
+ */
+public class PrometheusTextExporter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0d;
+
+    /**
+     * Write the metrics to <code>file</code>, replacing the file if it exists.
+     *
+     * @param metrics The metrics to export
+     * @param file    The file to write to
+     * @throws IOException If the file couldn't be written
+     */
+    public static void writeTo(DefaultAwaitilityMetrics metrics, Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Write to a temporary file first so that a reader never sees a partially written file
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            export(metrics, writer);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @param metrics The metrics to export
+     * @return The metrics in Prometheus text format
+     */
+    public static String export(DefaultAwaitilityMetrics metrics) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            export(metrics, builder);
+        } catch (IOException e) {
+            // Cannot happen when appending to a StringBuilder
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Export the metrics to <code>out</code>
+     *
+     * @param metrics The metrics to export
+     * @param out     The destination
+     * @throws IOException If the metrics couldn't be written to <code>out</code>
+     */
+    public static void export(DefaultAwaitilityMetrics metrics, Appendable out) throws IOException {
+        final List<AwaitMetrics> allMetrics = new ArrayList<>(metrics.getAllMetrics());
+        allMetrics.sort(Comparator.comparing(AwaitMetrics::getName));
+
+        counter(out, "awaitility_awaits_satisfied_total", "Number of await statements whose condition was fulfilled");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            sample(out, "awaitility_awaits_satisfied_total", awaitMetrics, null, awaitMetrics.getSatisfiedAwaits());
+        }
+        counter(out, "awaitility_awaits_timed_out_total", "Number of await statements that timed out");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            sample(out, "awaitility_awaits_timed_out_total", awaitMetrics, null, awaitMetrics.getTimedOutAwaits());
+        }
+        counter(out, "awaitility_timed_out_wait_seconds_total", "Time spent waiting in await statements that timed out");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            out.append("awaitility_timed_out_wait_seconds_total{await=\"").append(escape(awaitMetrics.getName())).append("\"} ")
+                    .append(seconds(awaitMetrics.getTimedOutWaitNanos())).append('\n');
+        }
+        counter(out, "awaitility_polls_total", "Number of condition evaluations");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            sample(out, "awaitility_polls_total", awaitMetrics, null, awaitMetrics.getPolls());
+        }
+        counter(out, "awaitility_ignored_exceptions_total", "Number of ignored exceptions");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            sample(out, "awaitility_ignored_exceptions_total", awaitMetrics, null, awaitMetrics.getIgnoredExceptions());
+        }
+        histogram(out, "awaitility_time_to_satisfaction_seconds", "Time until the condition of an await statement was fulfilled", allMetrics, true);
+        histogram(out, "awaitility_evaluation_duration_seconds", "Time it took to evaluate a condition", allMetrics, false);
+        phases(out, allMetrics);
+    }
+
+    private static void phases(Appendable out, List<AwaitMetrics> allMetrics) throws IOException {
+        final String name = "awaitility_evaluation_phase_seconds_total";
+        boolean headerWritten = false;
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            if (!awaitMetrics.isProfiled()) {
+                continue;
+            }
+            if (!headerWritten) {
+                counter(out, name, "Time spent in each phase of the condition evaluations of profiled await statements");
+                headerWritten = true;
+            }
+            for (EvaluationPhase phase : EvaluationPhase.values()) {
+                out.append(name).append("{await=\"").append(escape(awaitMetrics.getName())).append("\",phase=\"")
+                        .append(phase.name().toLowerCase(Locale.ROOT)).append("\"} ").append(seconds(awaitMetrics.getPhaseNanos(phase))).append('\n');
+            }
+        }
+    }
+
+    private static void counter(Appendable out, String name, String help) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+    }
+
+    private static void histogram(Appendable out, String name, String help, List<AwaitMetrics> allMetrics, boolean timeToSatisfaction) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        for (AwaitMetrics awaitMetrics : allMetrics) {
+            final LogBucketHistogram histogram = timeToSatisfaction ? awaitMetrics.getTimeToSatisfaction() : awaitMetrics.getEvaluationDuration();
+            final long[] bucketCounts = histogram.getBucketCounts();
+            long cumulativeCount = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                if (bucketCounts[i] == 0) {
+                    continue;
+                }
+                cumulativeCount += bucketCounts[i];
+                sample(out, name + "_bucket", awaitMetrics, seconds(LogBucketHistogram.bucketUpperBound(i)), cumulativeCount);
+            }
+            sample(out, name + "_bucket", awaitMetrics, "+Inf", cumulativeCount);
+            out.append(name).append("_sum{await=\"").append(escape(awaitMetrics.getName())).append("\"} ")
+                    .append(seconds(histogram.getSum())).append('\n');
+            sample(out, name + "_count", awaitMetrics, null, cumulativeCount);
+        }
+    }
+
+    private static void sample(Appendable out, String name, AwaitMetrics awaitMetrics, String le, long value) throws IOException {
+        out.append(name).append("{await=\"").append(escape(awaitMetrics.getName())).append('"');
+        if (le != null) {
+            out.append(",le=\"").append(le).append('"');
+        }
+        out.append("} ").append(Long.toString(value)).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / NANOS_PER_SECOND);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
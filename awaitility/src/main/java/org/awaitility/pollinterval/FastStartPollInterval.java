@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.pollinterval;
+
+import java.time.Duration;
+
+import static org.awaitility.core.ForeverDuration.isForever;
+
+/**
+ * A latency optimized poll interval. Since this is not a {@link FixedPollInterval} the poll delay defaults to {@link Duration#ZERO}
+ * which means that the condition is evaluated immediately. It's then followed by a short burst of fast polls (<code>burstCount</code>
+ * polls every <code>burstInterval</code>) after which the poll interval grows geometrically (by <code>backoffFactor</code>) until it
+ * reaches <code>maxInterval</code>. With the default values the poll interval sequence looks like this (ms):
+ * <pre>
+ * 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 4, 8, 16, 32, 64, 100, 100, ...
+ * </pre>
+ * This is useful if most of your conditions are fulfilled quickly, since you don't need to wait for the default poll delay (100 ms)
+ * before the condition is evaluated the first time, while conditions that take longer are still polled at most every <code>maxInterval</code>.
+ * To use it for all await statements do:
+ * <pre>
+ * Awaitility.setDefaultPollInterval(fastStart());
+ * </pre>
+ *
+ * @since 4.3.1
+ */
+public class FastStartPollInterval implements PollInterval {
+
+    private static final Duration DEFAULT_BURST_INTERVAL = Duration.ofMillis(2);
+    private static final int DEFAULT_BURST_COUNT = 10;
+    private static final double DEFAULT_BACKOFF_FACTOR = 2.0d;
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMillis(100);
+
+    private final Duration burstInterval;
+    private final int burstCount;
+    private final double backoffFactor;
+    private final Duration maxInterval;
+
+    /**
+     * Create an instance of the {@link FastStartPollInterval} with the default values, i.e. {@value #DEFAULT_BURST_COUNT} polls every 2 ms
+     * followed by a backoff factor of {@value #DEFAULT_BACKOFF_FACTOR} up to a maximum poll interval of 100 ms.
+     */
+    public FastStartPollInterval() {
+        this(DEFAULT_BURST_INTERVAL, DEFAULT_BURST_COUNT, DEFAULT_BACKOFF_FACTOR, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * Create an instance of the {@link FastStartPollInterval}.
+     *
+     * @param burstInterval The poll interval to use during the initial burst. Must be greater than 0.
+     * @param burstCount    The number of polls in the initial burst
+     * @param backoffFactor The factor that the poll interval is multiplied with for each poll after the burst. Must be greater than or equal to 1.
+     * @param maxInterval   The maximum poll interval
+     */
+    public FastStartPollInterval(Duration burstInterval, int burstCount, double backoffFactor, Duration maxInterval) {
+        if (burstInterval == null) {
+            throw new IllegalArgumentException("Burst interval cannot be null");
+        } else if (isForever(burstInterval)) {
+            throw new IllegalArgumentException("Cannot use a burst interval of length 'forever'");
+        } else if (burstInterval.isZero() || burstInterval.isNegative()) {
+            throw new IllegalArgumentException("Burst interval must be greater than 0");
+        }
+        if (maxInterval == null) {
+            throw new IllegalArgumentException("Max interval cannot be null");
+        } else if (isForever(maxInterval)) {
+            throw new IllegalArgumentException("Cannot use a max interval of length 'forever'");
+        }
+        if (burstCount < 0) {
+            throw new IllegalArgumentException("Burst count must be greater than or equal to 0");
+        }
+        if (backoffFactor < 1.0d || Double.isNaN(backoffFactor)) {
+            throw new IllegalArgumentException("Backoff factor must be greater than or equal to 1");
+        }
+        if (maxInterval.compareTo(burstInterval) < 0) {
+            throw new IllegalArgumentException("Max interval must be greater than or equal to the burst interval");
+        }
+        this.burstInterval = burstInterval;
+        this.burstCount = burstCount;
+        this.backoffFactor = backoffFactor;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * Generate the next duration
+     *
+     * @param pollCount        The number of times the condition has been polled (evaluated)
+     * @param previousDuration The duration of the previously returned poll interval
+     * @return The burst interval for the first <code>burstCount</code> polls, then a geometrically increasing interval capped by the max interval.
+     */
+    @Override
+    public Duration next(int pollCount, Duration previousDuration) {
+        if (pollCount <= burstCount) {
+            return burstInterval;
+        }
+        double nanos = burstInterval.toNanos() * Math.pow(backoffFactor, pollCount - burstCount);
+        long maxIntervalNanos = maxInterval.toNanos();
+        return nanos >= maxIntervalNanos ? maxInterval : Duration.ofNanos((long) nanos);
+    }
+
+    /**
+     * Syntactic sugar for <code>new FastStartPollInterval()</code>
+     *
+     * @return A new instance of {@link FastStartPollInterval}.
+     */
+    public static FastStartPollInterval fastStart() {
+        return new FastStartPollInterval();
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same of instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval with() {
+        return this;
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same of instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval and() {
+        return this;
+    }
+
+    /**
+     * Create a new {@link FastStartPollInterval} with a different burst interval
+     *
+     * @return A new instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval burstInterval(Duration burstInterval) {
+        return new FastStartPollInterval(burstInterval, burstCount, backoffFactor, maxInterval);
+    }
+
+    /**
+     * Create a new {@link FastStartPollInterval} with a different burst count
+     *
+     * @return A new instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval burstCount(int burstCount) {
+        return new FastStartPollInterval(burstInterval, burstCount, backoffFactor, maxInterval);
+    }
+
+    /**
+     * Create a new {@link FastStartPollInterval} with a different backoff factor
+     *
+     * @return A new instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval backoffFactor(double backoffFactor) {
+        return new FastStartPollInterval(burstInterval, burstCount, backoffFactor, maxInterval);
+    }
+
+    /**
+     * Create a new {@link FastStartPollInterval} with a different max interval
+     *
+     * @return A new instance of {@link FastStartPollInterval}
+     */
+    public FastStartPollInterval maxInterval(Duration maxInterval) {
+        return new FastStartPollInterval(burstInterval, burstCount, backoffFactor, maxInterval);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FastStartPollInterval)) return false;
+
+        FastStartPollInterval that = (FastStartPollInterval) o;
+
+        return burstCount == that.burstCount && Double.compare(that.backoffFactor, backoffFactor) == 0
+                && burstInterval.equals(that.burstInterval) && maxInterval.equals(that.maxInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = burstInterval.hashCode();
+        result = 31 * result + burstCount;
+        long temp = Double.doubleToLongBits(backoffFactor);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + maxInterval.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "FastStartPollInterval{" +
+                "burstInterval=" + burstInterval +
+                ", burstCount=" + burstCount +
+                ", backoffFactor=" + backoffFactor +
+                ", maxInterval=" + maxInterval +
+                '}';
+    }
+}
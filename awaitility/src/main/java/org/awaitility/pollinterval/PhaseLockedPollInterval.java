@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.pollinterval;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.awaitility.core.ForeverDuration.isForever;
+
+/**
+ * A poll interval for conditions that depend on state that is updated periodically with a known <code>period</code>, for example a metrics
+ * registry that is flushed every 250 ms. Until a change of the observed value has been detected the condition is polled every
+ * <code>searchInterval</code>. Once a change has been detected the subsequent polls are "phase-locked" to take place <code>lag</code> after each
+ * expected update. If an expected update doesn't show up the poll interval falls back to the <code>searchInterval</code> until the next change is detected.
+ * For example:
+ * <pre>
+ * await().pollInterval(phaseLocked(Duration.ofMillis(250))).until(metrics::requestCount, greaterThan(10));
+ * </pre>
+ * By default the observed value is the value returned by the supplier of a Hamcrest or predicate based condition (for
+ * <code>until(Callable&lt;Boolean&gt;)</code> this is just <code>true</code> or <code>false</code>). For other conditions, such as <code>untilAsserted</code>,
+ * you can specify a change detector that supplies the value to observe:
+ * <pre>
+ * await().pollInterval(phaseLocked(Duration.ofSeconds(1)).with().changeDetector(heartbeat::lastSeen)).untilAsserted(..);
+ * </pre>
+ * Note that, unlike the other poll intervals, this poll interval is stateful. Each await statement gets its own copy from {@link #start()}
+ * so the same instance can be shared by several await statements, for example as the default poll interval.
+ *
+ * @since 4.3.1
+ */
+public class PhaseLockedPollInterval implements PollInterval {
+
+    private final Duration period;
+    private final Duration lag;
+    private final Duration searchInterval;
+    private final Supplier<?> changeDetector;
+    private final LongSupplier nanoClock;
+
+    private Object lastValue;
+    private boolean hasValue;
+    private boolean locked;
+    private long anchorNanos;
+
+    /**
+     * Create a new instance of the {@link PhaseLockedPollInterval} using the default lag (a tenth of the period, but at most 5 ms)
+     * and search interval (a tenth of the period, but at least 1 ms).
+     *
+     * @param period The period with which the observed state is updated
+     */
+    public PhaseLockedPollInterval(Duration period) {
+        this(period, defaultLag(period), defaultSearchInterval(period), null);
+    }
+
+    /**
+     * Create a new instance of the {@link PhaseLockedPollInterval}.
+     *
+     * @param period         The period with which the observed state is updated
+     * @param lag            How long after an expected update the condition should be polled
+     * @param searchInterval The poll interval to use until a change of the observed value has been detected
+     * @param changeDetector Supplies the value to observe, or <code>null</code> to observe the value of the condition
+     */
+    public PhaseLockedPollInterval(Duration period, Duration lag, Duration searchInterval, Supplier<?> changeDetector) {
+        this(period, lag, searchInterval, changeDetector, System::nanoTime);
+    }
+
+    PhaseLockedPollInterval(Duration period, Duration lag, Duration searchInterval, Supplier<?> changeDetector, LongSupplier nanoClock) {
+        if (period == null) {
+            throw new IllegalArgumentException("Period cannot be null");
+        } else if (isForever(period) || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be a positive and finite duration");
+        }
+        if (lag == null || lag.isNegative()) {
+            throw new IllegalArgumentException("Lag must be greater than or equal to zero");
+        } else if (lag.compareTo(period) >= 0) {
+            throw new IllegalArgumentException("Lag must be less than the period");
+        }
+        if (searchInterval == null) {
+            throw new IllegalArgumentException("Search interval cannot be null");
+        } else if (isForever(searchInterval) || searchInterval.isZero() || searchInterval.isNegative()) {
+            throw new IllegalArgumentException("Search interval must be a positive and finite duration");
+        }
+        this.period = period;
+        this.lag = lag;
+        this.searchInterval = searchInterval;
+        this.changeDetector = changeDetector;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Generate the next duration
+     *
+     * @param pollCount        The number of times the condition has been polled (evaluated)
+     * @param previousDuration The duration of the previously returned poll interval
+     * @return The time until <code>lag</code> after the next expected update if a change has been detected, otherwise the search interval.
+     */
+    @Override
+    public synchronized Duration next(int pollCount, Duration previousDuration) {
+        if (changeDetector != null) {
+            observe(changeDetector.get());
+        }
+        if (!locked) {
+            return searchInterval;
+        }
+        long now = nanoClock.getAsLong();
+        long periodNanos = period.toNanos();
+        long lagNanos = lag.toNanos();
+        // The update at the anchor has already been observed so the next poll is after one of the following updates
+        long periodsUntilNextPoll = Math.max(1, Math.floorDiv(now - anchorNanos - lagNanos, periodNanos) + 1);
+        long nextPollNanos = anchorNanos + periodsUntilNextPoll * periodNanos + lagNanos;
+        return Duration.ofNanos(nextPollNanos - now);
+    }
+
+    /**
+     * Called by Awaitility with the value of the condition after each evaluation. This is ignored if a change detector is defined.
+     *
+     * @param value The value of the condition
+     */
+    @Override
+    public synchronized void valueObserved(Object value) {
+        if (changeDetector == null) {
+            observe(value);
+        }
+    }
+
+    /**
+     * Called by Awaitility when an await statement starts.
+     *
+     * @return A new instance of {@link PhaseLockedPollInterval} with the same settings that hasn't observed any value
+     */
+    @Override
+    public PhaseLockedPollInterval start() {
+        return new PhaseLockedPollInterval(period, lag, searchInterval, changeDetector, nanoClock);
+    }
+
+    private void observe(Object value) {
+        if (!hasValue) {
+            lastValue = value;
+            hasValue = true;
+            return;
+        }
+        final boolean changed = !Objects.equals(lastValue, value);
+        lastValue = value;
+        final long now = nanoClock.getAsLong();
+        if (!locked) {
+            if (changed) {
+                anchorNanos = now;
+                locked = true;
+            }
+            return;
+        }
+
+        long periodNanos = period.toNanos();
+        long elapsedPeriods = Math.floorDiv(now - anchorNanos, periodNanos);
+        long mostRecentExpectedUpdate = anchorNanos + elapsedPeriods * periodNanos;
+        boolean polledJustAfterExpectedUpdate = elapsedPeriods > 0 && now - mostRecentExpectedUpdate <= lag.toNanos() + searchInterval.toNanos();
+        if (changed) {
+            // Keep the phase if the update arrived when expected, otherwise re-synchronize with the observed update
+            anchorNanos = polledJustAfterExpectedUpdate ? mostRecentExpectedUpdate : now;
+        } else if (polledJustAfterExpectedUpdate) {
+            // The expected update didn't show up (we're probably polling a bit too early) so search for it again
+            locked = false;
+        }
+    }
+
+    /**
+     * Syntactic sugar for <code>new PhaseLockedPollInterval(period)</code>
+     *
+     * @param period The period with which the observed state is updated
+     * @return A new instance of {@link PhaseLockedPollInterval}.
+     */
+    public static PhaseLockedPollInterval phaseLocked(Duration period) {
+        return new PhaseLockedPollInterval(period);
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same of instance of {@link PhaseLockedPollInterval}
+     */
+    public PhaseLockedPollInterval with() {
+        return this;
+    }
+
+    /**
+     * Syntactic sugar
+     *
+     * @return The same of instance of {@link PhaseLockedPollInterval}
+     */
+    public PhaseLockedPollInterval and() {
+        return this;
+    }
+
+    /**
+     * Create a new {@link PhaseLockedPollInterval} that polls <code>lag</code> after each expected update
+     *
+     * @return A new instance of {@link PhaseLockedPollInterval}
+     */
+    public PhaseLockedPollInterval lag(Duration lag) {
+        return new PhaseLockedPollInterval(period, lag, searchInterval, changeDetector, nanoClock);
+    }
+
+    /**
+     * Create a new {@link PhaseLockedPollInterval} that uses the supplied search interval until a change has been detected
+     *
+     * @return A new instance of {@link PhaseLockedPollInterval}
+     */
+    public PhaseLockedPollInterval searchInterval(Duration searchInterval) {
+        return new PhaseLockedPollInterval(period, lag, searchInterval, changeDetector, nanoClock);
+    }
+
+    /**
+     * Create a new {@link PhaseLockedPollInterval} that observes the value returned by the <code>changeDetector</code> instead of the value of the condition.
+     * The change detector is called once per poll.
+     *
+     * @return A new instance of {@link PhaseLockedPollInterval}
+     */
+    public PhaseLockedPollInterval changeDetector(Supplier<?> changeDetector) {
+        if (changeDetector == null) {
+            throw new IllegalArgumentException("Change detector cannot be null");
+        }
+        return new PhaseLockedPollInterval(period, lag, searchInterval, changeDetector, nanoClock);
+    }
+
+    private static Duration defaultLag(Duration period) {
+        if (period == null) {
+            return null;
+        }
+        Duration tenthOfPeriod = period.dividedBy(10);
+        Duration fiveMillis = Duration.ofMillis(5);
+        return tenthOfPeriod.compareTo(fiveMillis) < 0 ? tenthOfPeriod : fiveMillis;
+    }
+
+    private static Duration defaultSearchInterval(Duration period) {
+        if (period == null || isForever(period)) {
+            return period;
+        }
+        Duration tenthOfPeriod = period.dividedBy(10);
+        Duration oneMilli = Duration.ofMillis(1);
+        return tenthOfPeriod.compareTo(oneMilli) > 0 ? tenthOfPeriod : oneMilli;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseLockedPollInterval{" +
+                "period=" + period +
+                ", lag=" + lag +
+                ", searchInterval=" + searchInterval +
+                '}';
+    }
+}
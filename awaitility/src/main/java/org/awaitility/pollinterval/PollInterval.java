@@ -40,4 +40,24 @@ public interface PollInterval {
      * @return The duration of the next poll interval
      */
     Duration next(int pollCount, Duration previousDuration);
+
+    /**
+     * Called by Awaitility when an await statement starts. Method is default to keep the PollInterval backward compatible.
+     * Poll intervals that keep state between polls should return a new instance so that the state isn't shared by several await statements.
+     *
+     * @return The poll interval to use for the await statement that is starting, by default the same instance
+     * @since 4.3.1
+     */
+    default PollInterval start() {
+        return this;
+    }
+
+    /**
+     * Called by Awaitility with the value of the condition after each evaluation. Method is default to keep the PollInterval backward compatible.
+     *
+     * @param value The value of the condition
+     * @since 4.3.1
+     */
+    default void valueObserved(Object value) {
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("org.awaitility.AwaitStarted")
+@Label("Await Started")
+@Category("Awaitility")
+@Description("An await statement started")
+class AwaitStartedEvent extends jdk.jfr.Event {
+
+    @Label("Alias")
+    String alias;
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Max Wait Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long maxWaitTime;
+
+    @Label("Poll Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long pollDelay;
+}
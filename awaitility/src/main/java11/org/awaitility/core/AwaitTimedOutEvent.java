@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("org.awaitility.AwaitTimedOut")
+@Label("Await Timed Out")
+@Category("Awaitility")
+@Description("An await statement failed because the condition was not fulfilled in time (or was fulfilled earlier than the minimum wait time)")
+class AwaitTimedOutEvent extends jdk.jfr.Event {
+
+    @Label("Alias")
+    String alias;
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Elapsed Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long elapsedTime;
+
+    @Label("Condition Satisfied")
+    boolean conditionSatisfied;
+
+    @Label("Message")
+    String message;
+}
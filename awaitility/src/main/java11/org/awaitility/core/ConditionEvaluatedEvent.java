@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.awaitility.ConditionEvaluated")
+@Label("Condition Evaluated")
+@Category("Awaitility")
+@Description("The condition of an await statement was evaluated, the duration of the event is the duration of the evaluation")
+@StackTrace(false)
+class ConditionEvaluatedEvent extends jdk.jfr.Event {
+
+    @Label("Alias")
+    String alias;
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Satisfied")
+    boolean satisfied;
+
+    @Label("Poll Interval")
+    @Timespan(Timespan.MILLISECONDS)
+    long pollInterval;
+}
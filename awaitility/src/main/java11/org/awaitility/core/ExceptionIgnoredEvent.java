@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.awaitility.ExceptionIgnored")
+@Label("Exception Ignored")
+@Category("Awaitility")
+@Description("An exception thrown while evaluating the condition of an await statement was ignored")
+@StackTrace(false)
+class ExceptionIgnoredEvent extends jdk.jfr.Event {
+
+    @Label("Alias")
+    String alias;
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    String message;
+}
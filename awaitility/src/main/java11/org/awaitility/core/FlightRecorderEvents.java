@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import java.time.Duration;
+
+/**
+ * Emits JDK Flight Recorder events for the lifecycle of await statements. This is the Java 11+ implementation of the class, the
+ * Java 8 implementation does nothing. The events are only created and committed when they are enabled in a running recording so
+ * the overhead is negligible when JFR is not in use.
+ */
+final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * @return <code>true</code> if any of the Awaitility events are enabled in a running recording
+     */
+    static boolean isEnabled() {
+        return new AwaitStartedEvent().isEnabled() || new ConditionEvaluatedEvent().isEnabled()
+                || new ExceptionIgnoredEvent().isEnabled() || new AwaitTimedOutEvent().isEnabled();
+    }
+
+    static void awaitStarted(String alias, String callSite, Duration maxWaitTime, Duration pollDelay) {
+        AwaitStartedEvent event = new AwaitStartedEvent();
+        if (event.shouldCommit()) {
+            event.alias = alias;
+            event.callSite = callSite;
+            event.maxWaitTime = toMillis(maxWaitTime);
+            event.pollDelay = toMillis(pollDelay);
+            event.commit();
+        }
+    }
+
+    /**
+     * @return A handle to pass to {@link #endConditionEvaluation(Object, String, String, boolean, Duration)} or <code>null</code> if
+     * the event is disabled.
+     */
+    static Object beginConditionEvaluation() {
+        ConditionEvaluatedEvent event = new ConditionEvaluatedEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endConditionEvaluation(Object handle, String alias, String callSite, boolean satisfied, Duration pollInterval) {
+        if (handle == null) {
+            return;
+        }
+        ConditionEvaluatedEvent event = (ConditionEvaluatedEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.alias = alias;
+            event.callSite = callSite;
+            event.satisfied = satisfied;
+            event.pollInterval = toMillis(pollInterval);
+            event.commit();
+        }
+    }
+
+    static void exceptionIgnored(String alias, String callSite, Throwable throwable) {
+        ExceptionIgnoredEvent event = new ExceptionIgnoredEvent();
+        if (event.shouldCommit()) {
+            event.alias = alias;
+            event.callSite = callSite;
+            event.exceptionClass = throwable == null ? null : throwable.getClass();
+            event.message = throwable == null ? null : throwable.getMessage();
+            event.commit();
+        }
+    }
+
+    static void awaitTimedOut(String alias, String callSite, long elapsedTimeInMS, boolean conditionSatisfied, String message) {
+        AwaitTimedOutEvent event = new AwaitTimedOutEvent();
+        if (event.shouldCommit()) {
+            event.alias = alias;
+            event.callSite = callSite;
+            event.elapsedTime = elapsedTimeInMS;
+            event.conditionSatisfied = conditionSatisfied;
+            event.message = message;
+            event.commit();
+        }
+    }
+
+    private static long toMillis(Duration duration) {
+        if (duration == null) {
+            return 0L;
+        } else if (ForeverDuration.isForever(duration)) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return duration.toMillis();
+        } catch (ArithmeticException tooBig) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
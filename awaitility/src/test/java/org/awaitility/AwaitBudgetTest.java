@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.awaitility.clock.VirtualClock;
+import org.awaitility.core.AwaitBudget;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class AwaitBudgetTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L)
+    public void await_statements_started_in_a_budget_wait_at_most_for_the_remaining_time_of_the_budget() {
+        AwaitBudget budget = AwaitBudget.of(Duration.ofMillis(500));
+
+        try (AwaitBudget.Scope ignored = budget.bind()) {
+            await().atMost(Duration.ofSeconds(10)).pollInterval(Duration.ofMillis(10)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("the time that remained of the await budget of 500 milliseconds."));
+            assertThat(budget.isExhausted(), is(true));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void await_statements_in_a_budget_keep_their_own_timeout_when_it_is_shorter() {
+        AwaitBudget budget = AwaitBudget.of(Duration.ofSeconds(10));
+
+        try (AwaitBudget.Scope ignored = budget.bind()) {
+            await().atMost(Duration.ofMillis(200)).pollInterval(Duration.ofMillis(10)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("within 200 milliseconds."));
+            assertThat(budget.isExhausted(), is(false));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void await_statements_started_by_a_condition_are_capped_by_the_enclosing_await_statement() {
+        long started = System.nanoTime();
+
+        try {
+            await("outer").atMost(Duration.ofMillis(300)).until(() -> {
+                await("inner").atMost(Duration.ofSeconds(10)).until(() -> false);
+                return true;
+            });
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), allOf(startsWith("Condition with alias 'inner'"), containsString("the enclosing await statement with alias 'outer'")));
+            assertThat(Duration.ofNanos(System.nanoTime() - started), lessThan(Duration.ofSeconds(1)));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void await_statements_started_by_a_fail_fast_condition_are_capped_by_the_enclosing_await_statement() {
+        try {
+            await().atMost(Duration.ofMillis(300)).failFast(() -> {
+                await().atMost(Duration.ofSeconds(10)).until(() -> false);
+                return false;
+            }).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("the time that remained of the enclosing await statement."));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void nested_budgets_never_exceed_the_remaining_time_of_the_outer_budget() {
+        AwaitBudget outer = AwaitBudget.of(Duration.ofMillis(300));
+        AwaitBudget inner = AwaitBudget.of(Duration.ofMinutes(1));
+
+        Duration remaining = outer.call(() -> inner.call(() -> {
+            try {
+                await().atMost(Duration.ofSeconds(10)).pollInterval(Duration.ofMillis(10)).until(() -> false);
+                fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+            } catch (ConditionTimeoutException e) {
+                assertThat(e.getMessage(), endsWith("the time that remained of the await budget of 300 milliseconds."));
+            }
+            return inner.getRemaining();
+        }));
+
+        assertThat(remaining, greaterThan(Duration.ofSeconds(50)));
+    }
+
+    @Test(timeout = 2000L)
+    public void budget_can_be_measured_on_virtual_time() {
+        VirtualClock clock = new VirtualClock();
+        AwaitBudget budget = AwaitBudget.of(Duration.ofMinutes(5), clock);
+
+        budget.run(() -> {
+            await().clock(clock).atMost(Duration.ofMinutes(3)).pollInterval(Duration.ofSeconds(1)).until(() -> clock.instant() != null);
+            clock.advance(Duration.ofMinutes(4));
+            try {
+                await().clock(clock).atMost(Duration.ofMinutes(3)).pollInterval(Duration.ofSeconds(1)).until(() -> false);
+                fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+            } catch (ConditionTimeoutException e) {
+                assertThat(e.getMessage(), endsWith("the time that remained of the await budget of 5 minutes."));
+            }
+        });
+
+        assertThat(budget.isExhausted(), is(true));
+    }
+
+    @Test(timeout = 5000L)
+    public void threads_created_while_an_await_statement_is_running_dont_inherit_its_deadline() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The thread of the executor is created while the condition is evaluated
+            await().atMost(Duration.ofMillis(200)).until(() -> executor.submit(() -> true).get());
+
+            long started = System.nanoTime();
+            executor.submit(() -> await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(20))
+                    .until(() -> System.nanoTime() - started > MILLISECONDS.toNanos(400))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void threads_created_while_a_budget_is_bound_dont_inherit_the_budget() throws Exception {
+        ExecutorService executor;
+        try (AwaitBudget.Scope ignored = AwaitBudget.of(Duration.ofMillis(100)).bind()) {
+            executor = Executors.newSingleThreadExecutor();
+            executor.submit(() -> true).get();
+        }
+        try {
+            long started = System.nanoTime();
+            executor.submit(() -> await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(20))
+                    .until(() -> System.nanoTime() - started > MILLISECONDS.toNanos(300))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void await_statements_started_by_a_condition_evaluation_that_outlives_its_await_statement_ignore_its_deadline() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch outerTimedOut = new CountDownLatch(1);
+        AtomicBoolean innerSatisfied = new AtomicBoolean();
+        AtomicReference<Throwable> innerFailure = new AtomicReference<>();
+
+        try {
+            await().atMost(Duration.ofMillis(300)).pollExecutorService(executor).until(() -> {
+                // Keep running when the evaluation is cancelled
+                while (outerTimedOut.getCount() > 0) {
+                    try {
+                        outerTimedOut.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                try {
+                    await().atMost(Duration.ofSeconds(2)).pollDelay(Duration.ofMillis(100)).until(() -> true);
+                    innerSatisfied.set(true);
+                } catch (Throwable e) {
+                    innerFailure.set(e);
+                }
+                return true;
+            });
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            outerTimedOut.countDown();
+        }
+
+        try {
+            await().atMost(Duration.ofSeconds(2)).until(() -> innerSatisfied.get() || innerFailure.get() != null);
+            assertThat(innerFailure.get(), nullValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void await_statements_started_while_an_exhausted_budget_is_bound_time_out_immediately() {
+        VirtualClock clock = new VirtualClock();
+        AwaitBudget budget = AwaitBudget.of(Duration.ofMinutes(1), clock);
+        clock.advance(Duration.ofMinutes(2));
+
+        try (AwaitBudget.Scope ignored = budget.bind()) {
+            await().clock(clock).atMost(Duration.ofMinutes(3)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("the time that remained of the await budget of 1 minutes."));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void budget_must_be_greater_than_zero() {
+        AwaitBudget.of(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nested_scopes_must_be_closed_first() {
+        AwaitBudget.Scope outer = AwaitBudget.of(Duration.ofSeconds(1)).bind();
+        AwaitBudget.Scope inner = AwaitBudget.of(Duration.ofSeconds(1)).bind();
+        try {
+            outer.close();
+        } finally {
+            inner.close();
+            outer.close();
+        }
+    }
+}
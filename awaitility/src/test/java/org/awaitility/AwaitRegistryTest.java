@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.awaitility.core.AwaitRegistry;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.management.AwaitInfo;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class AwaitRegistryTest {
+
+    private final AwaitRegistry registry = AwaitRegistry.getInstance();
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+        AwaitRegistry.unregisterMXBean();
+    }
+
+    @Test(timeout = 5000L)
+    public void lists_await_statements_that_are_currently_blocking() {
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger value = new AtomicInteger(1);
+        CompletableFuture<Void> blockingAwait = CompletableFuture.runAsync(() ->
+                await("blocking").atMost(Duration.ofSeconds(4)).pollInterval(Duration.ofMillis(20)).until(() -> done.get() ? 2 : value.get(), equalTo(2)));
+
+        try {
+            List<AwaitInfo> awaits = await().until(this::awaitsWithAliasBlocking, hasSize(1));
+            AwaitInfo awaitInfo = await().until(() -> awaitsWithAliasBlocking().get(0), info -> info.getPollCount() > 1 && info.getLastMismatchMessage() != null);
+
+            assertThat(awaits.get(0).getThreadName(), not(equalTo(Thread.currentThread().getName())));
+            assertThat(awaitInfo.getCallSite(), startsWith(AwaitRegistryTest.class.getName()));
+            assertThat(awaitInfo.getPollIntervalInMS(), is(20L));
+            assertThat(awaitInfo.getRemainingTimeInMS(), allOf(greaterThan(0L), lessThanOrEqualTo(4000L)));
+            assertThat(awaitInfo.getLastMismatchMessage(), containsString("expected <2> but was <1>"));
+            assertThat(registry.dumpInFlightAwaits(), containsString("'blocking' at " + AwaitRegistryTest.class.getName()));
+        } finally {
+            done.set(true);
+            blockingAwait.join();
+        }
+
+        assertThat(awaitsWithAliasBlocking(), empty());
+    }
+
+    @Test(timeout = 5000L)
+    public void describes_the_mismatch_in_the_thread_running_the_await_statement() {
+        AtomicBoolean done = new AtomicBoolean();
+        Set<String> describingThreads = ConcurrentHashMap.newKeySet();
+        BaseMatcher<Boolean> isTrue = new BaseMatcher<Boolean>() {
+            @Override
+            public boolean matches(Object item) {
+                return Boolean.TRUE.equals(item);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                describingThreads.add(Thread.currentThread().getName());
+                description.appendText("done");
+            }
+        };
+        CompletableFuture<Void> blockingAwait = CompletableFuture.runAsync(() ->
+                await("blocking").atMost(Duration.ofSeconds(4)).pollInterval(Duration.ofMillis(20)).until(done::get, isTrue));
+
+        try {
+            await().until(() -> awaitsWithAliasBlocking().stream().anyMatch(info -> info.getLastMismatchMessage() != null));
+            AwaitInfo awaitInfo = awaitsWithAliasBlocking().get(0);
+
+            assertThat(awaitInfo.getLastMismatchMessage(), containsString("expected done but was <false>"));
+            assertThat(describingThreads, not(hasItem(Thread.currentThread().getName())));
+        } finally {
+            done.set(true);
+            blockingAwait.join();
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void keeps_aggregate_counters() {
+        registry.resetCounters();
+
+        await().pollInterval(Duration.ofMillis(10)).until(new AtomicInteger()::incrementAndGet, equalTo(2));
+        try {
+            await().atMost(Duration.ofMillis(150)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException ignored) {
+        }
+
+        assertThat(registry.getSatisfiedAwaitCount(), greaterThanOrEqualTo(1L));
+        assertThat(registry.getTimedOutAwaitCount(), greaterThanOrEqualTo(1L));
+        assertThat(registry.getStartedAwaitCount(), greaterThanOrEqualTo(2L));
+        assertThat(registry.getConditionEvaluationCount(), greaterThanOrEqualTo(3L));
+    }
+
+    @Test(timeout = 2000L)
+    public void counts_await_statements_failing_with_an_exception_as_failed() {
+        registry.resetCounters();
+
+        try {
+            await().until(() -> {
+                throw new IllegalStateException("failure");
+            });
+            fail("Expected " + IllegalStateException.class.getSimpleName());
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertThat(registry.getFailedAwaitCount(), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    public void mxbean_is_available_in_platform_mbean_server_once_registered() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(AwaitRegistry.OBJECT_NAME);
+
+        AwaitRegistry.registerMXBean();
+        AwaitRegistry.registerMXBean();
+
+        assertThat(mBeanServer.isRegistered(objectName), is(true));
+        assertThat(mBeanServer.getAttribute(objectName, "StartedAwaitCount"), instanceOf(Long.class));
+        assertThat((String) mBeanServer.invoke(objectName, "dumpInFlightAwaits", null, null), containsString("in flight"));
+    }
+
+    private List<AwaitInfo> awaitsWithAliasBlocking() {
+        return registry.getInFlightAwaits().stream().filter(info -> "blocking".equals(info.getAlias())).collect(toList());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class AwaitilityConfigTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L)
+    public void bound_config_is_used_by_await_statements_in_the_scope() {
+        AwaitilityConfig config = AwaitilityConfig.defaults().atMost(Duration.ofMillis(200)).pollInterval(Duration.ofMillis(10));
+
+        try (AwaitilityConfig.Scope ignored = config.bind()) {
+            await().until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("within 200 milliseconds."));
+        }
+        assertThat(AwaitilityConfig.current(), sameInstance(AwaitilityConfig.defaults()));
+    }
+
+    @Test
+    public void set_default_in_a_scope_only_affects_the_scope() {
+        try (AwaitilityConfig.Scope scope = AwaitilityConfig.defaults().bind()) {
+            Awaitility.setDefaultTimeout(Duration.ofSeconds(3));
+
+            assertThat(scope.getConfig().getWaitConstraint().getMaxWaitTime(), equalTo(Duration.ofSeconds(3)));
+        }
+
+        assertThat(AwaitilityConfig.current().getWaitConstraint().getMaxWaitTime(), equalTo(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void reset_in_a_scope_restores_the_config_that_the_scope_was_bound_with() {
+        AwaitilityConfig config = AwaitilityConfig.defaults().pollDelay(Duration.ofMillis(5));
+        Awaitility.setDefaultPollDelay(Duration.ofMillis(50));
+
+        try (AwaitilityConfig.Scope ignored = config.bind()) {
+            Awaitility.setDefaultPollDelay(Duration.ofMillis(20));
+            Awaitility.reset();
+
+            assertThat(AwaitilityConfig.current(), sameInstance(config));
+        }
+        assertThat(AwaitilityConfig.current().getPollDelay(), equalTo(Duration.ofMillis(50)));
+    }
+
+    @Test
+    public void nested_scopes_restore_the_enclosing_scope_when_closed() {
+        AwaitilityConfig outer = AwaitilityConfig.defaults().atMost(Duration.ofSeconds(1));
+        AwaitilityConfig inner = AwaitilityConfig.defaults().atMost(Duration.ofSeconds(2));
+
+        try (AwaitilityConfig.Scope ignored = outer.bind()) {
+            inner.run(() -> assertThat(AwaitilityConfig.current(), sameInstance(inner)));
+
+            assertThat(AwaitilityConfig.current(), sameInstance(outer));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void scope_is_not_inherited_by_threads_created_in_the_scope() throws Exception {
+        AwaitilityConfig config = AwaitilityConfig.defaults().atMost(Duration.ofSeconds(4));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            try (AwaitilityConfig.Scope ignored = config.bind()) {
+                assertThat(pool.submit(AwaitilityConfig::current).get(), sameInstance(AwaitilityConfig.defaults()));
+            }
+
+            assertThat(pool.submit(AwaitilityConfig::current).get(), sameInstance(AwaitilityConfig.defaults()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void concurrent_scopes_do_not_affect_each_other() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch bothConfigured = new CountDownLatch(2);
+        try {
+            Future<Duration> first = executor.submit(() -> timeoutInScope(Duration.ofSeconds(1), bothConfigured));
+            Future<Duration> second = executor.submit(() -> timeoutInScope(Duration.ofSeconds(2), bothConfigured));
+
+            assertThat(first.get(2, TimeUnit.SECONDS), equalTo(Duration.ofSeconds(1)));
+            assertThat(second.get(2, TimeUnit.SECONDS), equalTo(Duration.ofSeconds(2)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void scope_must_be_closed_in_reverse_order() {
+        AwaitilityConfig.Scope outer = AwaitilityConfig.defaults().bind();
+        AwaitilityConfig.Scope inner = AwaitilityConfig.defaults().bind();
+        try {
+            outer.close();
+        } finally {
+            inner.close();
+            outer.close();
+        }
+    }
+
+    private static Duration timeoutInScope(Duration timeout, CountDownLatch bothConfigured) throws InterruptedException {
+        try (AwaitilityConfig.Scope ignored = AwaitilityConfig.defaults().bind()) {
+            Awaitility.setDefaultTimeout(timeout);
+            bothConfigured.countDown();
+            bothConfigured.await();
+            return AwaitilityConfig.current().getWaitConstraint().getMaxWaitTime();
+        }
+    }
+}
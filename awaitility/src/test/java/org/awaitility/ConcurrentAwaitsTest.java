@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility;
+
+import org.awaitility.classes.ConcurrentAwaitScenario;
+import org.awaitility.core.ConditionFactory;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Runs the scenario of the concurrent await stress test in awaitility-benchmarks with a bounded number of await statements as part of the regular build.
+ */
+public class ConcurrentAwaitsTest {
+
+    private static final int CONCURRENCY = 200;
+    private static final int FAILING_EVERY = 10;
+    private static final int MAX_DELAY_MILLIS = 100;
+
+    private Thread.UncaughtExceptionHandler originalHandler;
+
+    @Before
+    public void install_original_default_handler() {
+        originalHandler = (thread, throwable) -> {
+        };
+        Thread.setDefaultUncaughtExceptionHandler(originalHandler);
+    }
+
+    @After
+    public void restore_default_handler() {
+        Thread.setDefaultUncaughtExceptionHandler(null);
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 30000L)
+    public void uncaught_exceptions_only_fail_the_await_statement_they_are_scoped_to() throws Exception {
+        runConcurrentAwaits(false);
+    }
+
+    @Test(timeout = 30000L)
+    public void uncaught_exceptions_only_fail_the_await_statement_they_are_scoped_to_when_polling_in_same_thread() throws Exception {
+        runConcurrentAwaits(true);
+    }
+
+    private void runConcurrentAwaits(boolean pollInSameThread) throws Exception {
+        ConcurrentAwaitScenario.Result result = new ConcurrentAwaitScenario(CONCURRENCY, FAILING_EVERY, MAX_DELAY_MILLIS).run((threadGroup, condition) -> {
+            ConditionFactory conditionFactory = await().atMost(Duration.ofSeconds(20)).pollInterval(Duration.ofMillis(10));
+            // Polling in the same thread stops catching uncaught exceptions so the scope is applied afterwards
+            (pollInSameThread ? conditionFactory.pollInSameThread() : conditionFactory).catchUncaughtExceptionsFrom(threadGroup).until(condition);
+        }, ConditionTimeoutException.class, 25, TimeUnit.SECONDS);
+
+        assertThat(result.getUnexpectedFailures(), is(0));
+        assertThat(result.getMissedExceptions(), is(0));
+        assertThat(result.getMisroutedExceptions(), is(0));
+        assertThat(result.getIncomplete(), is(0));
+        Awaitility.reset();
+        assertThat(Thread.getDefaultUncaughtExceptionHandler(), sameInstance(originalHandler));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility;
+
+import org.awaitility.core.EvaluationBudgetExceededException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class EvaluationBudgetTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L)
+    public void max_evaluations_fails_the_await_once_the_condition_has_been_evaluated_the_given_number_of_times() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        try {
+            await().pollInterval(Duration.ofMillis(10)).maxEvaluations(3).until(() -> evaluations.incrementAndGet() < 0);
+            fail("Expected " + EvaluationBudgetExceededException.class.getSimpleName());
+        } catch (EvaluationBudgetExceededException e) {
+            assertThat(e.getEvaluations(), is(3));
+            assertThat(evaluations.get(), is(3));
+            assertThat(e.getMessage(), containsString("within its evaluation budget (consumed 3 evaluations of max 3"));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void max_evaluations_does_not_fail_when_condition_is_fulfilled_within_the_budget() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        await().pollInterval(Duration.ofMillis(10)).maxEvaluations(3).until(() -> evaluations.incrementAndGet() == 3);
+
+        assertThat(evaluations.get(), is(3));
+    }
+
+    @Test(timeout = 2000L)
+    public void max_evaluation_time_fails_the_await_once_the_cumulative_evaluation_time_is_consumed() {
+        try {
+            await("slow supplier").pollInterval(Duration.ofMillis(1)).maxEvaluationTime(Duration.ofMillis(50)).until(() -> {
+                Thread.sleep(20);
+                return false;
+            });
+            fail("Expected " + EvaluationBudgetExceededException.class.getSimpleName());
+        } catch (EvaluationBudgetExceededException e) {
+            assertThat(e.getEvaluationTime(), greaterThanOrEqualTo(Duration.ofMillis(50)));
+            assertThat(e.getEvaluationCpuTime(), nullValue());
+            assertThat(e.getMessage(), startsWith("Condition with alias 'slow supplier' didn't complete within its evaluation budget"));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void evaluation_budget_is_kept_when_waiting_forever() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        try {
+            await().pollInterval(Duration.ofMillis(10)).maxEvaluations(2).forever().until(evaluations::incrementAndGet, is(-1));
+            fail("Expected " + EvaluationBudgetExceededException.class.getSimpleName());
+        } catch (EvaluationBudgetExceededException e) {
+            assertThat(evaluations.get(), is(2));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void evaluation_budget_is_kept_when_changing_timeout_after_budget() {
+        try {
+            await().pollInterval(Duration.ofMillis(10)).maxEvaluations(2).and().atMost(Duration.ofSeconds(1)).until(() -> false);
+            fail("Expected " + EvaluationBudgetExceededException.class.getSimpleName());
+        } catch (EvaluationBudgetExceededException e) {
+            assertThat(e.getEvaluations(), is(2));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void max_evaluations_must_be_greater_than_zero() {
+        await().maxEvaluations(0);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility;
+
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class EvaluationTimeoutTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L)
+    public void evaluation_that_exceeds_the_evaluation_timeout_is_retried() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10)).evaluationTimeout(Duration.ofMillis(50)).until(() -> {
+            if (evaluations.incrementAndGet() == 1) {
+                Thread.sleep(5000);
+            }
+            return true;
+        });
+
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test(timeout = 2000L)
+    public void evaluation_that_ignores_interruption_is_retried_by_a_new_thread() {
+        AtomicInteger evaluations = new AtomicInteger();
+        AtomicBoolean busy = new AtomicBoolean(true);
+
+        try {
+            await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10)).evaluationTimeout(Duration.ofMillis(50)).until(() -> {
+                if (evaluations.incrementAndGet() == 1) {
+                    long busyUntil = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+                    while (busy.get() && System.nanoTime() < busyUntil) {
+                        // Busy wait without checking for interruption
+                    }
+                }
+                return true;
+            });
+        } finally {
+            busy.set(false);
+        }
+
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test(timeout = 2000L)
+    public void timed_out_evaluation_is_reported_as_cause_when_condition_is_never_fulfilled() {
+        try {
+            await().atMost(Duration.ofMillis(300)).pollInterval(Duration.ofMillis(10)).evaluationTimeout(Duration.ofMillis(50)).until(() -> {
+                Thread.sleep(5000);
+                return true;
+            });
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            assertThat(e.getCause().getMessage(), equalTo("Condition evaluation didn't complete within the evaluation timeout of 50 milliseconds."));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluation_timeout_must_be_greater_than_zero() {
+        await().evaluationTimeout(Duration.ZERO);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ForkJoinPoolTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(1);
+
+    @After
+    public void shutdown_pool_and_reset_awaitility() {
+        pool.shutdownNow();
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 5000L)
+    public void await_in_fork_join_pool_task_does_not_starve_the_pool() throws Exception {
+        AtomicBoolean ready = new AtomicBoolean();
+
+        // The pool has a single worker, which is blocked by the await statement unless the pool compensates for it
+        CompletableFuture<Boolean> awaiting = CompletableFuture.supplyAsync(() -> {
+            await().atMost(Duration.ofSeconds(3)).untilTrue(ready);
+            return true;
+        }, pool);
+        CompletableFuture.runAsync(() -> ready.set(true), pool);
+
+        assertThat(awaiting.get(4, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test(timeout = 5000L)
+    public void poll_in_fork_join_pool_evaluates_the_condition_in_the_pool_of_the_await_statement() throws Exception {
+        AtomicReference<Thread> evaluatingThread = new AtomicReference<>();
+
+        CompletableFuture<Thread> awaitingThread = CompletableFuture.supplyAsync(() -> {
+            await().pollInForkJoinPool().atMost(Duration.ofSeconds(3)).until(() -> {
+                evaluatingThread.set(Thread.currentThread());
+                return true;
+            });
+            return Thread.currentThread();
+        }, pool);
+
+        assertThat(awaitingThread.get(4, TimeUnit.SECONDS), not(sameInstance(evaluatingThread.get())));
+        assertThat(evaluatingThread.get(), instanceOf(ForkJoinWorkerThread.class));
+        assertThat(((ForkJoinWorkerThread) evaluatingThread.get()).getPool(), sameInstance(pool));
+    }
+
+    @Test(timeout = 5000L)
+    public void poll_in_fork_join_pool_evaluates_the_condition_in_the_common_pool_when_not_running_in_a_fork_join_pool() {
+        AtomicReference<Thread> evaluatingThread = new AtomicReference<>();
+
+        await().pollInForkJoinPool().until(() -> {
+            evaluatingThread.set(Thread.currentThread());
+            return true;
+        });
+
+        assertThat(((ForkJoinWorkerThread) evaluatingThread.get()).getPool(), sameInstance(ForkJoinPool.commonPool()));
+    }
+}
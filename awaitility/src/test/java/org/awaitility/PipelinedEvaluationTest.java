@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility;
+
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.EvaluationBudgetExceededException;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class PipelinedEvaluationTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 5000L)
+    public void pipelined_evaluations_overlap_up_to_the_in_flight_limit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        await().pollInterval(Duration.ofMillis(10)).pipelinedEvaluations(3).until(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                return evaluations.incrementAndGet() >= 6;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        assertThat(maxInFlight.get(), allOf(greaterThan(1), lessThanOrEqualTo(3)));
+    }
+
+    @Test(timeout = 5000L)
+    public void value_of_the_first_evaluation_that_fulfills_the_condition_is_returned() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        int value = await().pollInterval(Duration.ofMillis(10)).pipelinedEvaluations(4).until(() -> {
+            int evaluation = evaluations.incrementAndGet();
+            Thread.sleep(50);
+            return evaluation;
+        }, greaterThanOrEqualTo(5));
+
+        assertThat(value, greaterThanOrEqualTo(5));
+    }
+
+    @Test(timeout = 5000L)
+    public void pipelined_evaluations_time_out_when_the_condition_is_never_fulfilled() {
+        try {
+            await().atMost(Duration.ofMillis(300)).pollInterval(Duration.ofMillis(10)).pipelinedEvaluations(4).until(() -> {
+                Thread.sleep(100);
+                return false;
+            });
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getMessage(), endsWith("was not fulfilled within 300 milliseconds."));
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void last_ignored_exception_is_the_cause_of_the_timeout_when_later_evaluations_dont_complete() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        try {
+            await().atMost(Duration.ofMillis(300)).pollInterval(Duration.ofMillis(10)).pipelinedEvaluations(4).ignoreExceptions().until(() -> {
+                if (evaluations.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Not started");
+                }
+                Thread.sleep(1000);
+                return true;
+            });
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            assertThat(e.getCause().getMessage(), equalTo("Not started"));
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void condition_evaluation_listener_is_never_called_concurrently() {
+        AtomicInteger listenersInProgress = new AtomicInteger();
+        AtomicInteger maxListenersInProgress = new AtomicInteger();
+
+        await().pollInterval(Duration.ofMillis(5)).pipelinedEvaluations(4)
+                .conditionEvaluationListener(condition -> {
+                    maxListenersInProgress.accumulateAndGet(listenersInProgress.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        listenersInProgress.decrementAndGet();
+                    }
+                })
+                .until(new AtomicInteger()::incrementAndGet, greaterThanOrEqualTo(10));
+
+        assertThat(maxListenersInProgress.get(), is(1));
+    }
+
+    @Test(timeout = 5000L)
+    public void mismatch_that_completes_after_a_match_reports_its_own_value() {
+        AtomicInteger evaluations = new AtomicInteger();
+        CountDownLatch matchReported = new CountDownLatch(1);
+        List<Object> mismatchingValues = new CopyOnWriteArrayList<>();
+        List<String> mismatchMessages = new CopyOnWriteArrayList<>();
+        BaseMatcher<Integer> isFive = new BaseMatcher<Integer>() {
+            @Override
+            public boolean matches(Object item) {
+                return Integer.valueOf(5).equals(item);
+            }
+
+            @Override
+            public void describeMismatch(Object item, Description description) {
+                // The first evaluation is slow to describe its mismatch so that the second evaluation matches in the meantime
+                awaitUninterruptibly(matchReported);
+                description.appendText("was ").appendValue(item);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("five");
+            }
+        };
+
+        await().pollInterval(Duration.ofMillis(10)).pipelinedEvaluations(2)
+                .conditionEvaluationListener(condition -> {
+                    if (condition.isSatisfied()) {
+                        matchReported.countDown();
+                    } else {
+                        mismatchingValues.add(condition.getValue());
+                        mismatchMessages.add(condition.getDescription());
+                    }
+                })
+                .until(() -> evaluations.incrementAndGet() == 1 ? 1 : 5, isFive);
+
+        await().until(() -> mismatchingValues, not(empty()));
+        assertThat(mismatchingValues, everyItem(is(1)));
+        assertThat(mismatchMessages, everyItem(endsWith("but was <1>")));
+    }
+
+        @Test(timeout = 5000L)
+    public void pipelined_evaluations_respect_max_evaluations() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        try {
+            await().pollInterval(Duration.ofMillis(5)).pipelinedEvaluations(4).maxEvaluations(6).until(() -> {
+                evaluations.incrementAndGet();
+                Thread.sleep(30);
+                return false;
+            });
+            fail("Expected " + EvaluationBudgetExceededException.class.getSimpleName());
+        } catch (EvaluationBudgetExceededException e) {
+            assertThat(e.getEvaluations(), is(6));
+            assertThat(evaluations.get(), is(6));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void max_in_flight_evaluations_must_be_greater_than_zero() {
+        await().pipelinedEvaluations(0);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    latch.await(2, TimeUnit.SECONDS);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.awaitility.core.AwaitProfile;
+import org.awaitility.core.ConditionEvaluationListener;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.EvaluationPhase;
+import org.awaitility.core.EvaluatedCondition;
+import org.awaitility.core.TimeoutEvent;
+import org.awaitility.metrics.DefaultAwaitilityMetrics;
+import org.awaitility.metrics.PrometheusTextExporter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class ProfilingTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L)
+    public void profile_is_passed_to_the_consumer_when_the_await_statement_completes() {
+        AtomicReference<AwaitProfile> profile = new AtomicReference<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        await("profiled").pollInterval(Duration.ofMillis(10)).profiling(profile::set).until(() -> {
+            Thread.sleep(5);
+            return counter.incrementAndGet();
+        }, is(3));
+
+        assertThat(profile.get().getAlias(), equalTo("profiled"));
+        assertThat(profile.get().getEvaluations(), is(3));
+        assertThat(profile.get().getCount(EvaluationPhase.SUPPLIER), is(3L));
+        assertThat(profile.get().getCount(EvaluationPhase.MATCHER), is(3L));
+        assertThat(profile.get().getCount(EvaluationPhase.EXECUTOR_HANDOFF), is(3L));
+        assertThat(profile.get().getTotalTime(EvaluationPhase.SUPPLIER), greaterThanOrEqualTo(Duration.ofMillis(15)));
+        assertThat(profile.get().getConditionTime(), greaterThanOrEqualTo(Duration.ofMillis(15)));
+        assertThat(profile.get().getSummary(), containsString("Profile of await statement with alias profiled"));
+    }
+
+    @Test(timeout = 2000L)
+    public void assertion_conditions_are_accounted_to_the_matcher_phase() {
+        AtomicReference<AwaitProfile> profile = new AtomicReference<>();
+        AtomicInteger counter = new AtomicInteger();
+
+        await().pollInterval(Duration.ofMillis(10)).profiling(profile::set).untilAsserted(() -> assertThat(counter.incrementAndGet(), is(2)));
+
+        assertThat(profile.get().getCount(EvaluationPhase.MATCHER), is(2L));
+        assertThat(profile.get().getCount(EvaluationPhase.SUPPLIER), is(0L));
+        assertThat(profile.get().getCount(EvaluationPhase.MESSAGE_GENERATION), is(2L));
+    }
+
+    @Test(timeout = 2000L)
+    public void profile_is_available_in_timeout_event_and_metrics() {
+        AtomicReference<AwaitProfile> profileOnTimeout = new AtomicReference<>();
+        DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create();
+
+        try {
+            await("never").atMost(Duration.ofMillis(200)).pollInterval(Duration.ofMillis(20)).profiling(profile -> {
+            }).metrics(metrics).conditionEvaluationListener(new ConditionEvaluationListener<Object>() {
+                @Override
+                public void conditionEvaluated(EvaluatedCondition<Object> condition) {
+                }
+
+                @Override
+                public void onTimeout(TimeoutEvent timeoutEvent) {
+                    profileOnTimeout.set(timeoutEvent.getProfile());
+                }
+            }).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(profileOnTimeout.get(), notNullValue());
+            assertThat(profileOnTimeout.get().getCount(EvaluationPhase.LISTENER), greaterThan(0L));
+            assertThat(metrics.getMetrics("never").getPhaseNanos(EvaluationPhase.SUPPLIER), greaterThan(0L));
+            assertThat(PrometheusTextExporter.export(metrics), containsString("awaitility_evaluation_phase_seconds_total{await=\"never\",phase=\"supplier\"}"));
+        }
+    }
+
+    @Test(timeout = 2000L)
+    public void timeout_event_has_no_profile_when_profiling_is_disabled() {
+        AtomicReference<TimeoutEvent> event = new AtomicReference<>();
+
+        try {
+            await().atMost(Duration.ofMillis(150)).conditionEvaluationListener(new ConditionEvaluationListener<Object>() {
+                @Override
+                public void conditionEvaluated(EvaluatedCondition<Object> condition) {
+                }
+
+                @Override
+                public void onTimeout(TimeoutEvent timeoutEvent) {
+                    event.set(timeoutEvent);
+                }
+            }).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            assertThat(event.get().getProfile(), nullValue());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void profiling_consumer_cannot_be_null() {
+        await().profiling(null);
+    }
+}
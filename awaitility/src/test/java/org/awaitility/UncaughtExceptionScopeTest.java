@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class UncaughtExceptionScopeTest {
+
+    private Thread.UncaughtExceptionHandler originalHandler;
+    private final List<Throwable> exceptionsReceivedByOriginalHandler = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void install_original_default_handler() {
+        originalHandler = (thread, throwable) -> exceptionsReceivedByOriginalHandler.add(throwable);
+        Thread.setDefaultUncaughtExceptionHandler(originalHandler);
+    }
+
+    @After
+    public void restore_default_handler() {
+        Thread.setDefaultUncaughtExceptionHandler(null);
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 5000L)
+    public void concurrent_await_statements_only_catch_exceptions_from_threads_in_their_scope() throws Exception {
+        ThreadGroup failingGroup = new ThreadGroup("failing");
+        ThreadGroup healthyGroup = new ThreadGroup("healthy");
+        AtomicBoolean healthyConditionFulfilled = new AtomicBoolean();
+        CountDownLatch bothAwaiting = new CountDownLatch(2);
+        ExecutorService testThreads = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> failingAwait = testThreads.submit(() -> {
+                bothAwaiting.countDown();
+                await().atMost(Duration.ofSeconds(3)).catchUncaughtExceptionsFrom(failingGroup).until(() -> false);
+            });
+            Future<?> healthyAwait = testThreads.submit(() -> {
+                bothAwaiting.countDown();
+                await().atMost(Duration.ofSeconds(3)).catchUncaughtExceptionsFrom(healthyGroup).untilTrue(healthyConditionFulfilled);
+            });
+            bothAwaiting.await();
+            Thread.sleep(200);
+
+            throwFrom(failingGroup, new IllegalStateException("Illegal state!"));
+            try {
+                failingAwait.get(2, TimeUnit.SECONDS);
+                fail("Expected IllegalStateException");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            }
+            healthyConditionFulfilled.set(true);
+            healthyAwait.get(2, TimeUnit.SECONDS);
+        } finally {
+            testThreads.shutdownNow();
+        }
+        // Exceptions that are caught by an await statement are not delegated to the original default handler
+        assertThat(exceptionsReceivedByOriginalHandler, empty());
+    }
+
+    @Test(timeout = 5000L)
+    public void exceptions_from_threads_outside_the_scope_are_delegated_to_the_original_default_handler() throws Exception {
+        Thread otherThread = new Thread(() -> {
+        });
+        AtomicBoolean thrown = new AtomicBoolean();
+
+        await().atMost(Duration.ofSeconds(2)).catchUncaughtExceptionsFrom(otherThread).until(() -> {
+            if (thrown.compareAndSet(false, true)) {
+                throwFrom(new ThreadGroup("unrelated"), new IllegalStateException("Illegal state!"));
+            }
+            return !exceptionsReceivedByOriginalHandler.isEmpty();
+        });
+
+        assertThat(exceptionsReceivedByOriginalHandler, hasSize(1));
+    }
+
+    @Test(timeout = 5000L)
+    public void exceptions_from_threads_in_the_scope_fail_the_await_statement() throws Exception {
+        Thread thread = new Thread(() -> {
+            sleep(200);
+            throw new IllegalStateException("Illegal state!");
+        });
+
+        try {
+            await().atMost(Duration.ofSeconds(2)).catchUncaughtExceptionsFrom(thread).until(() -> {
+                if (thread.getState() == Thread.State.NEW) {
+                    thread.start();
+                }
+                return false;
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("Illegal state!"));
+        }
+        // The exception has been handled once the thread has terminated
+        thread.join();
+        assertThat(exceptionsReceivedByOriginalHandler, empty());
+    }
+
+    @Test(timeout = 5000L)
+    public void dispatcher_stays_installed_until_reset() {
+        await().atMost(Duration.ofSeconds(1)).until(() -> true);
+        assertThat(Thread.getDefaultUncaughtExceptionHandler(), not(sameInstance(originalHandler)));
+
+        Awaitility.reset();
+
+        assertThat(Thread.getDefaultUncaughtExceptionHandler(), sameInstance(originalHandler));
+    }
+
+    @Test(timeout = 5000L)
+    public void default_handler_that_replaces_the_dispatcher_receives_the_exceptions_that_are_not_caught() throws Exception {
+        List<Throwable> exceptionsReceivedByReplacingHandler = new CopyOnWriteArrayList<>();
+        Thread.UncaughtExceptionHandler replacingHandler = (thread, throwable) -> exceptionsReceivedByReplacingHandler.add(throwable);
+        await().atMost(Duration.ofSeconds(1)).until(() -> true);
+        Thread.setDefaultUncaughtExceptionHandler(replacingHandler);
+        AtomicBoolean thrown = new AtomicBoolean();
+
+        await().atMost(Duration.ofSeconds(2)).catchUncaughtExceptionsFrom(new Thread(() -> {
+        })).until(() -> {
+            if (thrown.compareAndSet(false, true)) {
+                throwFrom(new ThreadGroup("unrelated"), new IllegalStateException("Illegal state!"));
+            }
+            return !exceptionsReceivedByReplacingHandler.isEmpty();
+        });
+        Awaitility.reset();
+
+        assertThat(exceptionsReceivedByOriginalHandler, empty());
+        assertThat(Thread.getDefaultUncaughtExceptionHandler(), sameInstance(replacingHandler));
+    }
+
+    @Test(timeout = 5000L)
+    public void reset_restores_the_original_default_handler_when_an_await_statement_never_completes() throws Exception {
+        CountDownLatch awaitStarted = new CountDownLatch(1);
+        AtomicBoolean stopAbandonedAwait = new AtomicBoolean();
+        Thread abandonedAwait = new Thread(() -> await().forever().until(() -> {
+            awaitStarted.countDown();
+            return stopAbandonedAwait.get();
+        }));
+        abandonedAwait.setDaemon(true);
+        abandonedAwait.start();
+        try {
+            awaitStarted.await();
+            assertThat(Thread.getDefaultUncaughtExceptionHandler(), not(sameInstance(originalHandler)));
+
+            Awaitility.reset();
+
+            assertThat(Thread.getDefaultUncaughtExceptionHandler(), sameInstance(originalHandler));
+            throwFrom(new ThreadGroup("unrelated"), new IllegalStateException("Illegal state!"));
+            await().dontCatchUncaughtExceptions().atMost(Duration.ofSeconds(1)).until(() -> exceptionsReceivedByOriginalHandler.size() == 1);
+        } finally {
+            stopAbandonedAwait.set(true);
+            abandonedAwait.join();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thread_group_scope_cannot_be_null() {
+        await().catchUncaughtExceptionsFrom((ThreadGroup) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thread_scope_cannot_be_empty() {
+        await().catchUncaughtExceptionsFrom(new Thread[0]);
+    }
+
+    private static void throwFrom(ThreadGroup threadGroup, RuntimeException exception) {
+        new Thread(threadGroup, () -> {
+            throw exception;
+        }).start();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.clock;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class VirtualClockTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test public void
+    sleeping_advances_the_virtual_time_instantly() {
+        // Given
+        VirtualClock clock = new VirtualClock(START);
+        Clock javaClock = clock.asClock();
+
+        // When
+        clock.sleep(Duration.ofMinutes(5).toNanos());
+        clock.advance(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(javaClock.instant(), is(START.plus(Duration.ofMinutes(5)).plusSeconds(1)));
+        assertThat(clock.nanoTime(), is(START.plusSeconds(301).toEpochMilli() * 1_000_000L));
+    }
+
+    @Test(timeout = 2000L) public void
+    waits_for_the_system_under_test_on_virtual_time() {
+        // Given
+        VirtualClock clock = new VirtualClock(START);
+        Clock javaClock = clock.asClock();
+        Instant expiresAt = START.plus(Duration.ofMinutes(5));
+
+        // When
+        await().clock(clock).atMost(Duration.ofMinutes(10)).pollInterval(Duration.ofSeconds(1)).until(() -> !javaClock.instant().isBefore(expiresAt));
+
+        // Then
+        assertThat(clock.instant(), allOf(greaterThanOrEqualTo(expiresAt), lessThan(expiresAt.plusSeconds(2))));
+    }
+
+    @Test(timeout = 2000L) public void
+    times_out_on_virtual_time() {
+        // Given
+        VirtualClock clock = new VirtualClock(START);
+
+        // When
+        try {
+            await().clock(clock).atMost(Duration.ofMinutes(10)).pollInterval(Duration.ofSeconds(10)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException e) {
+            // Then
+            assertThat(e.getMessage(), endsWith("within 10 minutes."));
+            assertThat(clock.instant(), greaterThanOrEqualTo(START.plus(Duration.ofMinutes(10))));
+        }
+    }
+
+    @Test(timeout = 2000L) public void
+    hold_predicate_time_is_measured_on_virtual_time() {
+        // Given
+        VirtualClock clock = new VirtualClock(START);
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        await().clock(clock).during(Duration.ofMinutes(2)).atMost(Duration.ofMinutes(3)).pollInterval(Duration.ofSeconds(10))
+                .until(() -> evaluations.incrementAndGet() > 0);
+
+        // Then
+        assertThat(evaluations.get(), greaterThanOrEqualTo(12));
+        assertThat(clock.instant(), greaterThanOrEqualTo(START.plus(Duration.ofMinutes(2))));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    virtual_clock_cannot_be_combined_with_pipelined_evaluations() {
+        await().clock(new VirtualClock()).pipelinedEvaluations(2).until(() -> true);
+    }
+}
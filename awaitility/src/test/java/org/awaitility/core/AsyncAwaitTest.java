@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+import org.awaitility.Awaitility;
+import org.awaitility.clock.Ticker;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+public class AsyncAwaitTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final Ticker ticker = nanoTime::get;
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test public void
+    completes_when_the_condition_is_fulfilled_and_notifies_the_listener() {
+        // Given
+        List<String> events = new CopyOnWriteArrayList<>();
+        ConditionFactory factory = await("counter").atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(100))
+                .conditionEvaluationListener(new ConditionEvaluationListener<Object>() {
+                    @Override
+                    public void beforeEvaluation(StartEvaluationEvent<Object> startEvaluationEvent) {
+                        events.add("start");
+                    }
+
+                    @Override
+                    public void conditionEvaluated(EvaluatedCondition<Object> condition) {
+                        events.add("evaluated " + condition.getValue() + " " + condition.isSatisfied());
+                    }
+
+                    @Override
+                    public void onCompleted(CompletedEvent completedEvent) {
+                        events.add("completed after " + completedEvent.getPollCount() + " polls in " + completedEvent.getElapsedTimeInMS() + " ms");
+                    }
+                });
+
+        // When
+        int polls = poll(AsyncAwait.start(factory.getConditionSettings(), ticker), count -> count == 3);
+
+        // Then
+        assertThat(polls).isEqualTo(3);
+        assertThat(events).containsExactly("start", "evaluated 1 false", "evaluated 2 false", "evaluated 3 true", "completed after 3 polls in 300 ms");
+    }
+
+    @Test public void
+    times_out_with_the_last_mismatch() {
+        // Given
+        ConditionFactory factory = await("counter").atMost(Duration.ofMillis(500)).pollInterval(Duration.ofMillis(100));
+
+        // When
+        Throwable throwable = catchThrowable(() -> poll(AsyncAwait.start(factory.getConditionSettings(), ticker), count -> false));
+
+        // Then
+        assertThat(throwable).isExactlyInstanceOf(ConditionTimeoutException.class)
+                .hasMessage("Condition with alias 'counter' didn't complete within 500 milliseconds because count was 4.");
+    }
+
+    @Test public void
+    fails_when_the_fail_fast_condition_is_fulfilled() {
+        // Given
+        AtomicInteger evaluations = new AtomicInteger();
+        ConditionFactory factory = await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(100))
+                .failFast("Gave up", () -> evaluations.get() == 2);
+
+        // When
+        Throwable throwable = catchThrowable(() -> poll(AsyncAwait.start(factory.getConditionSettings(), ticker), count -> evaluations.incrementAndGet() == 5));
+
+        // Then
+        assertThat(throwable).isExactlyInstanceOf(TerminalFailureException.class).hasMessage("Gave up");
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test public void
+    fails_when_the_evaluation_budget_is_exceeded() {
+        // Given
+        ConditionFactory factory = await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(100)).maxEvaluations(2);
+
+        // When
+        Throwable throwable = catchThrowable(() -> poll(AsyncAwait.start(factory.getConditionSettings(), ticker), count -> false));
+
+        // Then
+        assertThat(throwable).isExactlyInstanceOf(EvaluationBudgetExceededException.class).hasMessageStartingWith("Count was 2 within its evaluation budget");
+        assertThat(((EvaluationBudgetExceededException) throwable).getEvaluations()).isEqualTo(2);
+    }
+
+    @Test public void
+    timeout_is_capped_by_the_enclosing_await_budget() {
+        // Given
+        ConditionFactory factory = await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(100));
+        AwaitBudget budget = AwaitBudget.of(Duration.ofMillis(300), ticker);
+
+        // When
+        Throwable throwable;
+        try (AwaitBudget.Scope ignored = budget.bind()) {
+            throwable = catchThrowable(() -> poll(AsyncAwait.start(factory.getConditionSettings(), ticker), count -> false));
+        }
+
+        // Then
+        assertThat(throwable).isExactlyInstanceOf(ConditionTimeoutException.class)
+                .hasMessage("Count was 2 within 300 milliseconds, the time that remained of the await budget of 300 milliseconds.");
+    }
+
+    @Test public void
+    evaluation_that_times_out_is_treated_as_an_ignored_exception() {
+        // Given
+        ConditionFactory factory = await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(100)).evaluationTimeout(Duration.ofMillis(50));
+        AsyncAwait asyncAwait = AsyncAwait.start(factory.getConditionSettings(), ticker);
+
+        // When
+        Duration evaluationTimeLimit = asyncAwait.beginEvaluation();
+        nanoTime.addAndGet(evaluationTimeLimit.toNanos());
+        Duration nextPoll = asyncAwait.evaluationTimedOut();
+
+        // Then
+        assertThat(evaluationTimeLimit).isEqualTo(Duration.ofMillis(50));
+        assertThat(nextPoll).isEqualTo(Duration.ofMillis(100));
+        asyncAwait.cancel();
+    }
+
+    @Test public void
+    rejects_settings_that_are_not_supported() {
+        // When
+        Throwable throwable = catchThrowable(() -> AsyncAwait.start(await().profiling().getConditionSettings(), ticker));
+
+        // Then
+        assertThat(throwable).isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Profiling is not supported when the condition is awaited without blocking a thread");
+    }
+
+    /**
+     * Poll the count of evaluations until <code>predicate</code> matches it, letting the time of the ticker pass instead of sleeping.
+     *
+     * @return The count of evaluations when the condition was fulfilled
+     */
+    private int poll(AsyncAwait asyncAwait, IntPredicate predicate) {
+        int count = 0;
+        Duration delay = asyncAwait.getPollDelay();
+        while (delay != null) {
+            nanoTime.addAndGet(delay.toNanos());
+            asyncAwait.beginEvaluation();
+            count++;
+            boolean satisfied = predicate.test(count);
+            delay = asyncAwait.conditionEvaluated(satisfied, count, "Count was " + count);
+        }
+        return count;
+    }
+}
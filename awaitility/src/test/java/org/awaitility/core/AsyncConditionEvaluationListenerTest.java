@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.AsyncConditionEvaluationListener.OverflowPolicy;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.core.AsyncConditionEvaluationListener.async;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AsyncConditionEvaluationListenerTest {
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000)
+    public void delivers_events_to_the_delegate_listener_from_a_background_thread() {
+        CopyOnWriteArrayList<String> threads = new CopyOnWriteArrayList<>();
+        CopyOnWriteArrayList<String> logs = new CopyOnWriteArrayList<>();
+        AsyncConditionEvaluationListener<Object> listener = async(new ConditionEvaluationLogger(log -> {
+            threads.add(Thread.currentThread().getName());
+            logs.add(log);
+        }));
+        AtomicInteger counter = new AtomicInteger();
+
+        await().conditionEvaluationListener(listener).pollInterval(Duration.ofMillis(10)).until(counter::incrementAndGet, is(3));
+
+        assertThat(listener.flush(Duration.ofSeconds(1)), is(true));
+        assertThat(logs, contains(equalTo("Starting evaluation"), containsString("expected <3> but was <1>"),
+                containsString("expected <3> but was <2>"), containsString("reached its end value of <3>")));
+        assertThat(threads, everyItem(equalTo("awaitility-listener-dispatcher")));
+    }
+
+    @Test(timeout = 2000)
+    public void slow_listener_does_not_delay_condition_evaluations() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncConditionEvaluationListener<Object> listener = async(condition -> awaitUninterruptibly(release));
+        AtomicInteger counter = new AtomicInteger();
+
+        try {
+            await().conditionEvaluationListener(listener).pollInterval(Duration.ofMillis(1)).atMost(Duration.ofMillis(500)).until(counter::incrementAndGet, is(10));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(listener.flush(Duration.ofSeconds(1)), is(true));
+    }
+
+    @Test(timeout = 2000)
+    public void drop_policy_drops_events_when_the_buffer_is_full() {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncConditionEvaluationListener<Object> listener = async(condition -> awaitUninterruptibly(release)).with().capacity(2).and().overflowPolicy(OverflowPolicy.DROP);
+
+        for (int i = 0; i < 10; i++) {
+            listener.conditionEvaluated(null);
+        }
+        release.countDown();
+
+        assertThat(listener.flush(Duration.ofSeconds(1)), is(true));
+        assertThat(listener.getDroppedEvents(), allOf(greaterThanOrEqualTo(7L), lessThanOrEqualTo(8L)));
+    }
+
+    @Test(timeout = 5000)
+    public void block_policy_delivers_all_events_from_concurrent_producers() throws InterruptedException {
+        AtomicInteger deliveredEvents = new AtomicInteger();
+        AsyncConditionEvaluationListener<Object> listener = async(condition -> deliveredEvents.incrementAndGet()).with().capacity(8).and().overflowPolicy(OverflowPolicy.BLOCK);
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    listener.conditionEvaluated(null);
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertThat(listener.flush(Duration.ofSeconds(2)), is(true));
+        assertThat(deliveredEvents.get(), is(40_000));
+        assertThat(listener.getDroppedEvents(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacity_must_be_greater_than_zero() {
+        async(condition -> {
+        }).capacity(0);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
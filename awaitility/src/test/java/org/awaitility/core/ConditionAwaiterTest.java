@@ -1,6 +1,7 @@
 
 package org.awaitility.core;
 
+import org.awaitility.Awaitility;
 import org.junit.Test;
 
 import java.time.Duration;
@@ -47,6 +48,8 @@ public class ConditionAwaiterTest {
             return count.get() > 1;
         });
 
+        // The dispatcher that Awaitility installs stays in place until Awaitility is reset
+        Awaitility.reset();
         assertThat(Thread.getDefaultUncaughtExceptionHandler(), is(originalUncaughtExceptionHandler));
     }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.core;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class InFlightAwaitTest {
+
+    private final AtomicInteger descriptions = new AtomicInteger();
+    private final InFlightAwait inFlightAwait = AwaitRegistry.getInstance().awaitStarted("in-flight", () -> "call site", Duration.ofSeconds(1),
+            Duration.ofMillis(100), () -> "mismatch " + descriptions.incrementAndGet());
+
+    @After
+    public void complete() {
+        AwaitRegistry.getInstance().awaitCompleted(inFlightAwait);
+    }
+
+    @Test
+    public void doesnt_describe_the_mismatch_unless_the_registry_is_queried() {
+        inFlightAwait.conditionEvaluated(1, Duration.ofMillis(100), false);
+        inFlightAwait.conditionEvaluated(2, Duration.ofMillis(100), false);
+
+        assertThat(descriptions.get(), is(0));
+    }
+
+    @Test
+    public void describes_the_mismatch_once_after_each_query() {
+        inFlightAwait.conditionEvaluated(1, Duration.ofMillis(100), false);
+        assertThat(inFlightAwait.snapshot().getLastMismatchMessage(), nullValue());
+
+        inFlightAwait.conditionEvaluated(2, Duration.ofMillis(100), false);
+        inFlightAwait.conditionEvaluated(3, Duration.ofMillis(100), false);
+
+        assertThat(descriptions.get(), is(1));
+        assertThat(inFlightAwait.snapshot().getLastMismatchMessage(), is("mismatch 1"));
+    }
+
+    @Test
+    public void doesnt_describe_the_mismatch_when_the_condition_is_satisfied() {
+        inFlightAwait.snapshot();
+
+        inFlightAwait.conditionEvaluated(1, Duration.ofMillis(100), true);
+
+        assertThat(descriptions.get(), is(0));
+    }
+}
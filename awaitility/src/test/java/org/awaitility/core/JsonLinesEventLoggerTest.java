@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility.core;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class JsonLinesEventLoggerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000)
+    public void writes_one_json_object_per_event() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+        AtomicInteger counter = new AtomicInteger();
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file)) {
+            await("counter").conditionEvaluationListener(logger).ignoreExceptions().pollInterval(Duration.ofMillis(10)).until(() -> {
+                if (counter.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Not \"ready\"");
+                }
+                return counter.get() == 3;
+            });
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines, contains(startsWith("{\"event\":\"start\",\"alias\":\"counter\""), startsWith("{\"event\":\"ignoredException\""),
+                startsWith("{\"event\":\"evaluation\""), startsWith("{\"event\":\"evaluation\""), startsWith("{\"event\":\"completed\"")));
+        assertThat(lines.get(1), containsString("\"exception\":\"java.lang.IllegalStateException\",\"message\":\"Not \\\"ready\\\"\""));
+        assertThat(lines.get(2), allOf(containsString("\"satisfied\":false"), containsString("\"evaluationNanos\":")));
+        assertThat(lines.get(3), allOf(containsString("\"satisfied\":true"), containsString("\"pollIntervalNanos\":10000000"), containsString("\"evaluationNanos\":")));
+        assertThat(lines.get(4), containsString("\"pollCount\":3"));
+        assertThat(lines, everyItem(allOf(containsString("\"nanoTime\":"), containsString("\"elapsedNanos\":"), containsString("\"remainingNanos\":"), endsWith("}"))));
+        // The call site is not the test method since it's in an Awaitility package
+        assertThat(lines, everyItem(allOf(containsString("\"callSite\":\""), containsString("\"awaitId\":"))));
+    }
+
+    @Test(timeout = 2000)
+    public void events_of_each_await_statement_have_their_own_await_id() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file)) {
+            await().conditionEvaluationListener(logger).pollDelay(Duration.ZERO).until(() -> true);
+            await().conditionEvaluationListener(logger).pollDelay(Duration.ZERO).until(() -> true);
+        }
+
+        List<String> awaitIds = Files.readAllLines(file).stream()
+                .map(line -> line.replaceAll(".*\"awaitId\":(\\d+).*", "$1"))
+                .collect(Collectors.toList());
+        assertThat(awaitIds, hasSize(6));
+        assertThat(awaitIds.subList(0, 3), everyItem(equalTo(awaitIds.get(0))));
+        assertThat(awaitIds.subList(3, 6), everyItem(equalTo(awaitIds.get(3))));
+        assertThat(awaitIds.get(0), not(equalTo(awaitIds.get(3))));
+    }
+
+    @Test(timeout = 2000)
+    public void writer_thread_waits_until_there_are_lines_to_write() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file)) {
+            await().conditionEvaluationListener(logger).pollDelay(Duration.ZERO).until(() -> true);
+
+            await().until(() -> Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("awaitility-event-log-writer"))
+                    .allMatch(thread -> thread.getState() == Thread.State.WAITING));
+        }
+
+        assertThat(Files.readAllLines(file), hasSize(3));
+    }
+
+    @Test(timeout = 2000)
+    public void writes_timeout_event() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file)) {
+            await().conditionEvaluationListener(logger).atMost(Duration.ofMillis(200)).until(() -> false);
+            fail("Expected " + ConditionTimeoutException.class.getSimpleName());
+        } catch (ConditionTimeoutException expected) {
+            // expected
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines.get(lines.size() - 1), allOf(startsWith("{\"event\":\"timeout\",\"alias\":null"), containsString("\"conditionSatisfied\":false")));
+        assertThat(lines, everyItem(not(containsString("\"event\":\"completed\""))));
+    }
+
+    @Test(timeout = 2000)
+    public void writes_a_single_completed_event_when_the_condition_is_satisfied() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file)) {
+            await().conditionEvaluationListener(logger).pollDelay(Duration.ZERO).during(Duration.ofMillis(50)).atMost(Duration.ofSeconds(1)).until(() -> true);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines.stream().filter(line -> line.contains("\"satisfied\":true")).count(), greaterThan(1L));
+        assertThat(lines.stream().filter(line -> line.startsWith("{\"event\":\"completed\"")).count(), is(1L));
+        assertThat(lines.get(lines.size() - 1), startsWith("{\"event\":\"completed\""));
+    }
+
+    @Test(timeout = 5000)
+    public void rotates_the_file_when_it_exceeds_the_max_file_size() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("events.jsonl");
+        AtomicInteger counter = new AtomicInteger();
+
+        try (JsonLinesEventLogger logger = new JsonLinesEventLogger(file, 1024, 2)) {
+            await().conditionEvaluationListener(logger).pollInterval(Duration.ofMillis(1)).until(counter::incrementAndGet, is(100));
+        }
+
+        assertThat(Files.exists(file), is(true));
+        assertThat(Files.exists(file.resolveSibling("events.jsonl.1")), is(true));
+        assertThat(Files.exists(file.resolveSibling("events.jsonl.2")), is(true));
+        assertThat(Files.exists(file.resolveSibling("events.jsonl.3")), is(false));
+        assertThat(Files.size(file.resolveSibling("events.jsonl.1")), greaterThanOrEqualTo(1024L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void max_file_size_must_be_greater_than_zero() {
+        new JsonLinesEventLogger(temporaryFolder.getRoot().toPath().resolve("events.jsonl"), 0, 1);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+public class DefaultAwaitilityMetricsTest {
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 2000L) public void
+    records_polls_ignored_exceptions_and_time_to_satisfaction_per_alias() {
+        // Given
+        DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        await("alias").metrics(metrics).pollInterval(Duration.ofMillis(10)).ignoreExceptions().until(() -> {
+            if (evaluations.incrementAndGet() < 3) {
+                throw new IllegalStateException("Not yet");
+            }
+            return true;
+        });
+
+        // Then
+        AwaitMetrics awaitMetrics = metrics.getMetrics("alias");
+        assertThat(awaitMetrics.getSatisfiedAwaits()).isEqualTo(1);
+        assertThat(awaitMetrics.getPolls()).isEqualTo(3);
+        assertThat(awaitMetrics.getIgnoredExceptions()).isEqualTo(2);
+        assertThat(awaitMetrics.getTimeToSatisfaction().getCount()).isEqualTo(1);
+        assertThat(awaitMetrics.getEvaluationDuration().getCount()).isEqualTo(3);
+    }
+
+    @Test(timeout = 2000L) public void
+    records_timeouts_by_call_site_when_no_alias_is_defined() {
+        // Given
+        DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create();
+        Awaitility.setDefaultMetrics(metrics);
+
+        // When
+        Throwable throwable = catchThrowable(() -> await().atMost(Duration.ofMillis(200)).pollDelay(Duration.ZERO).until(() -> false));
+
+        // Then
+        assertThat(throwable).isInstanceOf(ConditionTimeoutException.class);
+        assertThat(metrics.getAllMetrics()).hasSize(1);
+        AwaitMetrics awaitMetrics = metrics.getAllMetrics().iterator().next();
+        assertThat(awaitMetrics.getName()).startsWith(DefaultAwaitilityMetricsTest.class.getName() + ".lambda$");
+        assertThat(awaitMetrics.getTimedOutAwaits()).isEqualTo(1);
+        assertThat(awaitMetrics.getTimedOutWaitNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(awaitMetrics.getSatisfiedAwaits()).isZero();
+    }
+
+    @Test(timeout = 2000L) public void
+    doesnt_resolve_the_call_site_for_metrics_that_dont_use_the_name() {
+        // Given
+        List<String> names = new CopyOnWriteArrayList<>();
+        AwaitilityMetrics metrics = new AwaitilityMetrics() {
+            @Override
+            public void awaitSatisfied(String name, Duration timeToSatisfaction, int pollCount) {
+                names.add(String.valueOf(name));
+            }
+
+            @Override
+            public void awaitTimedOut(String name, Duration elapsed, int pollCount) {
+            }
+
+            @Override
+            public void conditionEvaluated(String name, long evaluationDuration) {
+                names.add(String.valueOf(name));
+            }
+
+            @Override
+            public void exceptionIgnored(String name) {
+            }
+
+            @Override
+            public boolean usesName() {
+                return false;
+            }
+        };
+
+        // When
+        await().metrics(metrics).pollDelay(Duration.ZERO).until(() -> true);
+        await("alias").metrics(metrics).pollDelay(Duration.ZERO).until(() -> true);
+
+        // Then
+        assertThat(names).containsExactly("null", "null", "alias", "alias");
+    }
+
+    @Test(timeout = 2000L) public void
+    exports_metrics_in_prometheus_text_format() {
+        // Given
+        DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create();
+        await("my \"alias\"").metrics(metrics).pollDelay(Duration.ZERO).until(() -> true);
+
+        // When
+        String exported = PrometheusTextExporter.export(metrics);
+
+        // Then
+        assertThat(exported).contains(
+                "# TYPE awaitility_time_to_satisfaction_seconds histogram",
+                "awaitility_awaits_satisfied_total{await=\"my \\\"alias\\\"\"} 1",
+                "awaitility_time_to_satisfaction_seconds_bucket{await=\"my \\\"alias\\\"\",le=\"+Inf\"} 1",
+                "awaitility_time_to_satisfaction_seconds_count{await=\"my \\\"alias\\\"\"} 1");
+    }
+
+    @Test public void
+    exporting_to_the_same_file_twice_only_exports_once() {
+        // Given
+        DefaultAwaitilityMetrics metrics = DefaultAwaitilityMetrics.create();
+
+        // When
+        metrics.exportOnExit(Paths.get("target/awaitility-metrics.prom"));
+        metrics.exportOnExit(Paths.get("target/../target/awaitility-metrics.prom"));
+        metrics.exportOnExit(Paths.get("target/other-awaitility-metrics.prom"));
+
+        // Then
+        assertThat(metrics.getExportTargets()).containsExactly(
+                Paths.get("target/awaitility-metrics.prom").toAbsolutePath(), Paths.get("target/other-awaitility-metrics.prom").toAbsolutePath());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.metrics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogBucketHistogramTest {
+
+    @Test public void
+    bucket_bounds_contain_the_recorded_value() {
+        for (long value : new long[]{0, 1, 3, 4, 5, 7, 8, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucketIndex = LogBucketHistogram.bucketIndex(value);
+
+            assertThat(LogBucketHistogram.bucketLowerBound(bucketIndex)).isLessThanOrEqualTo(value);
+            assertThat(LogBucketHistogram.bucketUpperBound(bucketIndex)).isGreaterThanOrEqualTo(value);
+        }
+    }
+
+    @Test public void
+    percentiles_are_within_the_relative_error_of_the_buckets() {
+        // Given
+        LogBucketHistogram histogram = new LogBucketHistogram();
+
+        // When
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        // Then
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getSum()).isEqualTo(500_500);
+        assertThat(histogram.getMax()).isEqualTo(1000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(500L, 625L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1000);
+    }
+
+    @Test public void
+    empty_histogram_has_zero_percentiles() {
+        assertThat(new LogBucketHistogram().getValueAtPercentile(99)).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.pollinterval;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.pollinterval.FastStartPollInterval.fastStart;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class FastStartPollIntervalTest {
+
+    @After
+    public void reset() {
+        Awaitility.reset();
+    }
+
+    @Test public void
+    uses_burst_interval_during_the_burst() {
+        // Given
+        FastStartPollInterval pollInterval = fastStart();
+
+        // When
+        Duration first = pollInterval.next(1, Duration.ZERO);
+        Duration last = pollInterval.next(10, first);
+
+        // Then
+        assertThat(first, is(Duration.ofMillis(2)));
+        assertThat(last, is(Duration.ofMillis(2)));
+    }
+
+    @Test public void
+    backs_off_geometrically_after_the_burst() {
+        // Given
+        FastStartPollInterval pollInterval = fastStart();
+
+        // When
+        Duration eleventh = pollInterval.next(11, Duration.ofMillis(2));
+        Duration twelfth = pollInterval.next(12, eleventh);
+
+        // Then
+        assertThat(eleventh, is(Duration.ofMillis(4)));
+        assertThat(twelfth, is(Duration.ofMillis(8)));
+    }
+
+    @Test public void
+    backoff_is_capped_by_max_interval() {
+        // Given
+        FastStartPollInterval pollInterval = fastStart().with().maxInterval(Duration.ofMillis(50));
+
+        // When
+        Duration next = pollInterval.next(Integer.MAX_VALUE, Duration.ofMillis(50));
+
+        // Then
+        assertThat(next, is(Duration.ofMillis(50)));
+    }
+
+    @Test public void
+    backoff_factor_of_one_keeps_the_burst_interval() {
+        // Given
+        FastStartPollInterval pollInterval = fastStart().with().burstCount(0).and().backoffFactor(1.0d);
+
+        // When
+        Duration next = pollInterval.next(100, Duration.ofMillis(2));
+
+        // Then
+        assertThat(next, is(Duration.ofMillis(2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    backoff_factor_less_than_one_is_not_allowed() {
+        fastStart().backoffFactor(0.5d);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    zero_burst_interval_is_not_allowed() {
+        fastStart().burstInterval(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    negative_burst_interval_is_not_allowed() {
+        new FastStartPollInterval(Duration.ofMillis(-1), 10, 2.0d, Duration.ofMillis(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    max_interval_less_than_burst_interval_is_not_allowed() {
+        fastStart().burstInterval(Duration.ofMillis(10)).maxInterval(Duration.ofMillis(5));
+    }
+
+    @Test(timeout = 2000L) public void
+    evaluates_condition_immediately_when_set_as_default_poll_interval() {
+        // Given
+        Awaitility.setDefaultPollInterval(fastStart());
+        AtomicInteger evaluations = new AtomicInteger();
+        long start = System.nanoTime();
+
+        // When
+        await().until(() -> evaluations.incrementAndGet() > 0);
+
+        // Then
+        assertThat(evaluations.get(), is(1));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(100)), lessThan(0));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.awaitility.pollinterval;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PhaseLockedPollIntervalTest {
+
+    private static final Duration PERIOD = Duration.ofMillis(100);
+    private static final Duration LAG = Duration.ofMillis(5);
+    private static final Duration SEARCH_INTERVAL = Duration.ofMillis(10);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test public void
+    uses_search_interval_until_a_change_is_detected() {
+        // Given
+        PhaseLockedPollInterval pollInterval = newPollInterval();
+        pollInterval.valueObserved(1);
+        advance(10);
+        pollInterval.valueObserved(1);
+
+        // When
+        Duration next = pollInterval.next(2, SEARCH_INTERVAL);
+
+        // Then
+        assertThat(next, is(SEARCH_INTERVAL));
+    }
+
+    @Test public void
+    polls_lag_after_next_expected_update_once_a_change_is_detected() {
+        // Given
+        PhaseLockedPollInterval pollInterval = newPollInterval();
+        pollInterval.valueObserved(1);
+        advance(10);
+        pollInterval.valueObserved(2);
+
+        // When
+        Duration next = pollInterval.next(2, SEARCH_INTERVAL);
+
+        // Then
+        assertThat(next, is(PERIOD.plus(LAG)));
+    }
+
+    @Test public void
+    keeps_the_phase_when_the_update_arrives_as_expected() {
+        // Given
+        PhaseLockedPollInterval pollInterval = newPollInterval();
+        pollInterval.valueObserved(1);
+        advance(10);
+        pollInterval.valueObserved(2);
+        // Oversleeping 2 ms should not make the phase drift
+        advance(107);
+        pollInterval.valueObserved(3);
+
+        // When
+        Duration next = pollInterval.next(3, PERIOD);
+
+        // Then
+        assertThat(next, is(Duration.ofMillis(98)));
+    }
+
+    @Test public void
+    falls_back_to_search_interval_when_an_expected_update_is_missing() {
+        // Given
+        PhaseLockedPollInterval pollInterval = newPollInterval();
+        pollInterval.valueObserved(1);
+        advance(10);
+        pollInterval.valueObserved(2);
+        advance(105);
+        pollInterval.valueObserved(2);
+
+        // When
+        Duration next = pollInterval.next(3, PERIOD);
+
+        // Then
+        assertThat(next, is(SEARCH_INTERVAL));
+    }
+
+    @Test public void
+    change_detector_is_used_instead_of_condition_value_when_defined() {
+        // Given
+        AtomicLong heartbeat = new AtomicLong();
+        PhaseLockedPollInterval pollInterval = newPollInterval().changeDetector(heartbeat::get);
+        pollInterval.next(1, Duration.ZERO);
+        heartbeat.incrementAndGet();
+        advance(10);
+        pollInterval.valueObserved("ignored");
+
+        // When
+        Duration next = pollInterval.next(2, SEARCH_INTERVAL);
+
+        // Then
+        assertThat(next, is(PERIOD.plus(LAG)));
+    }
+
+    @Test public void
+    start_returns_a_poll_interval_without_previous_state() {
+        // Given
+        PhaseLockedPollInterval pollInterval = newPollInterval();
+        pollInterval.valueObserved(1);
+        advance(10);
+        pollInterval.valueObserved(2);
+
+        // When
+        PhaseLockedPollInterval started = pollInterval.start();
+
+        // Then
+        assertThat(started.next(1, Duration.ZERO), is(SEARCH_INTERVAL));
+        assertThat(pollInterval.next(1, Duration.ZERO), is(PERIOD.plus(LAG)));
+    }
+
+    @Test(timeout = 3000L) public void
+    detects_periodic_updates_when_used_in_await() {
+        // Given
+        long start = System.currentTimeMillis();
+
+        // When
+        long result = await().pollInterval(PhaseLockedPollInterval.phaseLocked(PERIOD))
+                .until(() -> (System.currentTimeMillis() - start) / PERIOD.toMillis(), value -> value >= 5);
+
+        // Then
+        assertThat(result, greaterThanOrEqualTo(5L));
+    }
+
+    private PhaseLockedPollInterval newPollInterval() {
+        return new PhaseLockedPollInterval(PERIOD, LAG, SEARCH_INTERVAL, null, now::get);
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(Duration.ofMillis(millis).toNanos());
+    }
+}
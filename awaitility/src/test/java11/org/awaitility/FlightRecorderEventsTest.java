@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.awaitility;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs against the multi-release jar (see the multi-release profile) since the events are emitted by its Java 11 classes.
+ */
+public class FlightRecorderEventsTest {
+
+    @After
+    public void reset_awaitility_after_each_test() {
+        Awaitility.reset();
+    }
+
+    @Test(timeout = 10000L) public void
+    await_statements_emit_flight_recorder_events() throws Exception {
+        // Given
+        Path file = Files.createTempFile("awaitility", ".jfr");
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("org.awaitility.AwaitStarted");
+            recording.enable("org.awaitility.ConditionEvaluated");
+            recording.enable("org.awaitility.ExceptionIgnored");
+            recording.enable("org.awaitility.AwaitTimedOut");
+            recording.start();
+
+            await("satisfied").atMost(Duration.ofSeconds(2)).pollDelay(Duration.ZERO).pollInterval(Duration.ofMillis(10)).ignoreExceptions().until(() -> {
+                if (evaluations.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Not started");
+                }
+                return true;
+            });
+            Throwable timeout = catchThrowable(() -> await("timed out").atMost(Duration.ofMillis(200)).pollInterval(Duration.ofMillis(20)).until(() -> false));
+
+            recording.stop();
+            recording.dump(file);
+            assertThat(timeout).isInstanceOf(ConditionTimeoutException.class);
+        }
+
+        // Then
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            List<RecordedEvent> started = eventsOf(events, "org.awaitility.AwaitStarted");
+            assertThat(started).extracting(event -> event.getString("alias")).containsExactly("satisfied", "timed out");
+            assertThat(started.get(1).getDuration("maxWaitTime")).isEqualTo(Duration.ofMillis(200));
+            assertThat(started.get(1).getDuration("pollDelay")).isEqualTo(Duration.ofMillis(20));
+            assertThat(started.get(0).getString("callSite")).startsWith(FlightRecorderEventsTest.class.getName());
+
+            List<RecordedEvent> satisfiedEvaluations = eventsOf(events, "org.awaitility.ConditionEvaluated").stream()
+                    .filter(event -> "satisfied".equals(event.getString("alias")))
+                    .collect(Collectors.toList());
+            assertThat(satisfiedEvaluations).extracting(event -> event.getBoolean("satisfied")).containsExactly(false, true);
+            assertThat(satisfiedEvaluations.get(1).getDuration("pollInterval")).isEqualTo(Duration.ofMillis(10));
+
+            List<RecordedEvent> ignored = eventsOf(events, "org.awaitility.ExceptionIgnored");
+            assertThat(ignored).hasSize(1);
+            assertThat(ignored.get(0).getString("alias")).isEqualTo("satisfied");
+            assertThat(ignored.get(0).getClass("exceptionClass").getName()).isEqualTo(IllegalStateException.class.getName());
+            assertThat(ignored.get(0).getString("message")).isEqualTo("Not started");
+
+            List<RecordedEvent> timedOut = eventsOf(events, "org.awaitility.AwaitTimedOut");
+            assertThat(timedOut).hasSize(1);
+            assertThat(timedOut.get(0).getString("alias")).isEqualTo("timed out");
+            assertThat(timedOut.get(0).getDuration("elapsedTime")).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+            assertThat(timedOut.get(0).getBoolean("conditionSatisfied")).isFalse();
+            assertThat(timedOut.get(0).getString("message")).contains("timed out");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}